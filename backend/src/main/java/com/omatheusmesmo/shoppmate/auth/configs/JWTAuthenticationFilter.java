@@ -1,6 +1,7 @@
 package com.omatheusmesmo.shoppmate.auth.configs;
 
 import com.omatheusmesmo.shoppmate.auth.service.JwtService;
+import com.omatheusmesmo.shoppmate.shared.jfr.TokenDecryptEvent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -38,18 +39,25 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
 
         if ((authHeader != null) && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7);
+            TokenDecryptEvent event = new TokenDecryptEvent();
+            event.begin();
             try {
                 username = jwtService.decryptToken(token).getSubject();
             } catch (Exception e) {
                 logger.error("Failed to validate JWT Token ", e);
             }
+            commit(event, "decrypt", username != null);
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-                if (jwtService.validateToken(token)) {
+                TokenDecryptEvent event = new TokenDecryptEvent();
+                event.begin();
+                boolean valid = jwtService.validateToken(token);
+                commit(event, "validate", valid);
+                if (valid) {
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -65,6 +73,14 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
+    private static void commit(TokenDecryptEvent event, String operation, boolean valid) {
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setValid(valid);
+            event.commit();
+        }
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
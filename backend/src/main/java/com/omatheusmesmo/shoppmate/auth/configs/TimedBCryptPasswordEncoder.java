@@ -0,0 +1,25 @@
+package com.omatheusmesmo.shoppmate.auth.configs;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt is deliberately slow, so hashing on registration and matching on login are timed to keep their share of a
+ * request visible.
+ */
+class TimedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final String PASSWORD_TIMER = "password.encoder";
+
+    @Override
+    @Timed(value = PASSWORD_TIMER, extraTags = { "operation", "encode" })
+    public String encode(CharSequence rawPassword) {
+        return super.encode(rawPassword);
+    }
+
+    @Override
+    @Timed(value = PASSWORD_TIMER, extraTags = { "operation", "matches" })
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return super.matches(rawPassword, encodedPassword);
+    }
+}
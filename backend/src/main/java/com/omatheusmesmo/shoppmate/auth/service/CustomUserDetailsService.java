@@ -23,7 +23,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         if (user.isEmpty()) {
             throw new UsernameNotFoundException("User not found with email: " + email);
         }
-        return new org.springframework.security.core.userdetails.User(user.get().getEmail(), user.get().getPassword(),
+        return new AuthenticatedUser(user.get().getId(), user.get().getEmail(), user.get().getPassword(),
                 new ArrayList<>());
     }
 }
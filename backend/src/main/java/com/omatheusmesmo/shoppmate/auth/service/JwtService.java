@@ -10,6 +10,7 @@ import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jwt.EncryptedJWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,6 +30,7 @@ import java.util.UUID;
 public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
+    private static final String TOKEN_TIMER = "jwt.token";
 
     private final RSAPrivateKey privateKey;
     private final RSAPublicKey publicKey;
@@ -46,6 +48,7 @@ public class JwtService {
         this.decrypter = new RSADecrypter(privateKey);
     }
 
+    @Timed(value = TOKEN_TIMER, extraTags = { "operation", "encrypt" })
     public String generateToken(UserDetails userDetails) {
         return encryptToken(userDetails).serialize();
     }
@@ -61,6 +64,7 @@ public class JwtService {
         }
     }
 
+    @Timed(value = TOKEN_TIMER, extraTags = { "operation", "decrypt" })
     public boolean validateToken(String token) {
         try {
             JWTClaimsSet claims = decryptTokenInternal(token);
@@ -120,6 +124,7 @@ public class JwtService {
         }
     }
 
+    @Timed(value = TOKEN_TIMER, extraTags = { "operation", "decrypt" })
     public JWTClaimsSet decryptToken(String token) {
         try {
             EncryptedJWT encryptedJWT = EncryptedJWT.parse(token);
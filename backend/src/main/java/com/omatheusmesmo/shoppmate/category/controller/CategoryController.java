@@ -4,13 +4,16 @@ import com.omatheusmesmo.shoppmate.category.dto.CategoryRequestDTO;
 import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
 import com.omatheusmesmo.shoppmate.category.entity.Category;
 import com.omatheusmesmo.shoppmate.category.mapper.CategoryMapper;
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
 import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.utils.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -24,13 +27,27 @@ public class CategoryController {
     private CategoryService categoryService;
     @Autowired
     private CategoryMapper categoryMapper;
+    @Autowired
+    private CategoryRegistry categoryRegistry;
 
     @Operation(summary = "Return all categories")
     @GetMapping
-    public ResponseEntity<List<CategoryResponseDTO>> getAllCategories() {
-        List<Category> categories = categoryService.findAll();
-        List<CategoryResponseDTO> responseDTOS = categories.stream().map(categoryMapper::toResponseDTO).toList();
-        return ResponseEntity.ok(responseDTOS);
+    public ResponseEntity<List<CategoryResponseDTO>> getAllCategories(WebRequest request) {
+        String etag = categoryRegistry.etag();
+        if (request.checkNotModified(etag)) {
+            return HttpResponseUtil.notModified(etag);
+        }
+        return HttpResponseUtil.okRevalidated(categoryRegistry.findAll(), etag);
+    }
+
+    @Operation(summary = "Return the breadcrumb of a category", description = "Categories from the root of the tree down to the given one.")
+    @GetMapping("/{id}/path")
+    public ResponseEntity<List<CategoryResponseDTO>> getCategoryPath(@PathVariable Long id, WebRequest request) {
+        String etag = categoryRegistry.etag();
+        if (request.checkNotModified(etag)) {
+            return HttpResponseUtil.notModified(etag);
+        }
+        return HttpResponseUtil.okRevalidated(categoryRegistry.path(id), etag);
     }
 
     @Operation(summary = "Add a new category")
@@ -54,12 +71,13 @@ public class CategoryController {
         categoryService.removeCategory(id);
     }
 
-    @Operation(summary = "Update a category")
+    @Operation(summary = "Update a category", description = "Changing parentId moves the category together with its subcategories.")
     @PutMapping("/{id}")
     public ResponseEntity<CategoryResponseDTO> updateCategory(@PathVariable Long id,
             @RequestBody @Valid CategoryRequestDTO categoryDTO) {
         Category category = categoryService.findCategoryById(id);
         category.setName(categoryDTO.name());
+        category.setParentId(categoryDTO.parentId());
         Category updatedCategory = categoryService.saveCategory(category);
         CategoryResponseDTO responseDTO = categoryMapper.toResponseDTO(updatedCategory);
 
@@ -0,0 +1,41 @@
+package com.omatheusmesmo.shoppmate.category.controller;
+
+import com.omatheusmesmo.shoppmate.category.dto.CategoryOrderRequestDTO;
+import com.omatheusmesmo.shoppmate.category.dto.CategoryOrderResponseDTO;
+import com.omatheusmesmo.shoppmate.category.service.CategoryOrderService;
+import com.omatheusmesmo.shoppmate.utils.HttpResponseUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/category/order")
+public class CategoryOrderController {
+
+    @Autowired
+    private CategoryOrderService categoryOrderService;
+
+    @Operation(summary = "Return the category order of the current user for a store")
+    @GetMapping
+    public ResponseEntity<CategoryOrderResponseDTO> getCategoryOrder(@RequestParam(required = false) String store,
+            Principal principal) {
+        List<Long> categoryIds = categoryOrderService.findCategoryOrder(principal.getName(), store);
+        return HttpResponseUtil
+                .ok(new CategoryOrderResponseDTO(CategoryOrderService.normalizeStore(store), categoryIds));
+    }
+
+    @Operation(summary = "Replace the category order of the current user for a store")
+    @PutMapping
+    public ResponseEntity<CategoryOrderResponseDTO> updateCategoryOrder(
+            @Valid @RequestBody CategoryOrderRequestDTO requestDTO, Principal principal) {
+        List<Long> categoryIds = categoryOrderService.replaceCategoryOrder(principal.getName(), requestDTO.store(),
+                requestDTO.categoryIds());
+        return HttpResponseUtil
+                .ok(new CategoryOrderResponseDTO(CategoryOrderService.normalizeStore(requestDTO.store()), categoryIds));
+    }
+}
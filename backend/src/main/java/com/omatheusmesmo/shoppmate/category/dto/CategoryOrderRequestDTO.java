@@ -0,0 +1,10 @@
+package com.omatheusmesmo.shoppmate.category.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CategoryOrderRequestDTO(@Size(max = 100, message = "Store cannot exceed 100 characters") String store,
+        @NotNull(message = "Category IDs cannot be null") List<Long> categoryIds) {
+}
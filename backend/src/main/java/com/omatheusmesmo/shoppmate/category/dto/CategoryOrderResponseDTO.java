@@ -0,0 +1,6 @@
+package com.omatheusmesmo.shoppmate.category.dto;
+
+import java.util.List;
+
+public record CategoryOrderResponseDTO(String store, List<Long> categoryIds) {
+}
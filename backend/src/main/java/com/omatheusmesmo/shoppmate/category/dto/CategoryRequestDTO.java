@@ -2,5 +2,5 @@ package com.omatheusmesmo.shoppmate.category.dto;
 
 import jakarta.validation.constraints.NotBlank;
 
-public record CategoryRequestDTO(@NotBlank(message = "Category name cannot be blank") String name) {
+public record CategoryRequestDTO(@NotBlank(message = "Category name cannot be blank") String name, Long parentId) {
 }
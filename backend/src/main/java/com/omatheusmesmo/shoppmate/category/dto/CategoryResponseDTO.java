@@ -1,4 +1,4 @@
 package com.omatheusmesmo.shoppmate.category.dto;
 
-public record CategoryResponseDTO(Long id, String name) {
+public record CategoryResponseDTO(Long id, String name, Long parentId) {
 }
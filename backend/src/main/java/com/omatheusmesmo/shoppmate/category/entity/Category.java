@@ -1,13 +1,23 @@
 package com.omatheusmesmo.shoppmate.category.entity;
 
+import com.omatheusmesmo.shoppmate.shared.cache.CacheRegions;
 import com.omatheusmesmo.shoppmate.shared.domain.DomainEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "categories")
+@SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORIES)
 @Getter
 @Setter
 public class Category extends DomainEntity {
+
+    @Column(name = "id_parent")
+    private Long parentId;
 }
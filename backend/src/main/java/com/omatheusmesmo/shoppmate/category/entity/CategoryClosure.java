@@ -0,0 +1,28 @@
+package com.omatheusmesmo.shoppmate.category.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One (ancestor, descendant) pair of the category tree. Every category is its own ancestor at depth 0, so "items under
+ * X" is a join on the rows whose ancestor is X whatever the depth of the tree. Rows are maintained by
+ * {@link com.omatheusmesmo.shoppmate.category.service.CategoryService} and only read through this mapping.
+ */
+@Entity
+@Table(name = "category_closure")
+@IdClass(CategoryClosureId.class)
+@Getter
+@NoArgsConstructor
+public class CategoryClosure {
+
+    @Id
+    @Column(name = "id_ancestor")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "id_descendant")
+    private Long descendantId;
+
+    private Short depth;
+}
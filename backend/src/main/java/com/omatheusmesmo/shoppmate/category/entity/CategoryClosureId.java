@@ -0,0 +1,20 @@
+package com.omatheusmesmo.shoppmate.category.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CategoryClosureId implements Serializable {
+
+    private Long ancestorId;
+    private Long descendantId;
+}
@@ -0,0 +1,58 @@
+package com.omatheusmesmo.shoppmate.category.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Position of a category in a user's walk through a store. An empty store means the user's default ordering.
+ */
+@Entity
+@Table(name = "user_category_orders")
+@IdClass(CategoryOrderId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class CategoryOrder implements Persistable<CategoryOrderId> {
+
+    @Id
+    @Column(name = "id_user")
+    private Long userId;
+
+    @Id
+    private String store;
+
+    @Id
+    @Column(name = "id_category")
+    private Long categoryId;
+
+    private Short position;
+
+    @Transient
+    private boolean isNew = true;
+
+    public CategoryOrder(Long userId, String store, Long categoryId, Short position) {
+        this.userId = userId;
+        this.store = store;
+        this.categoryId = categoryId;
+        this.position = position;
+    }
+
+    @Override
+    public CategoryOrderId getId() {
+        return new CategoryOrderId(userId, store, categoryId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,21 @@
+package com.omatheusmesmo.shoppmate.category.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CategoryOrderId implements Serializable {
+
+    private Long userId;
+    private String store;
+    private Long categoryId;
+}
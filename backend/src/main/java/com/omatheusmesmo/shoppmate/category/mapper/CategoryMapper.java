@@ -11,6 +11,7 @@ public class CategoryMapper {
     public Category toEntity(CategoryRequestDTO requestDTO) {
         Category category = new Category();
         category.setName(requestDTO.name());
+        category.setParentId(requestDTO.parentId());
 
         return category;
     }
@@ -18,12 +19,13 @@ public class CategoryMapper {
     public Category toEntity(Long id, CategoryRequestDTO requestDTO) {
         Category category = new Category();
         category.setName(requestDTO.name());
+        category.setParentId(requestDTO.parentId());
         category.setId(id);
 
         return category;
     }
 
     public CategoryResponseDTO toResponseDTO(Category category) {
-        return new CategoryResponseDTO(category.getId(), category.getName());
+        return new CategoryResponseDTO(category.getId(), category.getName(), category.getParentId());
     }
 }
@@ -0,0 +1,55 @@
+package com.omatheusmesmo.shoppmate.category.repository;
+
+import com.omatheusmesmo.shoppmate.category.entity.CategoryClosure;
+import com.omatheusmesmo.shoppmate.category.entity.CategoryClosureId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * The native writes name the table they touch, so they leave the second-level cache alone instead of clearing it all.
+ */
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosureId> {
+
+    @Query(value = "SELECT id_ancestor FROM category_closure WHERE id_descendant = :id AND depth = 1", nativeQuery = true)
+    Optional<Long> findParentId(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_closure"))
+    @Query(value = "INSERT INTO category_closure (id_ancestor, id_descendant, depth) VALUES (:id, :id, 0)", nativeQuery = true)
+    void insertSelf(@Param("id") Long id);
+
+    /**
+     * Removes the paths reaching into the subtree of {@code id} from the categories above it, leaving the subtree
+     * itself intact.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_closure"))
+    @Query(value = """
+            DELETE FROM category_closure
+            WHERE id_descendant IN (SELECT id_descendant FROM category_closure WHERE id_ancestor = :id)
+                AND id_ancestor NOT IN (SELECT id_descendant FROM category_closure WHERE id_ancestor = :id)
+            """, nativeQuery = true)
+    void detachSubtree(@Param("id") Long id);
+
+    /**
+     * Links every ancestor of {@code parentId}, itself included, to every category in the subtree of {@code id}.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_closure"))
+    @Query(value = """
+            INSERT INTO category_closure (id_ancestor, id_descendant, depth)
+            SELECT above.id_ancestor, below.id_descendant, above.depth + below.depth + 1
+            FROM category_closure above CROSS JOIN category_closure below
+            WHERE above.id_descendant = :parentId AND below.id_ancestor = :id
+            """, nativeQuery = true)
+    void attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+}
@@ -0,0 +1,26 @@
+package com.omatheusmesmo.shoppmate.category.repository;
+
+import com.omatheusmesmo.shoppmate.category.entity.CategoryOrder;
+import com.omatheusmesmo.shoppmate.category.entity.CategoryOrderId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryOrderRepository extends JpaRepository<CategoryOrder, CategoryOrderId> {
+
+    @Query("""
+            SELECT co.categoryId FROM CategoryOrder co
+            WHERE co.userId = (SELECT u.id FROM User u WHERE u.email = :email) AND co.store = :store
+            ORDER BY co.position
+            """)
+    List<Long> findCategoryIdsByUserEmailAndStore(@Param("email") String email, @Param("store") String store);
+
+    @Modifying
+    @Query("DELETE FROM CategoryOrder co WHERE co.userId = :userId AND co.store = :store")
+    void deleteByUserIdAndStore(@Param("userId") Long userId, @Param("store") String store);
+}
@@ -0,0 +1,71 @@
+package com.omatheusmesmo.shoppmate.category.service;
+
+import com.omatheusmesmo.shoppmate.category.entity.CategoryOrder;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryOrderRepository;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryRepository;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.service.UserService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
+public class CategoryOrderService {
+
+    @Autowired
+    private CategoryOrderRepository categoryOrderRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserService userService;
+
+    public List<Long> findCategoryOrder(String userEmail, String store) {
+        return categoryOrderRepository.findCategoryIdsByUserEmailAndStore(userEmail, normalizeStore(store));
+    }
+
+    @Transactional
+    public List<Long> replaceCategoryOrder(String userEmail, String store, List<Long> categoryIds) {
+        String normalizedStore = normalizeStore(store);
+        isCategoryOrderValid(categoryIds);
+        User user = userService.findUserByEmail(userEmail);
+
+        categoryOrderRepository.deleteByUserIdAndStore(user.getId(), normalizedStore);
+
+        List<CategoryOrder> categoryOrders = new ArrayList<>(categoryIds.size());
+        for (int position = 0; position < categoryIds.size(); position++) {
+            categoryOrders
+                    .add(new CategoryOrder(user.getId(), normalizedStore, categoryIds.get(position), (short) position));
+        }
+        categoryOrderRepository.saveAll(categoryOrders);
+        return categoryIds;
+    }
+
+    public void isCategoryOrderValid(List<Long> categoryIds) {
+        if (categoryIds.size() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Category order is too long!");
+        }
+        if (categoryIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Category ID cannot be null!");
+        }
+        if (new HashSet<>(categoryIds).size() != categoryIds.size()) {
+            throw new IllegalArgumentException("Category order cannot contain the same category twice!");
+        }
+        if (categoryRepository.findAllById(categoryIds).size() != categoryIds.size()) {
+            throw new NoSuchElementException("Category not found");
+        }
+    }
+
+    public static String normalizeStore(String store) {
+        return store == null ? "" : store.trim();
+    }
+}
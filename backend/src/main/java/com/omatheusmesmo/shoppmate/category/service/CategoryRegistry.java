@@ -0,0 +1,103 @@
+package com.omatheusmesmo.shoppmate.category.service;
+
+import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryRepository;
+import com.omatheusmesmo.shoppmate.shared.registry.ReferenceDataRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of categories that also keeps the breadcrumb of every category, from its root down to itself.
+ * <p>
+ * Breadcrumbs are computed for the whole tree at once, the first time one is asked for after any category changes, and
+ * then served from that index until the next change.
+ */
+@Component
+public class CategoryRegistry extends ReferenceDataRegistry<Category, CategoryResponseDTO> {
+
+    private record PathIndex(long version, Map<Long, List<CategoryResponseDTO>> paths) {
+    }
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile PathIndex pathIndex = new PathIndex(-1, Map.of());
+
+    public CategoryRegistry(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    @Override
+    protected List<Category> loadAll() {
+        return categoryRepository.findAll();
+    }
+
+    @Override
+    protected Long idOf(Category category) {
+        return category.getId();
+    }
+
+    @Override
+    protected CategoryResponseDTO toValue(Category category) {
+        return new CategoryResponseDTO(category.getId(), category.getName(), category.getParentId());
+    }
+
+    @Override
+    protected String describe() {
+        return "Category";
+    }
+
+    /**
+     * Returns the categories from the root of the tree down to the given one, which comes last.
+     */
+    public List<CategoryResponseDTO> path(Long id) {
+        get(id);
+        PathIndex index = pathIndex;
+        if (index.version() != version()) {
+            index = buildPathIndex();
+            pathIndex = index;
+        }
+        return index.paths().get(id);
+    }
+
+    /**
+     * Returns whether {@code ancestorId} is {@code id} or one of the categories above it.
+     */
+    public boolean isSelfOrAncestor(Long ancestorId, Long id) {
+        return path(id).stream().anyMatch(category -> category.id().equals(ancestorId));
+    }
+
+    private PathIndex buildPathIndex() {
+        // Read the version first: if a write lands meanwhile, the index is only rebuilt once more on the next call.
+        long version = version();
+        Map<Long, CategoryResponseDTO> byId = new HashMap<>();
+        for (CategoryResponseDTO category : findAll()) {
+            byId.put(category.id(), category);
+        }
+        Map<Long, List<CategoryResponseDTO>> paths = new HashMap<>();
+        for (CategoryResponseDTO category : byId.values()) {
+            pathOf(category, byId, paths);
+        }
+        return new PathIndex(version, Map.copyOf(paths));
+    }
+
+    private List<CategoryResponseDTO> pathOf(CategoryResponseDTO category, Map<Long, CategoryResponseDTO> byId,
+            Map<Long, List<CategoryResponseDTO>> paths) {
+        List<CategoryResponseDTO> path = paths.get(category.id());
+        if (path != null) {
+            return path;
+        }
+        // Park an empty path first so a cycle, which CategoryService never writes, ends the walk instead of looping.
+        paths.put(category.id(), List.of());
+        CategoryResponseDTO parent = category.parentId() == null ? null : byId.get(category.parentId());
+        List<CategoryResponseDTO> next = new ArrayList<>(parent == null ? List.of() : pathOf(parent, byId, paths));
+        next.add(category);
+        path = List.copyOf(next);
+        paths.put(category.id(), path);
+        return path;
+    }
+}
@@ -1,27 +1,49 @@
 package com.omatheusmesmo.shoppmate.category.service;
 
 import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryClosureRepository;
 import com.omatheusmesmo.shoppmate.category.repository.CategoryRepository;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.item.service.ItemSearchIndex;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
 import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
 public class CategoryService {
 
     @Autowired
     private CategoryRepository categoryRepository;
     @Autowired
+    private CategoryClosureRepository categoryClosureRepository;
+    @Autowired
     private AuditService auditService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+    @Autowired
+    private CategoryRegistry categoryRegistry;
 
+    @Transactional
     public Category saveCategory(Category category) {
         isCategoryValid(category);
-        auditService.setAuditData(category, true);
+        boolean isNew = category.getId() == null;
+        auditService.setAuditData(category, isNew);
         categoryRepository.save(category);
+        updateClosure(category, isNew);
+        categoryRegistry.put(category);
+        itemSearchIndex.updateCategoryName(category.getId(), category.getName());
         return category;
     }
 
@@ -33,14 +55,47 @@ public class CategoryService {
         return categoryRepository.findByName(name);
     }
 
+    /**
+     * Keeps the closure table in step with the category's parent: a new category gets its own row and the paths from
+     * its ancestors; a moved one has its whole subtree unlinked from the old ancestors and linked under the new ones.
+     */
+    private void updateClosure(Category category, boolean isNew) {
+        Long id = category.getId();
+        Long parentId = category.getParentId();
+        if (isNew) {
+            categoryClosureRepository.insertSelf(id);
+        } else if (!Objects.equals(categoryClosureRepository.findParentId(id).orElse(null), parentId)) {
+            categoryClosureRepository.detachSubtree(id);
+        } else {
+            return;
+        }
+        if (parentId != null) {
+            categoryClosureRepository.attachSubtree(id, parentId);
+        }
+    }
+
+    @Transactional
     public void removeCategory(Long id) {
         Category category = categoryRepository.findById(id).orElseThrow();
+        if (categoryRepository.existsByParentId(id)) {
+            throw new IllegalArgumentException("Category has subcategories; move or delete them first");
+        }
+        if (itemRepository.existsByCategoryId(id)) {
+            throw new IllegalArgumentException("Category has items; move or delete them first");
+        }
         auditService.softDelete(category);
         saveCategory(category);
     }
 
     public void isCategoryValid(Category category) {
         category.checkName();
+        Long parentId = category.getParentId();
+        if (parentId != null) {
+            categoryRegistry.get(parentId);
+            if (category.getId() != null && categoryRegistry.isSelfOrAncestor(category.getId(), parentId)) {
+                throw new IllegalArgumentException("A category cannot be placed under itself or its subcategories");
+            }
+        }
     }
 
     public List<Category> findAll() {
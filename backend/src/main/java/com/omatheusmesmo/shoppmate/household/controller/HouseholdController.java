@@ -0,0 +1,83 @@
+package com.omatheusmesmo.shoppmate.household.controller;
+
+import com.omatheusmesmo.shoppmate.household.dtos.HouseholdMemberRequestDTO;
+import com.omatheusmesmo.shoppmate.household.dtos.HouseholdRequestDTO;
+import com.omatheusmesmo.shoppmate.household.dtos.HouseholdResponseDTO;
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import com.omatheusmesmo.shoppmate.household.entity.HouseholdMember;
+import com.omatheusmesmo.shoppmate.household.mapper.HouseholdMapper;
+import com.omatheusmesmo.shoppmate.household.service.HouseholdService;
+import com.omatheusmesmo.shoppmate.list.service.ListAccessService;
+import com.omatheusmesmo.shoppmate.user.dtos.UserResponseDTO;
+import com.omatheusmesmo.shoppmate.utils.HttpResponseUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/households")
+public class HouseholdController {
+
+    @Autowired
+    private HouseholdService service;
+
+    @Autowired
+    private HouseholdMapper householdMapper;
+
+    @Autowired
+    private ListAccessService listAccessService;
+
+    @Operation(description = "Return the households the current user belongs to")
+    @GetMapping
+    public ResponseEntity<List<HouseholdResponseDTO>> getAllHouseholds() {
+        List<Household> households = service.findAllHouseholdsByMemberId(listAccessService.currentUserId());
+        return HttpResponseUtil.ok(households.stream().map(householdMapper::toResponseDTO).toList());
+    }
+
+    @Operation(summary = "Create a household owned by the current user")
+    @PostMapping
+    public ResponseEntity<HouseholdResponseDTO> addHousehold(@Valid @RequestBody HouseholdRequestDTO requestDTO) {
+        Household household = service.addHousehold(requestDTO.name(), listAccessService.currentUserId());
+        HouseholdResponseDTO responseDTO = householdMapper.toResponseDTO(household);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(household.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(responseDTO);
+    }
+
+    @Operation(summary = "Delete a household by id")
+    @DeleteMapping("/{householdId}")
+    public ResponseEntity<Void> deleteHousehold(@PathVariable Long householdId) {
+        service.removeHousehold(householdId, listAccessService.currentUserId());
+        return HttpResponseUtil.noContent();
+    }
+
+    @Operation(description = "Return the members of a household")
+    @GetMapping("/{householdId}/members")
+    public ResponseEntity<List<UserResponseDTO>> getMembers(@PathVariable Long householdId) {
+        List<HouseholdMember> members = service.findMembers(householdId, listAccessService.currentUserId());
+        return HttpResponseUtil.ok(members.stream().map(householdMapper::toMemberDTO).toList());
+    }
+
+    @Operation(summary = "Add a member to a household")
+    @PostMapping("/{householdId}/members")
+    public ResponseEntity<UserResponseDTO> addMember(@PathVariable Long householdId,
+            @Valid @RequestBody HouseholdMemberRequestDTO requestDTO) {
+        HouseholdMember member = service.addMember(householdId, requestDTO.idUser(), listAccessService.currentUserId());
+        return HttpResponseUtil.created(householdMapper.toMemberDTO(member));
+    }
+
+    @Operation(summary = "Remove a member from a household, or leave it")
+    @DeleteMapping("/{householdId}/members/{userId}")
+    public ResponseEntity<Void> deleteMember(@PathVariable Long householdId, @PathVariable Long userId) {
+        service.removeMember(householdId, userId, listAccessService.currentUserId());
+        return HttpResponseUtil.noContent();
+    }
+}
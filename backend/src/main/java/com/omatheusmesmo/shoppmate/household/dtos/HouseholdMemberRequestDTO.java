@@ -0,0 +1,6 @@
+package com.omatheusmesmo.shoppmate.household.dtos;
+
+import jakarta.validation.constraints.NotNull;
+
+public record HouseholdMemberRequestDTO(@NotNull(message = "User id cannot be null") Long idUser) {
+}
@@ -0,0 +1,8 @@
+package com.omatheusmesmo.shoppmate.household.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record HouseholdRequestDTO(
+        @NotBlank(message = "Household name cannot be blank") @Size(max = 100, message = "Household name must have at most 100 characters") String name) {
+}
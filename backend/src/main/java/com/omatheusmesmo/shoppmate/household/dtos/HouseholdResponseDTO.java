@@ -0,0 +1,4 @@
+package com.omatheusmesmo.shoppmate.household.dtos;
+
+public record HouseholdResponseDTO(Long id, String name, Long ownerId) {
+}
@@ -0,0 +1,20 @@
+package com.omatheusmesmo.shoppmate.household.entity;
+
+import com.omatheusmesmo.shoppmate.shared.domain.DomainEntity;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+@Entity
+@Table(name = "households")
+@SQLRestriction("deleted = false")
+@Getter
+@Setter
+public class Household extends DomainEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id_user", nullable = false)
+    private User owner;
+}
@@ -0,0 +1,24 @@
+package com.omatheusmesmo.shoppmate.household.entity;
+
+import com.omatheusmesmo.shoppmate.shared.domain.BaseAuditableEntity;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+@Entity
+@Table(name = "household_members")
+@SQLRestriction("deleted = false")
+@Getter
+@Setter
+public class HouseholdMember extends BaseAuditableEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_household", nullable = false)
+    private Household household;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_user", nullable = false)
+    private User user;
+}
@@ -0,0 +1,20 @@
+package com.omatheusmesmo.shoppmate.household.mapper;
+
+import com.omatheusmesmo.shoppmate.household.dtos.HouseholdResponseDTO;
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import com.omatheusmesmo.shoppmate.household.entity.HouseholdMember;
+import com.omatheusmesmo.shoppmate.user.dtos.UserResponseDTO;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HouseholdMapper {
+
+    public HouseholdResponseDTO toResponseDTO(Household household) {
+        return new HouseholdResponseDTO(household.getId(), household.getName(), household.getOwner().getId());
+    }
+
+    public UserResponseDTO toMemberDTO(HouseholdMember householdMember) {
+        return new UserResponseDTO(householdMember.getUser().getId(), householdMember.getUser().getFullName(),
+                householdMember.getUser().getEmail());
+    }
+}
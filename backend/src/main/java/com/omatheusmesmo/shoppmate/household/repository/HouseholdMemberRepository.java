@@ -0,0 +1,34 @@
+package com.omatheusmesmo.shoppmate.household.repository;
+
+import com.omatheusmesmo.shoppmate.household.entity.HouseholdMember;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HouseholdMemberRepository extends JpaRepository<HouseholdMember, Long> {
+
+    @Query("""
+            SELECT h.id FROM HouseholdMember hm
+            JOIN hm.household h
+            WHERE hm.user.id = :userId AND h.deleted = false
+            """)
+    List<Long> findHouseholdIdsByUserId(@Param("userId") Long userId);
+
+    @EntityGraph(attributePaths = "user")
+    List<HouseholdMember> findByHouseholdId(Long householdId);
+
+    Optional<HouseholdMember> findByHouseholdIdAndUserId(Long householdId, Long userId);
+
+    // Native, so a removed membership is found and revived instead of colliding with the (household, user) key.
+    @Query(value = "SELECT * FROM household_members WHERE id_household = :householdId AND id_user = :userId", nativeQuery = true)
+    Optional<HouseholdMember> findIncludingDeleted(@Param("householdId") Long householdId,
+            @Param("userId") Long userId);
+
+    boolean existsByHouseholdIdAndUserId(Long householdId, Long userId);
+}
@@ -0,0 +1,22 @@
+package com.omatheusmesmo.shoppmate.household.repository;
+
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface HouseholdRepository extends JpaRepository<Household, Long> {
+
+    @Query("""
+            SELECT h FROM Household h
+            WHERE EXISTS (
+                SELECT 1 FROM HouseholdMember hm
+                WHERE hm.household.id = h.id AND hm.user.id = :userId)
+            ORDER BY h.name
+            """)
+    List<Household> findAllByMemberId(@Param("userId") Long userId);
+}
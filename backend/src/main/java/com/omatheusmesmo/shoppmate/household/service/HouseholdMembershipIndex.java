@@ -0,0 +1,72 @@
+package com.omatheusmesmo.shoppmate.household.service;
+
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdMemberRepository;
+import com.omatheusmesmo.shoppmate.shared.cache.CacheInvalidation;
+import com.omatheusmesmo.shoppmate.shared.cache.LongKeyedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cached user → households index used when resolving list access, so a user's groups are loaded once and then served
+ * from memory until their membership changes.
+ * <p>
+ * Like the list access cache, every invalidation bumps a striped generation for the user, and households read while the
+ * user's generation changed do not stay cached.
+ */
+@Component
+public class HouseholdMembershipIndex {
+
+    private static final long[] NO_HOUSEHOLDS = new long[0];
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final HouseholdMemberRepository householdMemberRepository;
+    private final LongKeyedCache<long[]> membershipCache;
+    private final AtomicLongArray userGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public HouseholdMembershipIndex(HouseholdMemberRepository householdMemberRepository,
+            @Value("${household.membership.cache.capacity:16384}") int cacheCapacity,
+            @Value("${household.membership.cache.ttl:PT5M}") Duration cacheTtl) {
+        this.householdMemberRepository = householdMemberRepository;
+        this.membershipCache = new LongKeyedCache<>(cacheCapacity, cacheTtl);
+    }
+
+    /**
+     * Returns the ids of the live households the user belongs to. The array is shared and must not be modified.
+     * <p>
+     * Whatever is read here stays cached, so callers read on the primary, as {@code ListAccessService} does.
+     */
+    public long[] householdIdsOf(Long userId) {
+        long[] cached = membershipCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = userGenerations.get(stripe(userId));
+        long[] householdIds = householdMemberRepository.findHouseholdIdsByUserId(userId).stream()
+                .mapToLong(Long::longValue).toArray();
+        if (householdIds.length == 0) {
+            householdIds = NO_HOUSEHOLDS;
+        }
+
+        membershipCache.put(userId, householdIds);
+        // Checked after the put, as an invalidation running meanwhile may have cleared the cache before it.
+        if (userGenerations.get(stripe(userId)) != generation) {
+            membershipCache.invalidate(userId);
+        }
+        return householdIds;
+    }
+
+    public void invalidate(Long userId) {
+        CacheInvalidation.runNowAndAfterCommit(() -> {
+            userGenerations.incrementAndGet(stripe(userId));
+            membershipCache.invalidate(userId);
+        });
+    }
+
+    private static int stripe(long id) {
+        return Long.hashCode(id) & (GENERATION_STRIPES - 1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.omatheusmesmo.shoppmate.household.service;
+
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import com.omatheusmesmo.shoppmate.household.entity.HouseholdMember;
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdMemberRepository;
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdRepository;
+import com.omatheusmesmo.shoppmate.list.service.ListAccessService;
+import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@Service
+@Transactional(readOnly = true)
+public class HouseholdService {
+
+    @Autowired
+    private HouseholdRepository householdRepository;
+    @Autowired
+    private HouseholdMemberRepository householdMemberRepository;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private AuditService auditService;
+    @Autowired
+    private HouseholdMembershipIndex householdMembershipIndex;
+    @Autowired
+    private ListAccessService listAccessService;
+
+    @Transactional
+    public Household addHousehold(String name, Long ownerId) {
+        Household household = new Household();
+        household.setName(name);
+        household.checkName();
+        household.setOwner(userService.findUserById(ownerId));
+        auditService.setAuditData(household, true);
+        householdRepository.save(household);
+
+        saveMember(household, household.getOwner());
+        return household;
+    }
+
+    public Household findHouseholdById(Long id) {
+        return householdRepository.findById(id).orElseThrow(() -> new NoSuchElementException("Household not found"));
+    }
+
+    public List<Household> findAllHouseholdsByMemberId(Long userId) {
+        return householdRepository.findAllByMemberId(userId);
+    }
+
+    public List<HouseholdMember> findMembers(Long householdId, Long currentUserId) {
+        findHouseholdById(householdId);
+        if (!householdMemberRepository.existsByHouseholdIdAndUserId(householdId, currentUserId)) {
+            throw new AccessDeniedException("User is not a member of household " + householdId);
+        }
+        return householdMemberRepository.findByHouseholdId(householdId);
+    }
+
+    @Transactional
+    public HouseholdMember addMember(Long householdId, Long userId, Long currentUserId) {
+        Household household = findOwnedHousehold(householdId, currentUserId);
+        User user = userService.findUserById(userId);
+        return saveMember(household, user);
+    }
+
+    @Transactional
+    public void removeMember(Long householdId, Long userId, Long currentUserId) {
+        Household household = findHouseholdById(householdId);
+        boolean isOwner = household.getOwner().getId().equals(currentUserId);
+        if (!isOwner && !userId.equals(currentUserId)) {
+            throw new AccessDeniedException("Only the household owner can remove other members");
+        }
+        if (household.getOwner().getId().equals(userId)) {
+            throw new IllegalArgumentException("The household owner cannot leave the household!");
+        }
+
+        HouseholdMember householdMember = householdMemberRepository.findByHouseholdIdAndUserId(householdId, userId)
+                .orElseThrow(() -> new NoSuchElementException("Household member not found"));
+        auditService.softDelete(householdMember);
+        householdMemberRepository.save(householdMember);
+        invalidateMembership(userId);
+    }
+
+    @Transactional
+    public void removeHousehold(Long householdId, Long currentUserId) {
+        Household household = findOwnedHousehold(householdId, currentUserId);
+        List<HouseholdMember> members = householdMemberRepository.findByHouseholdId(householdId);
+        auditService.softDelete(household);
+        householdRepository.save(household);
+        members.forEach(member -> invalidateMembership(member.getUser().getId()));
+    }
+
+    private Household findOwnedHousehold(Long householdId, Long currentUserId) {
+        Household household = findHouseholdById(householdId);
+        if (!household.getOwner().getId().equals(currentUserId)) {
+            throw new AccessDeniedException("Only the household owner can manage household " + householdId);
+        }
+        return household;
+    }
+
+    private HouseholdMember saveMember(Household household, User user) {
+        HouseholdMember householdMember = householdMemberRepository
+                .findIncludingDeleted(household.getId(), user.getId()).orElse(null);
+        if (householdMember == null) {
+            householdMember = new HouseholdMember();
+            householdMember.setHousehold(household);
+            householdMember.setUser(user);
+            auditService.setAuditData(householdMember, true);
+        } else if (!householdMember.getDeleted()) {
+            throw new IllegalArgumentException("User is already a member of the household!");
+        } else {
+            householdMember.setDeleted(false);
+            auditService.setAuditData(householdMember, false);
+        }
+        householdMemberRepository.save(householdMember);
+        invalidateMembership(user.getId());
+        return householdMember;
+    }
+
+    /**
+     * A membership change affects every list shared with the household, so the user's whole access cache goes.
+     */
+    private void invalidateMembership(Long userId) {
+        householdMembershipIndex.invalidate(userId);
+        listAccessService.invalidateUser(userId);
+    }
+}
@@ -1,19 +1,32 @@
 package com.omatheusmesmo.shoppmate.item.controller;
 
+import com.omatheusmesmo.shoppmate.item.dto.ItemCodeRequestDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemCodeResponseDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemImportResultDTO;
 import com.omatheusmesmo.shoppmate.item.dto.ItemRequestDTO;
 import com.omatheusmesmo.shoppmate.item.dto.ItemResponseDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
 import com.omatheusmesmo.shoppmate.item.entity.Item;
 import com.omatheusmesmo.shoppmate.item.mapper.ItemMapper;
+import com.omatheusmesmo.shoppmate.item.service.ItemCodeService;
+import com.omatheusmesmo.shoppmate.item.service.ItemImportService;
 import com.omatheusmesmo.shoppmate.item.service.ItemService;
+import com.omatheusmesmo.shoppmate.shared.domain.KeysetPage;
+import com.omatheusmesmo.shoppmate.utils.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -24,13 +37,45 @@ public class ItemController {
     private ItemService itemService;
     @Autowired
     private ItemMapper itemMapper;
+    @Autowired
+    private ItemImportService itemImportService;
+    @Autowired
+    private ItemCodeService itemCodeService;
 
-    @Operation(summary = "Return all items")
+    @Operation(summary = "Return a page of items, optionally filtered by category and unit", description = "Items are ordered by id. When more items follow, the Link header holds the URL of the next page.")
     @GetMapping
-    public ResponseEntity<List<ItemResponseDTO>> getAllItems() {
-        List<Item> items = itemService.findAll();
-        List<ItemResponseDTO> responseDTOs = items.stream().map(itemMapper::toResponseDTO).toList();
-        return ResponseEntity.ok(responseDTOs);
+    public ResponseEntity<List<ItemResponseDTO>> getAllItems(@RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size, @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long unitId) {
+        KeysetPage<Item> page = itemService.findPage(after, size, categoryId, unitId);
+        List<ItemResponseDTO> responseDTOs = page.items().stream().map(itemMapper::toResponseDTO).toList();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("after", page.nextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(responseDTOs);
+    }
+
+    @Operation(summary = "Search items by name or category", description = "Matching ignores case and accents, accepts prefixes, synonyms and one typo per word.")
+    @GetMapping("/search")
+    public ResponseEntity<List<ItemSearchResultDTO>> searchItems(@RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(itemService.search(q, limit));
+    }
+
+    @Operation(summary = "Import items from a CSV upload", description = "The header must name the name, category and unit columns. The upload is read while it streams in; rows that fail report their line number.")
+    @PostMapping(path = "/import", consumes = "text/csv")
+    public ResponseEntity<ItemImportResultDTO> importCsv(InputStream body) {
+        return ResponseEntity.ok(itemImportService.importCsv(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    @Operation(summary = "Import items from an NDJSON upload", description = "One JSON object with name, category and unit per line.")
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ItemImportResultDTO> importNdjson(InputStream body) {
+        return ResponseEntity.ok(itemImportService.importNdjson(new InputStreamReader(body, StandardCharsets.UTF_8)));
     }
 
     @Operation(summary = "Add a new item")
@@ -73,6 +118,33 @@ public class ItemController {
     public ResponseEntity<ItemResponseDTO> getItemById(@PathVariable Long id) {
         Item item = itemService.findById(id);
         ItemResponseDTO responseDTO = itemMapper.toResponseDTO(item);
-        return ResponseEntity.ok(responseDTO);
+        // A matching If-None-Match turns this into an empty 304.
+        return HttpResponseUtil.okRevalidated(responseDTO, HttpResponseUtil.contentEtag(responseDTO));
+    }
+
+    @Operation(summary = "Get an item by barcode", description = "Accepts EAN-8, UPC-A, EAN-13 and GTIN-14 codes.")
+    @GetMapping("/by-code/{code}")
+    public ResponseEntity<ItemResponseDTO> getItemByCode(@PathVariable String code) {
+        return ResponseEntity.ok(itemMapper.toResponseDTO(itemCodeService.findItemByCode(code)));
+    }
+
+    @Operation(summary = "Return the barcodes of an item")
+    @GetMapping("/{id}/codes")
+    public ResponseEntity<List<ItemCodeResponseDTO>> getItemCodes(@PathVariable Long id) {
+        return ResponseEntity.ok(itemCodeService.findCodes(id));
+    }
+
+    @Operation(summary = "Assign a barcode to an item")
+    @PostMapping("/{id}/codes")
+    public ResponseEntity<ItemCodeResponseDTO> addItemCode(@PathVariable Long id,
+            @Valid @RequestBody ItemCodeRequestDTO codeDTO) {
+        return HttpResponseUtil.created(itemCodeService.addCode(id, codeDTO.code()));
+    }
+
+    @Operation(summary = "Remove a barcode from an item")
+    @DeleteMapping("/{id}/codes/{code}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteItemCode(@PathVariable Long id, @PathVariable String code) {
+        itemCodeService.removeCode(id, code);
     }
 }
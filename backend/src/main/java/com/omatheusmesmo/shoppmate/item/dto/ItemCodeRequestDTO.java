@@ -0,0 +1,6 @@
+package com.omatheusmesmo.shoppmate.item.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ItemCodeRequestDTO(@NotBlank(message = "Code cannot be blank") String code) {
+}
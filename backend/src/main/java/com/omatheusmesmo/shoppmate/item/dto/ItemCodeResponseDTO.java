@@ -0,0 +1,4 @@
+package com.omatheusmesmo.shoppmate.item.dto;
+
+public record ItemCodeResponseDTO(Long itemId, String code) {
+}
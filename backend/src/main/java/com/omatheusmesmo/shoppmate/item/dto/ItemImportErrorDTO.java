@@ -0,0 +1,4 @@
+package com.omatheusmesmo.shoppmate.item.dto;
+
+public record ItemImportErrorDTO(long line, String message) {
+}
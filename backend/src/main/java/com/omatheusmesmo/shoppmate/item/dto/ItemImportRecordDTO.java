@@ -0,0 +1,4 @@
+package com.omatheusmesmo.shoppmate.item.dto;
+
+public record ItemImportRecordDTO(String name, String category, String unit) {
+}
@@ -0,0 +1,7 @@
+package com.omatheusmesmo.shoppmate.item.dto;
+
+import java.util.List;
+
+public record ItemImportResultDTO(long rows, long inserted, long duplicates, long rejected, long elapsedMillis,
+        long rowsPerSecond, List<ItemImportErrorDTO> errors) {
+}
@@ -0,0 +1,4 @@
+package com.omatheusmesmo.shoppmate.item.dto;
+
+public record ItemInsertDTO(String name, Long categoryId, Long unitId) {
+}
@@ -3,9 +3,13 @@ package com.omatheusmesmo.shoppmate.item.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.UUID;
+
 public record ItemRequestDTO(@NotBlank(message = "Item name cannot be blank") String name,
 
         @NotNull(message = "Category ID cannot be null") Long idCategory,
 
-        @NotNull(message = "Unit ID cannot be null") Long idUnit) {
+        @NotNull(message = "Unit ID cannot be null") Long idUnit,
+
+        UUID publicId) {
 }
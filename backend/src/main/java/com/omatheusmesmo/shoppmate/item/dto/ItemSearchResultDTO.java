@@ -0,0 +1,4 @@
+package com.omatheusmesmo.shoppmate.item.dto;
+
+public record ItemSearchResultDTO(Long id, String name, Long categoryId, String categoryName) {
+}
@@ -0,0 +1,6 @@
+package com.omatheusmesmo.shoppmate.item.dto;
+
+import java.util.UUID;
+
+public record ScannedItemDTO(Long id, UUID publicId, String name, Long categoryId, Long unitId) {
+}
@@ -1,25 +1,45 @@
 package com.omatheusmesmo.shoppmate.item.entity;
 
 import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.shared.cache.CacheRegions;
 import com.omatheusmesmo.shoppmate.shared.domain.DomainEntity;
 import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.utils.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.util.UUID;
 
 @NoArgsConstructor
 @Getter
 @Setter
 @Entity
 @Table(name = "items")
+@SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ITEMS)
 public class Item extends DomainEntity {
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @Column(name = "public_id", nullable = false, updatable = false)
+    private UUID publicId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_category", nullable = false)
     private Category category;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_unit", nullable = false)
     private Unit unit;
+
+    @PrePersist
+    private void assignPublicId() {
+        if (publicId == null) {
+            publicId = UuidV7.generate();
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.omatheusmesmo.shoppmate.item.entity;
+
+import com.omatheusmesmo.shoppmate.shared.domain.BaseAuditableEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+@Entity
+@Table(name = "item_codes")
+@SQLRestriction("deleted = false")
+@Getter
+@Setter
+public class ItemCode extends BaseAuditableEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_item", nullable = false)
+    private Item item;
+
+    @Column(name = "gtin", nullable = false)
+    private Long gtin;
+}
@@ -1,18 +1,22 @@
 package com.omatheusmesmo.shoppmate.item.mapper;
 
 import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
-import com.omatheusmesmo.shoppmate.category.entity.Category;
 import com.omatheusmesmo.shoppmate.category.repository.CategoryRepository;
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
 import com.omatheusmesmo.shoppmate.item.dto.ItemRequestDTO;
 import com.omatheusmesmo.shoppmate.item.dto.ItemResponseDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ScannedItemDTO;
 import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.shared.jfr.MapperConversions;
+import com.omatheusmesmo.shoppmate.shared.jfr.MapperConversions.Mapper;
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
 import com.omatheusmesmo.shoppmate.unit.dto.UnitResponseDTO;
-import com.omatheusmesmo.shoppmate.unit.entity.Unit;
 import com.omatheusmesmo.shoppmate.unit.repository.UnitRepository;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.NoSuchElementException;
+import java.util.UUID;
 
 @Component
 public class ItemMapper {
@@ -23,27 +27,42 @@ public class ItemMapper {
     @Autowired
     private UnitRepository unitRepository;
 
-    public Item toEntity(ItemRequestDTO dto) {
-        Category category = categoryRepository.findById(dto.idCategory())
-                .orElseThrow(() -> new NoSuchElementException("Category not found with id: " + dto.idCategory()));
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private UnitRegistry unitRegistry;
 
-        Unit unit = unitRepository.findById(dto.idUnit())
-                .orElseThrow(() -> new NoSuchElementException("Unit not found with id: " + dto.idUnit()));
+    public Item toEntity(ItemRequestDTO dto) {
+        categoryRegistry.get(dto.idCategory());
+        unitRegistry.get(dto.idUnit());
 
+        // Both ids were checked against the registries, so uninitialized references are enough to write the item.
         Item item = new Item();
         item.setName(dto.name());
-        item.setCategory(category);
-        item.setUnit(unit);
+        item.setPublicId(dto.publicId());
+        item.setCategory(categoryRepository.getReferenceById(dto.idCategory()));
+        item.setUnit(unitRepository.getReferenceById(dto.idUnit()));
         return item;
     }
 
     public ItemResponseDTO toResponseDTO(Item entity) {
+        return toResponseDTO(entity.getId(), entity.getPublicId(), entity.getName(), entity.getCategory().getId(),
+                entity.getUnit().getId());
+    }
+
+    public ItemResponseDTO toResponseDTO(ScannedItemDTO scannedItem) {
+        return toResponseDTO(scannedItem.id(), scannedItem.publicId(), scannedItem.name(), scannedItem.categoryId(),
+                scannedItem.unitId());
+    }
 
-        CategoryResponseDTO categoryDto = new CategoryResponseDTO(entity.getCategory().getId(),
-                entity.getCategory().getName());
-        UnitResponseDTO unitDto = new UnitResponseDTO(entity.getUnit().getId(), entity.getUnit().getSymbol());
+    private ItemResponseDTO toResponseDTO(Long id, UUID publicId, String name, Long categoryId, Long unitId) {
+        MapperConversions.count(Mapper.ITEM);
+        CategoryResponseDTO categoryDto = categoryRegistry.get(categoryId);
+        UnitDTO unit = unitRegistry.get(unitId);
+        UnitResponseDTO unitDto = new UnitResponseDTO(unit.id(), unit.symbol());
 
-        return new ItemResponseDTO(entity.getId(), entity.getName(), categoryDto, unitDto);
+        return new ItemResponseDTO(id, publicId, name, categoryDto, unitDto);
     }
 
 }
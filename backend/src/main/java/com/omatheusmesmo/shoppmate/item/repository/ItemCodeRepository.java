@@ -0,0 +1,28 @@
+package com.omatheusmesmo.shoppmate.item.repository;
+
+import com.omatheusmesmo.shoppmate.item.dto.ScannedItemDTO;
+import com.omatheusmesmo.shoppmate.item.entity.ItemCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ItemCodeRepository extends JpaRepository<ItemCode, Long> {
+
+    @Query("""
+            SELECT new com.omatheusmesmo.shoppmate.item.dto.ScannedItemDTO(i.id, i.publicId, i.name, i.category.id, i.unit.id)
+            FROM ItemCode c
+            JOIN c.item i
+            WHERE c.gtin = :gtin AND i.deleted = false
+            """)
+    Optional<ScannedItemDTO> findScannedItemByGtin(@Param("gtin") Long gtin);
+
+    Optional<ItemCode> findByGtin(Long gtin);
+
+    @Query("SELECT c.gtin FROM ItemCode c WHERE c.item.id = :itemId ORDER BY c.gtin")
+    List<Long> findGtinsByItemId(@Param("itemId") Long itemId);
+}
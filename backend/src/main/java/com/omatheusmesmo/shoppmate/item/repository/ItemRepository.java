@@ -1,10 +1,51 @@
 package com.omatheusmesmo.shoppmate.item.repository;
 
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
 import com.omatheusmesmo.shoppmate.item.entity.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
+
+    Optional<Item> findByPublicId(UUID publicId);
+
+    @Query("""
+            SELECT i FROM Item i
+            JOIN FETCH i.category c
+            JOIN FETCH i.unit u
+            WHERE i.id > :after
+                AND (:categoryId IS NULL OR c.id IN (
+                    SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :categoryId))
+                AND (:unitId IS NULL OR u.id = :unitId)
+            ORDER BY i.id
+            """)
+    List<Item> findPageAfter(@Param("after") Long after, @Param("categoryId") Long categoryId,
+            @Param("unitId") Long unitId, Limit limit);
+
+    @Query("""
+            SELECT new com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO(i.id, i.name, c.id, c.name)
+            FROM Item i
+            JOIN i.category c
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ItemSearchResultDTO> streamSearchDocuments();
+
+    long countByIdIn(Collection<Long> ids);
+
+    boolean existsByCategoryId(Long categoryId);
 
+    boolean existsByUnitId(Long unitId);
 }
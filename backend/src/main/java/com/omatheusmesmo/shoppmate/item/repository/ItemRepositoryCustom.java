@@ -0,0 +1,16 @@
+package com.omatheusmesmo.shoppmate.item.repository;
+
+import com.omatheusmesmo.shoppmate.item.dto.ItemInsertDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemRepositoryCustom {
+
+    /**
+     * Inserts all rows in one multi-row statement, skipping names that already exist, and returns the inserted rows
+     * with their generated ids (category names left empty).
+     */
+    List<ItemSearchResultDTO> insertIgnoringExistingNames(List<ItemInsertDTO> rows, LocalDateTime timestamp);
+}
@@ -0,0 +1,44 @@
+package com.omatheusmesmo.shoppmate.item.repository;
+
+import com.omatheusmesmo.shoppmate.item.dto.ItemInsertDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+    private static final String INSERT_PREFIX = "INSERT INTO items (name, id_category, id_unit, created_at, updated_at, deleted) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, false)";
+    private static final String INSERT_SUFFIX = " ON CONFLICT (name) DO NOTHING RETURNING id, name, id_category";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ItemRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ItemSearchResultDTO> insertIgnoringExistingNames(List<ItemInsertDTO> rows, LocalDateTime timestamp) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(timestamp);
+        List<Object> args = new ArrayList<>(rows.size() * 5);
+        for (ItemInsertDTO row : rows) {
+            args.add(row.name());
+            args.add(row.categoryId());
+            args.add(row.unitId());
+            args.add(now);
+            args.add(now);
+        }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDERS))
+                + INSERT_SUFFIX;
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ItemSearchResultDTO(rs.getLong("id"), rs.getString("name"),
+                rs.getLong("id_category"), null), args.toArray());
+    }
+}
@@ -0,0 +1,108 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.omatheusmesmo.shoppmate.item.dto.ItemCodeResponseDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ScannedItemDTO;
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.entity.ItemCode;
+import com.omatheusmesmo.shoppmate.item.repository.ItemCodeRepository;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.shared.cache.CacheInvalidation;
+import com.omatheusmesmo.shoppmate.shared.cache.LongKeyedCache;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
+import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import com.omatheusmesmo.shoppmate.utils.GtinUtil;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Resolves scanned barcodes to items. Recently scanned codes are kept in a bounded cache keyed by the numeric GTIN, so
+ * a repeated scan costs one cache probe and a first scan one lookup on the unique code index.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
+public class ItemCodeService {
+
+    private final ItemCodeRepository itemCodeRepository;
+    private final ItemRepository itemRepository;
+    private final AuditService auditService;
+    private final LongKeyedCache<ScannedItemDTO> scanCache;
+
+    public ItemCodeService(ItemCodeRepository itemCodeRepository, ItemRepository itemRepository,
+            AuditService auditService, @Value("${item.code.cache.capacity:8192}") int cacheCapacity,
+            @Value("${item.code.cache.ttl:PT10M}") Duration cacheTtl) {
+        this.itemCodeRepository = itemCodeRepository;
+        this.itemRepository = itemRepository;
+        this.auditService = auditService;
+        this.scanCache = new LongKeyedCache<>(cacheCapacity, cacheTtl);
+    }
+
+    public ScannedItemDTO findItemByCode(String code) {
+        long gtin = GtinUtil.normalize(code);
+        ScannedItemDTO cached = scanCache.get(gtin);
+        if (cached != null) {
+            return cached;
+        }
+
+        ScannedItemDTO item = itemCodeRepository.findScannedItemByGtin(gtin)
+                .orElseThrow(() -> new NoSuchElementException("Item not found with code: " + code));
+        scanCache.put(gtin, item);
+        return item;
+    }
+
+    public List<ItemCodeResponseDTO> findCodes(Long itemId) {
+        requireItem(itemId);
+        return itemCodeRepository.findGtinsByItemId(itemId).stream()
+                .map(gtin -> new ItemCodeResponseDTO(itemId, GtinUtil.format(gtin))).toList();
+    }
+
+    @Transactional
+    public ItemCodeResponseDTO addCode(Long itemId, String code) {
+        long gtin = GtinUtil.normalize(code);
+        Item item = requireItem(itemId);
+
+        Optional<ItemCode> existing = itemCodeRepository.findByGtin(gtin);
+        if (existing.isPresent()) {
+            if (!existing.get().getItem().getId().equals(itemId)) {
+                throw new IllegalArgumentException("The code is already assigned to another item!");
+            }
+            return new ItemCodeResponseDTO(itemId, GtinUtil.format(gtin));
+        }
+
+        ItemCode itemCode = new ItemCode();
+        itemCode.setItem(item);
+        itemCode.setGtin(gtin);
+        auditService.setAuditData(itemCode, true);
+        itemCodeRepository.save(itemCode);
+        return new ItemCodeResponseDTO(itemId, GtinUtil.format(gtin));
+    }
+
+    @Transactional
+    public void removeCode(Long itemId, String code) {
+        long gtin = GtinUtil.normalize(code);
+        ItemCode itemCode = itemCodeRepository.findByGtin(gtin).filter(found -> found.getItem().getId().equals(itemId))
+                .orElseThrow(() -> new NoSuchElementException("Code not found for item with id: " + itemId));
+        itemCodeRepository.delete(itemCode);
+        CacheInvalidation.runNowAndAfterCommit(() -> scanCache.invalidate(gtin));
+    }
+
+    /**
+     * Drops the cached scans of an item; call it whenever the item's name, category or unit changes or it is removed.
+     */
+    public void invalidateItem(Long itemId) {
+        List<Long> gtins = itemCodeRepository.findGtinsByItemId(itemId);
+        CacheInvalidation.runNowAndAfterCommit(() -> gtins.forEach(scanCache::invalidate));
+    }
+
+    private Item requireItem(Long itemId) {
+        return itemRepository.findById(itemId)
+                .orElseThrow(() -> new NoSuchElementException("Item not found with id: " + itemId));
+    }
+}
@@ -0,0 +1,235 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
+import com.omatheusmesmo.shoppmate.item.dto.ItemImportErrorDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemImportRecordDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemImportResultDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemInsertDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
+import com.omatheusmesmo.shoppmate.utils.CsvUtil;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Loads items from a CSV or NDJSON upload while it is still being received.
+ * <p>
+ * Rows are read one line at a time, resolved against the in-memory category and unit registries and written in
+ * multi-row inserts of {@link #BATCH_SIZE}, so memory stays bounded by one batch plus the set of names already seen.
+ * Names that repeat within the upload or already exist in the catalog count as duplicates, not errors.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ItemImportService {
+
+    public static final int BATCH_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_NAME_LENGTH = 100;
+
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+    @Autowired
+    private UnitRegistry unitRegistry;
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+    @Autowired
+    private ItemNameMatcher itemNameMatcher;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Reads a CSV upload whose header names the {@code name}, {@code category} and {@code unit} columns, in any order.
+     * Categories are matched by name and units by name or symbol, ignoring case.
+     */
+    public ItemImportResultDTO importCsv(Reader reader) {
+        ImportRun run = new ImportRun();
+        try (BufferedReader lines = new BufferedReader(reader)) {
+            String header = lines.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("The CSV upload is empty!");
+            }
+            List<String> columns = CsvUtil.splitLine(header.replace("\uFEFF", "")).stream()
+                    .map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+            int nameColumn = requireColumn(columns, "name");
+            int categoryColumn = requireColumn(columns, "category");
+            int unitColumn = requireColumn(columns, "unit");
+
+            long lineNumber = 1;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields;
+                try {
+                    fields = CsvUtil.splitLine(line);
+                } catch (IllegalArgumentException e) {
+                    run.reject(lineNumber, e.getMessage());
+                    continue;
+                }
+                run.accept(lineNumber, new ItemImportRecordDTO(field(fields, nameColumn), field(fields, categoryColumn),
+                        field(fields, unitColumn)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return run.finish();
+    }
+
+    /**
+     * Reads one JSON object per line with {@code name}, {@code category} and {@code unit} fields.
+     */
+    public ItemImportResultDTO importNdjson(Reader reader) {
+        ImportRun run = new ImportRun();
+        try (BufferedReader lines = new BufferedReader(reader)) {
+            long lineNumber = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    run.accept(lineNumber, objectMapper.readValue(line, ItemImportRecordDTO.class));
+                } catch (JsonProcessingException e) {
+                    run.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return run.finish();
+    }
+
+    private static int requireColumn(List<String> columns, String column) {
+        int index = columns.indexOf(column);
+        if (index < 0) {
+            throw new IllegalArgumentException("The CSV header must have a '" + column + "' column!");
+        }
+        return index;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private class ImportRun {
+
+        private final long start = System.nanoTime();
+        private final LocalDateTime timestamp = LocalDateTime.now();
+        private final Map<String, Long> categoryIds = new HashMap<>();
+        private final Map<String, Long> unitIds = new HashMap<>();
+        private final Set<String> seenNames = new HashSet<>();
+        private final List<ItemInsertDTO> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<ItemImportErrorDTO> errors = new ArrayList<>();
+        private long rows;
+        private long inserted;
+        private long duplicates;
+        private long rejected;
+
+        ImportRun() {
+            for (CategoryResponseDTO category : categoryRegistry.findAll()) {
+                categoryIds.putIfAbsent(key(category.name()), category.id());
+            }
+            // Names win over symbols when a symbol spells another unit's name.
+            for (UnitDTO unit : unitRegistry.findAll()) {
+                unitIds.put(key(unit.name()), unit.id());
+            }
+            for (UnitDTO unit : unitRegistry.findAll()) {
+                if (unit.symbol() != null) {
+                    unitIds.putIfAbsent(key(unit.symbol()), unit.id());
+                }
+            }
+        }
+
+        void accept(long line, ItemImportRecordDTO record) {
+            rows++;
+            try {
+                ItemInsertDTO row = resolve(record);
+                if (!seenNames.add(row.name())) {
+                    duplicates++;
+                    return;
+                }
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    flush();
+                }
+            } catch (IllegalArgumentException e) {
+                addError(line, e.getMessage());
+            }
+        }
+
+        void reject(long line, String message) {
+            rows++;
+            addError(line, message);
+        }
+
+        private ItemInsertDTO resolve(ItemImportRecordDTO record) {
+            String name = record.name() == null ? null : record.name().trim();
+            if (name == null) {
+                throw new IllegalArgumentException("Name cannot be null!");
+            } else if (name.isEmpty()) {
+                throw new IllegalArgumentException("Enter a valid name!");
+            } else if (name.length() > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("Name cannot be longer than " + MAX_NAME_LENGTH + " characters!");
+            }
+            Long categoryId = record.category() == null ? null : categoryIds.get(key(record.category()));
+            if (categoryId == null) {
+                throw new IllegalArgumentException("Category not found: " + record.category());
+            }
+            Long unitId = record.unit() == null ? null : unitIds.get(key(record.unit()));
+            if (unitId == null) {
+                throw new IllegalArgumentException("Unit not found: " + record.unit());
+            }
+            return new ItemInsertDTO(name, categoryId, unitId);
+        }
+
+        private void addError(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ItemImportErrorDTO(line, message));
+            }
+        }
+
+        private void flush() {
+            List<ItemSearchResultDTO> saved = itemRepository.insertIgnoringExistingNames(List.copyOf(batch), timestamp);
+            inserted += saved.size();
+            duplicates += batch.size() - saved.size();
+            for (ItemSearchResultDTO item : saved) {
+                itemSearchIndex.index(new ItemSearchResultDTO(item.id(), item.name(), item.categoryId(),
+                        categoryRegistry.get(item.categoryId()).name()));
+                itemNameMatcher.put(item.id(), item.name());
+            }
+            batch.clear();
+        }
+
+        ItemImportResultDTO finish() {
+            flush();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            long rowsPerSecond = rows * 1000 / Math.max(elapsedMillis, 1);
+            return new ItemImportResultDTO(rows, inserted, duplicates, rejected, elapsedMillis, rowsPerSecond,
+                    List.copyOf(errors));
+        }
+    }
+}
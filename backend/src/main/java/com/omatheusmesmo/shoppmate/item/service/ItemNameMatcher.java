@@ -0,0 +1,308 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.utils.TextNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Finds every catalog item name mentioned in a piece of free text in a single pass over its words.
+ * <p>
+ * Item names are kept in an Aho-Corasick automaton whose alphabet is words rather than characters: each word is
+ * accent-folded, has a plural "s" dropped and is replaced by the first word of its synonym group, so "Leite Integral"
+ * in the catalog is found by "milk integral" or "leites integrais" in the text. Matching follows one transition per
+ * input word and never backtracks, so it runs in time linear in the input whatever the size of the catalog.
+ * <p>
+ * Adding or renaming an item only inserts its words into the trie; removing one only clears its end marker. The failure
+ * links that depend on the whole trie are recomputed once, before the next match after any change, and the trie is
+ * rebuilt from scratch once removed names make up half of it.
+ */
+@Component
+public class ItemNameMatcher implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemNameMatcher.class);
+
+    private static final long[] NO_ITEMS = new long[0];
+
+    /**
+     * A name found in the text: words {@code start} (inclusive) to {@code end} (exclusive) name the item.
+     */
+    public record Match(int start, int end, long itemId, String itemName) {
+    }
+
+    private static final class Node {
+        private int[] words = new int[0];
+        private Node[] children = new Node[0];
+        private int size;
+        private final int depth;
+        private Node fail;
+        // Nearest node on the failure chain, this one included, where a name ends.
+        private Node output;
+        private long[] itemIds = NO_ITEMS;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+
+        private Node child(int word) {
+            int index = Arrays.binarySearch(words, 0, size, word);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node addChild(int word) {
+            int index = Arrays.binarySearch(words, 0, size, word);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (size == words.length) {
+                int capacity = Math.max(2, size * 2);
+                words = Arrays.copyOf(words, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(words, insertAt, words, insertAt + 1, size - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, size - insertAt);
+            Node child = new Node(depth + 1);
+            words[insertAt] = word;
+            children[insertAt] = child;
+            size++;
+            return child;
+        }
+    }
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ItemSynonyms synonyms;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> vocabulary = new HashMap<>();
+    private final Map<Long, String> names = new HashMap<>();
+    private final Map<Long, Node> ends = new HashMap<>();
+    private Node root = new Node(0);
+    private boolean linksStale;
+    private int removedSinceRebuild;
+
+    public ItemNameMatcher(ItemRepository itemRepository, PlatformTransactionManager transactionManager,
+            ItemSynonyms synonyms) {
+        this.itemRepository = itemRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.synonyms = synonyms;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ItemSearchResultDTO> rows = itemRepository.streamSearchDocuments()) {
+                rows.forEach(row -> put(row.id(), row.name()));
+            }
+        });
+        logger.info("Loaded {} item names for quick add in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void put(long itemId, String name) {
+        lock.writeLock().lock();
+        try {
+            if (names.containsKey(itemId)) {
+                unlink(itemId);
+                removedSinceRebuild++;
+            }
+            names.put(itemId, name);
+            insert(itemId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long itemId) {
+        lock.writeLock().lock();
+        try {
+            if (names.remove(itemId) != null) {
+                unlink(itemId);
+                if (++removedSinceRebuild > names.size()) {
+                    rebuild();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the item names mentioned in the words, leftmost first. Where names overlap, the one starting first wins,
+     * then the longer one; where several items share a name, the oldest wins.
+     */
+    public List<Match> findMatches(List<String> words) {
+        lock.readLock().lock();
+        try {
+            if (linksStale) {
+                lock.readLock().unlock();
+                lock.writeLock().lock();
+                try {
+                    if (linksStale) {
+                        computeLinks();
+                    }
+                    lock.readLock().lock();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            return select(scan(words), words.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns, for every word position, the longest name ending there, or {@code null}.
+     */
+    private Node[] scan(List<String> words) {
+        Node[] longestEndingAt = new Node[words.size()];
+        Node state = root;
+        for (int i = 0; i < words.size(); i++) {
+            Integer word = vocabulary.get(key(words.get(i)));
+            if (word == null) {
+                state = root;
+                continue;
+            }
+            Node next = state.child(word);
+            while (next == null && state != root) {
+                state = state.fail;
+                next = state.child(word);
+            }
+            state = next == null ? root : next;
+            longestEndingAt[i] = state.output;
+        }
+        return longestEndingAt;
+    }
+
+    private List<Match> select(Node[] longestEndingAt, int length) {
+        // Longest name starting at each position, found from the longest one ending at each position.
+        Node[] longestStartingAt = new Node[length];
+        for (int end = 0; end < length; end++) {
+            for (Node node = longestEndingAt[end]; node != null; node = node.fail.output) {
+                int start = end - node.depth + 1;
+                if (longestStartingAt[start] == null || longestStartingAt[start].depth < node.depth) {
+                    longestStartingAt[start] = node;
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        int position = 0;
+        while (position < length) {
+            Node node = longestStartingAt[position];
+            if (node == null) {
+                position++;
+                continue;
+            }
+            long itemId = node.itemIds[0];
+            matches.add(new Match(position, position + node.depth, itemId, names.get(itemId)));
+            position += node.depth;
+        }
+        return matches;
+    }
+
+    private void insert(long itemId, String name) {
+        Node node = root;
+        for (String word : TextNormalizer.tokenizeSplittingNumbers(name)) {
+            String key = key(word);
+            Integer id = vocabulary.get(key);
+            if (id == null) {
+                id = vocabulary.size();
+                vocabulary.put(key, id);
+            }
+            node = node.addChild(id);
+        }
+        if (node == root) {
+            return;
+        }
+        long[] itemIds = Arrays.copyOf(node.itemIds, node.itemIds.length + 1);
+        itemIds[itemIds.length - 1] = itemId;
+        Arrays.sort(itemIds);
+        node.itemIds = itemIds;
+        ends.put(itemId, node);
+        linksStale = true;
+    }
+
+    private void unlink(long itemId) {
+        Node node = ends.remove(itemId);
+        if (node == null) {
+            return;
+        }
+        node.itemIds = Arrays.stream(node.itemIds).filter(id -> id != itemId).toArray();
+        linksStale = true;
+    }
+
+    private void rebuild() {
+        root = new Node(0);
+        vocabulary.clear();
+        ends.clear();
+        removedSinceRebuild = 0;
+        names.forEach(this::insert);
+        linksStale = true;
+    }
+
+    /**
+     * Breadth-first pass setting each node's failure link to the longest proper suffix of its words that is also in the
+     * trie, and its output link to the longest name among that node and its suffixes.
+     */
+    private void computeLinks() {
+        root.fail = null;
+        root.output = null;
+        Deque<Node> queue = new ArrayDeque<>();
+        for (int i = 0; i < root.size; i++) {
+            Node child = root.children[i];
+            child.fail = root;
+            child.output = child.itemIds.length > 0 ? child : null;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (int i = 0; i < node.size; i++) {
+                int word = node.words[i];
+                Node child = node.children[i];
+                Node fallback = node.fail;
+                Node target = fallback.child(word);
+                while (target == null && fallback != root) {
+                    fallback = fallback.fail;
+                    target = fallback.child(word);
+                }
+                child.fail = target == null ? root : target;
+                child.output = child.itemIds.length > 0 ? child : child.fail.output;
+                queue.add(child);
+            }
+        }
+        linksStale = false;
+    }
+
+    private String key(String word) {
+        String canonical = synonyms.canonical(word);
+        if (!canonical.equals(word)) {
+            return canonical;
+        }
+        if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+            return synonyms.canonical(word.substring(0, word.length() - 1));
+        }
+        return word;
+    }
+}
@@ -0,0 +1,464 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.utils.TextNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over item names and category names, kept in sync by {@link ItemService} and rebuilt from the
+ * database at startup.
+ * <p>
+ * Terms are accent-folded and lower-cased. A query word matches a term exactly, through a synonym, as a prefix (looked
+ * up in the sorted term dictionary) or with one typo (looked up in a single-deletion index, so no term scan is needed).
+ * Every query word must match: the most selective word picks the candidate items and the others are checked against
+ * each candidate's own terms. Items are ranked by how well and in which field they matched.
+ */
+@Component
+public class ItemSearchIndex implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemSearchIndex.class);
+
+    private static final int NAME = 1;
+    private static final int CATEGORY = 2;
+
+    private static final int EXACT_SCORE = 8;
+    private static final int SYNONYM_SCORE = 6;
+    private static final int PREFIX_SCORE = 4;
+    private static final int FUZZY_SCORE = 2;
+
+    private static final int MAX_PREFIX_TERMS = 64;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_CANDIDATES = 500;
+
+    private final ItemRepository itemRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ItemSynonyms synonyms;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Document>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> deletions = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, Set<Long>> itemsByCategory = new HashMap<>();
+
+    /**
+     * An indexed item with its distinct terms and, for each term, the fields it occurs in. Postings point straight at
+     * the document and candidates are keyed by identity, so scoring never goes back through the id map.
+     */
+    private static final class Document {
+        private final ItemSearchResultDTO item;
+        private final String[] terms;
+        private final int[] fields;
+
+        private Document(ItemSearchResultDTO item, Map<String, Integer> termFields) {
+            this.item = item;
+            this.terms = termFields.keySet().toArray(String[]::new);
+            this.fields = new int[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                fields[i] = termFields.get(terms[i]);
+            }
+        }
+
+        private int fieldsOf(String term) {
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i].equals(term)) {
+                    return fields[i];
+                }
+            }
+            return 0;
+        }
+    }
+
+    private record MatchedTerm(String term, int score) {
+    }
+
+    /**
+     * Natural order is best first: higher score, then shorter name, then name.
+     */
+    private record RankedItem(int score, ItemSearchResultDTO item) implements Comparable<RankedItem> {
+        @Override
+        public int compareTo(RankedItem other) {
+            if (score != other.score) {
+                return Integer.compare(other.score, score);
+            }
+            if (item.name().length() != other.item.name().length()) {
+                return Integer.compare(item.name().length(), other.item.name().length());
+            }
+            return item.name().compareTo(other.item.name());
+        }
+    }
+
+    public ItemSearchIndex(ItemRepository itemRepository, CategoryRegistry categoryRegistry,
+            PlatformTransactionManager transactionManager, ItemSynonyms synonyms) {
+        this.itemRepository = itemRepository;
+        this.categoryRegistry = categoryRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.synonyms = synonyms;
+    }
+
+    /**
+     * Runs once all singletons exist, before the web server accepts requests, so no write can race the rebuild.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            deletions.clear();
+            documents.clear();
+            itemsByCategory.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ItemSearchResultDTO> rows = itemRepository.streamSearchDocuments()) {
+                rows.forEach(this::index);
+            }
+        });
+        logger.info("Indexed {} items for search in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void index(Item item) {
+        Long categoryId = item.getCategory().getId();
+        index(new ItemSearchResultDTO(item.getId(), item.getName(), categoryId,
+                categoryRegistry.get(categoryId).name()));
+    }
+
+    public void index(ItemSearchResultDTO item) {
+        Map<String, Integer> terms = new HashMap<>();
+        TextNormalizer.tokenize(item.name()).forEach(term -> terms.merge(term, NAME, (a, b) -> a | b));
+        TextNormalizer.tokenize(item.categoryName()).forEach(term -> terms.merge(term, CATEGORY, (a, b) -> a | b));
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(item.id());
+            Document document = new Document(item, terms);
+            documents.put(item.id(), document);
+            terms.keySet().forEach(term -> addPosting(term, document));
+            if (item.categoryId() != null) {
+                itemsByCategory.computeIfAbsent(item.categoryId(), id -> new HashSet<>()).add(item.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateCategoryName(Long categoryId, String categoryName) {
+        List<ItemSearchResultDTO> renamed;
+        lock.readLock().lock();
+        try {
+            renamed = itemsByCategory.getOrDefault(categoryId, Set.of()).stream().map(id -> documents.get(id).item)
+                    .map(item -> new ItemSearchResultDTO(item.id(), item.name(), categoryId, categoryName)).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        renamed.forEach(this::index);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ItemSearchResultDTO> search(String query, int limit) {
+        List<String> tokens = TextNormalizer.tokenize(query).stream().distinct().toList();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int driver = -1;
+            List<MatchedTerm> driverTerms = null;
+            long driverPostings = Long.MAX_VALUE;
+            for (int i = 0; i < tokens.size(); i++) {
+                List<MatchedTerm> terms = matchingTerms(tokens.get(i));
+                long termPostings = countPostings(terms);
+                if (termPostings < driverPostings) {
+                    driver = i;
+                    driverTerms = terms;
+                    driverPostings = termPostings;
+                }
+            }
+            if (driverPostings == 0) {
+                return List.of();
+            }
+
+            List<String> filters = new ArrayList<>(tokens);
+            filters.remove(driver);
+            return topResults(collectMatches(driverTerms, filters), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Terms the token matches, best match first: the term itself, its synonyms, terms it is a prefix of, then terms one
+     * typo away.
+     */
+    private List<MatchedTerm> matchingTerms(String token) {
+        List<MatchedTerm> terms = new ArrayList<>();
+        if (postings.containsKey(token)) {
+            terms.add(new MatchedTerm(token, EXACT_SCORE));
+        }
+        for (String synonym : synonyms.of(token)) {
+            if (postings.containsKey(synonym)) {
+                terms.add(new MatchedTerm(synonym, SYNONYM_SCORE));
+            }
+        }
+        for (String term : postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+            if (terms.size() == MAX_PREFIX_TERMS) {
+                break;
+            }
+            terms.add(new MatchedTerm(term, PREFIX_SCORE));
+        }
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            fuzzyMatches(token).forEach(term -> terms.add(new MatchedTerm(term, FUZZY_SCORE)));
+        }
+        return terms;
+    }
+
+    /**
+     * Postings of all the terms, counted in full: the posting maps know their size, so picking the most selective word
+     * costs one lookup per term however common the word is. An item under several of the terms counts once per term.
+     */
+    private long countPostings(List<MatchedTerm> terms) {
+        long count = 0;
+        for (MatchedTerm term : terms) {
+            count += postings.get(term.term()).size();
+        }
+        return count;
+    }
+
+    /**
+     * Scores the items of the driving token's terms that every other token also matches. The other tokens are checked
+     * as each item is reached, so {@link #MAX_CANDIDATES}, which bounds the work of very short prefixes such as "a",
+     * counts matching items rather than raw postings. Terms are visited best match first.
+     */
+    private Map<Document, Integer> collectMatches(List<MatchedTerm> driverTerms, List<String> filters) {
+        Map<Document, Integer> driverScores = new HashMap<>();
+        Map<Document, Integer> filterScores = new HashMap<>();
+        Set<Document> rejected = new HashSet<>();
+        for (MatchedTerm term : driverTerms) {
+            for (Document document : postings.get(term.term()).values()) {
+                int driverScore = fieldScore(term.score(), document.fieldsOf(term.term()));
+                if (driverScores.containsKey(document)) {
+                    driverScores.merge(document, driverScore, Math::max);
+                    continue;
+                }
+                if (rejected.contains(document)) {
+                    continue;
+                }
+                int filterScore = scoreFilters(document, filters);
+                if (filterScore < 0) {
+                    rejected.add(document);
+                    continue;
+                }
+                driverScores.put(document, driverScore);
+                filterScores.put(document, filterScore);
+                if (driverScores.size() == MAX_CANDIDATES) {
+                    break;
+                }
+            }
+            if (driverScores.size() == MAX_CANDIDATES) {
+                break;
+            }
+        }
+        driverScores.replaceAll((document, score) -> score + filterScores.get(document));
+        return driverScores;
+    }
+
+    /**
+     * Sum of the item's best score against each token, or -1 as soon as one token matches none of its terms.
+     */
+    private int scoreFilters(Document document, List<String> tokens) {
+        int total = 0;
+        for (String token : tokens) {
+            int score = scoreDocument(document, token);
+            if (score == 0) {
+                return -1;
+            }
+            total += score;
+        }
+        return total;
+    }
+
+    /**
+     * Best score of the token against the few terms of a single item, or 0 when none matches.
+     */
+    private int scoreDocument(Document document, String token) {
+        int best = 0;
+        for (int i = 0; i < document.terms.length; i++) {
+            int score = matchScore(token, document.terms[i]);
+            if (score > 0) {
+                best = Math.max(best, fieldScore(score, document.fields[i]));
+            }
+        }
+        return best;
+    }
+
+    private int matchScore(String token, String term) {
+        if (term.equals(token)) {
+            return EXACT_SCORE;
+        }
+        if (synonyms.of(token).contains(term)) {
+            return SYNONYM_SCORE;
+        }
+        if (term.startsWith(token)) {
+            return PREFIX_SCORE;
+        }
+        if (token.length() >= MIN_FUZZY_LENGTH && isOneEditAway(token, term)) {
+            return FUZZY_SCORE;
+        }
+        return 0;
+    }
+
+    private static int fieldScore(int score, int fields) {
+        return (fields & NAME) != 0 ? score * 2 : score;
+    }
+
+    /**
+     * Terms within one insertion, deletion, substitution or transposition of the token. Each term is registered under
+     * its single-character deletions, so candidates are found by intersecting deletions instead of scanning terms.
+     */
+    private Set<String> fuzzyMatches(String token) {
+        Set<String> candidates = new HashSet<>(deletions.getOrDefault(token, Set.of()));
+        for (String deletion : deletionsOf(token)) {
+            if (postings.containsKey(deletion)) {
+                candidates.add(deletion);
+            }
+            candidates.addAll(deletions.getOrDefault(deletion, Set.of()));
+        }
+        candidates.removeIf(term -> !isOneEditAway(token, term));
+        return candidates;
+    }
+
+    private List<ItemSearchResultDTO> topResults(Map<Document, Integer> scores, int limit) {
+        PriorityQueue<RankedItem> top = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+        for (Map.Entry<Document, Integer> entry : scores.entrySet()) {
+            RankedItem candidate = new RankedItem(entry.getValue(), entry.getKey().item);
+            if (top.size() < limit) {
+                top.offer(candidate);
+            } else if (candidate.compareTo(top.peek()) < 0) {
+                top.poll();
+                top.offer(candidate);
+            }
+        }
+
+        List<RankedItem> ranked = new ArrayList<>(top);
+        Collections.sort(ranked);
+        return ranked.stream().map(RankedItem::item).toList();
+    }
+
+    private void addPosting(String term, Document document) {
+        Map<Long, Document> termPostings = postings.get(term);
+        if (termPostings == null) {
+            termPostings = new HashMap<>();
+            postings.put(term, termPostings);
+            if (term.length() >= MIN_FUZZY_LENGTH) {
+                deletionsOf(term)
+                        .forEach(deletion -> deletions.computeIfAbsent(deletion, d -> new HashSet<>()).add(term));
+            }
+        }
+        termPostings.put(document.item.id(), document);
+    }
+
+    private void removeDocument(Long itemId) {
+        Document document = documents.remove(itemId);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms) {
+            Map<Long, Document> termPostings = postings.get(term);
+            termPostings.remove(itemId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+                deletionsOf(term).forEach(deletion -> {
+                    Set<String> terms = deletions.get(deletion);
+                    if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                        deletions.remove(deletion);
+                    }
+                });
+            }
+        }
+
+        Long categoryId = document.item.categoryId();
+        Set<Long> categoryItems = categoryId == null ? null : itemsByCategory.get(categoryId);
+        if (categoryItems != null && categoryItems.remove(itemId) && categoryItems.isEmpty()) {
+            itemsByCategory.remove(categoryId);
+        }
+    }
+
+    private static Set<String> deletionsOf(String term) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < term.length(); i++) {
+            result.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Whether the strings differ by exactly one insertion, deletion, substitution or transposition of adjacent
+     * characters. Runs in a single pass without allocating, as it is called for every candidate term.
+     */
+    static boolean isOneEditAway(String a, String b) {
+        if (a.length() < b.length()) {
+            String shorter = a;
+            a = b;
+            b = shorter;
+        }
+        int lengthDifference = a.length() - b.length();
+        if (lengthDifference > 1) {
+            return false;
+        }
+
+        int i = 0;
+        while (i < b.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (lengthDifference == 1) {
+            return a.regionMatches(i + 1, b, i, b.length() - i);
+        }
+        if (i == a.length()) {
+            return false;
+        }
+        if (a.regionMatches(i + 1, b, i + 1, a.length() - i - 1)) {
+            return true;
+        }
+        return i + 1 < a.length() && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                && a.regionMatches(i + 2, b, i + 2, a.length() - i - 2);
+    }
+}
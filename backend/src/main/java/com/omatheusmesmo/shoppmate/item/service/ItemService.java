@@ -1,40 +1,91 @@
 package com.omatheusmesmo.shoppmate.item.service;
 
-import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
 import com.omatheusmesmo.shoppmate.item.entity.Item;
 import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.shared.domain.KeysetPage;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
 import com.omatheusmesmo.shoppmate.shared.service.AuditService;
-import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import com.omatheusmesmo.shoppmate.store.service.BasketCostService;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
+import com.omatheusmesmo.shoppmate.utils.UuidV7;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
 public class ItemService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 100;
+
     @Autowired
     private ItemRepository itemRepository;
 
     @Autowired
     private AuditService auditService;
     @Autowired
-    private UnitService unitService;
+    private UnitRegistry unitRegistry;
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+    @Autowired
+    private ItemCodeService itemCodeService;
+    @Autowired
+    private ItemNameMatcher itemNameMatcher;
     @Autowired
-    private CategoryService categoryService;
+    private BasketCostService basketCostService;
 
+    @Transactional
     public Item addItem(Item item) {
+        Optional<Item> created = findCreatedWithPublicId(item);
+        if (created.isPresent()) {
+            return created.get();
+        }
         isItemValid(item);
         auditService.setAuditData(item, true);
-        itemRepository.save(item);
+        // Flushed so a rejected write fails before the in-memory indexes see it.
+        itemRepository.saveAndFlush(item);
+        itemSearchIndex.index(item);
+        itemNameMatcher.put(item.getId(), item.getName());
         return item;
     }
 
+    /**
+     * Returns the item already created under the public id chosen for {@code item} when it has the same name, so a
+     * client syncing items it created offline can safely send them again.
+     */
+    private Optional<Item> findCreatedWithPublicId(Item item) {
+        UUID publicId = item.getPublicId();
+        if (publicId == null) {
+            return Optional.empty();
+        }
+        Optional<Item> created = itemRepository.findByPublicId(publicId);
+        if (created.isEmpty()) {
+            UuidV7.check(publicId, Instant.now());
+        } else if (!created.get().getName().equalsIgnoreCase(item.getName())) {
+            throw new IllegalArgumentException("Public id is already in use!");
+        }
+        return created;
+    }
+
     public void isItemValid(Item item) {
-        categoryService.isCategoryValid(item.getCategory());
-        unitService.isUnitValid(item.getUnit());
+        categoryRegistry.get(item.getCategory().getId());
+        unitRegistry.get(item.getUnit().getId());
         item.checkName();
     }
 
@@ -52,22 +103,66 @@ public class ItemService {
                 .orElseThrow(() -> new NoSuchElementException("Item not found with id: " + id));
     }
 
+    /**
+     * Returns an uninitialized reference for attaching a known item to another entity without loading it.
+     */
+    public Item getReferenceById(Long id) {
+        return itemRepository.getReferenceById(id);
+    }
+
     // TODO remove item by item || Use soft delete
+    @Transactional
     public void removeItem(Long id) {
         findById(id);
+        // Codes go with the item, so collect them for invalidation first.
+        itemCodeService.invalidateItem(id);
+        basketCostService.invalidateItems(List.of(id));
         // auditService.softDelete(item);
         itemRepository.deleteById(id);
+        itemRepository.flush();
+        itemSearchIndex.remove(id);
+        itemNameMatcher.remove(id);
     }
 
+    @Transactional
     public Item editItem(Item item) {
         findById(item.getId());
         isItemValid(item);
         auditService.setAuditData(item, false);
-        itemRepository.save(item);
+        itemRepository.saveAndFlush(item);
+        itemSearchIndex.index(item);
+        itemNameMatcher.put(item.getId(), item.getName());
+        itemCodeService.invalidateItem(item.getId());
+        // The unit may have changed, which changes how list quantities are priced.
+        basketCostService.invalidateItems(List.of(item.getId()));
         return item;
     }
 
     public List<Item> findAll() {
         return itemRepository.findAll();
     }
+
+    public KeysetPage<Item> findPage(Long after, Integer size, Long categoryId, Long unitId) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + "!");
+        }
+
+        // One extra row tells whether another page follows without a count query.
+        List<Item> items = itemRepository.findPageAfter(after == null ? 0L : after, categoryId, unitId,
+                Limit.of(pageSize + 1));
+        if (items.size() <= pageSize) {
+            return new KeysetPage<>(items, null);
+        }
+        List<Item> page = items.subList(0, pageSize);
+        return new KeysetPage<>(page, page.get(pageSize - 1).getId());
+    }
+
+    public List<ItemSearchResultDTO> search(String query, Integer limit) {
+        int resultLimit = limit == null ? DEFAULT_SEARCH_LIMIT : limit;
+        if (resultLimit < 1 || resultLimit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Search limit must be between 1 and " + MAX_SEARCH_LIMIT + "!");
+        }
+        return itemSearchIndex.search(query, resultLimit);
+    }
 }
@@ -0,0 +1,59 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.omatheusmesmo.shoppmate.utils.TextNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Groups of interchangeable single words used when matching item names, read from {@code search/item-synonyms.txt}.
+ * Words are kept normalized with {@link TextNormalizer}.
+ */
+@Component
+public class ItemSynonyms {
+
+    private final Map<String, Set<String>> synonyms = new HashMap<>();
+    private final Map<String, String> canonicalWords = new HashMap<>();
+
+    public ItemSynonyms(@Value("classpath:search/item-synonyms.txt") Resource resource) {
+        if (!resource.exists()) {
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.lines().map(String::strip).filter(line -> !line.isEmpty() && !line.startsWith("#")).forEach(line -> {
+                List<String> group = Arrays.stream(line.split(",")).map(TextNormalizer::normalize).map(String::strip)
+                        .filter(word -> !word.isEmpty()).distinct().toList();
+                for (String word : group) {
+                    Set<String> others = synonyms.computeIfAbsent(word, w -> new HashSet<>());
+                    group.stream().filter(other -> !other.equals(word)).forEach(others::add);
+                    canonicalWords.putIfAbsent(word, group.get(0));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read item synonyms", e);
+        }
+    }
+
+    /**
+     * Returns the other words of the word's groups.
+     */
+    public Set<String> of(String word) {
+        return synonyms.getOrDefault(word, Set.of());
+    }
+
+    /**
+     * Returns one fixed word standing for the word's first group, or the word itself, so that synonyms compare equal.
+     */
+    public String canonical(String word) {
+        return canonicalWords.getOrDefault(word, word);
+    }
+}
@@ -0,0 +1,62 @@
+package com.omatheusmesmo.shoppmate.list.configs;
+
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
+import com.omatheusmesmo.shoppmate.list.service.ListAccessService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+@Component
+public class ListAccessInterceptor implements HandlerInterceptor {
+
+    static final String LIST_ID_VARIABLE = "listId";
+
+    private final ListAccessService listAccessService;
+
+    public ListAccessInterceptor(ListAccessService listAccessService) {
+        this.listAccessService = listAccessService;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> uriVariables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (uriVariables == null || !uriVariables.containsKey(LIST_ID_VARIABLE)) {
+            return true;
+        }
+
+        Long listId = parseListId(uriVariables.get(LIST_ID_VARIABLE));
+        listAccessService.checkAccess(listId, requiredLevel(handlerMethod, request.getMethod()));
+        return true;
+    }
+
+    private ListAccessLevel requiredLevel(HandlerMethod handlerMethod, String method) {
+        RequiresListAccess annotation = handlerMethod.getMethodAnnotation(RequiresListAccess.class);
+        if (annotation != null) {
+            return annotation.value();
+        }
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? ListAccessLevel.READ
+                : ListAccessLevel.WRITE;
+    }
+
+    private Long parseListId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid list id: " + value);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.omatheusmesmo.shoppmate.list.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ListAccessWebConfig implements WebMvcConfigurer {
+
+    private final ListAccessInterceptor listAccessInterceptor;
+
+    public ListAccessWebConfig(ListAccessInterceptor listAccessInterceptor) {
+        this.listAccessInterceptor = listAccessInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(listAccessInterceptor).addPathPatterns("/lists/**");
+    }
+}
@@ -0,0 +1,19 @@
+package com.omatheusmesmo.shoppmate.list.configs;
+
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the access level {@link ListAccessInterceptor} requires for a handler. Without it, safe HTTP methods
+ * require {@link ListAccessLevel#READ} and everything else {@link ListAccessLevel#WRITE}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresListAccess {
+
+    ListAccessLevel value();
+}
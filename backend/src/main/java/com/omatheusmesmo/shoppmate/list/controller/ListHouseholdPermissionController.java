@@ -0,0 +1,53 @@
+package com.omatheusmesmo.shoppmate.list.controller;
+
+import com.omatheusmesmo.shoppmate.list.configs.RequiresListAccess;
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListHouseholdPermissionSummaryDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionUpdateRequestDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
+import com.omatheusmesmo.shoppmate.list.entity.ListHouseholdPermission;
+import com.omatheusmesmo.shoppmate.list.mapper.ListPermissionMapper;
+import com.omatheusmesmo.shoppmate.list.service.ListHouseholdPermissionService;
+import com.omatheusmesmo.shoppmate.utils.HttpResponseUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/lists/{listId}/households")
+public class ListHouseholdPermissionController {
+
+    @Autowired
+    private ListHouseholdPermissionService service;
+
+    @Autowired
+    private ListPermissionMapper listPermissionMapper;
+
+    @Operation(description = "Return the households a list is shared with")
+    @GetMapping
+    public ResponseEntity<List<ListHouseholdPermissionSummaryDTO>> getAllHouseholdPermissions(
+            @PathVariable Long listId) {
+        List<ListHouseholdPermission> permissions = service.findAllByListId(listId);
+        return HttpResponseUtil.ok(permissions.stream().map(listPermissionMapper::toSummaryDTO).toList());
+    }
+
+    @Operation(summary = "Share a list with a household, or change its permission")
+    @PutMapping("/{householdId}")
+    @RequiresListAccess(ListAccessLevel.OWNER)
+    public ResponseEntity<ListHouseholdPermissionSummaryDTO> grantHouseholdPermission(@PathVariable Long listId,
+            @PathVariable Long householdId, @Valid @RequestBody ListPermissionUpdateRequestDTO requestDTO) {
+        ListHouseholdPermission permission = service.grantPermission(listId, householdId, requestDTO.permission());
+        return HttpResponseUtil.ok(listPermissionMapper.toSummaryDTO(permission));
+    }
+
+    @Operation(summary = "Stop sharing a list with a household")
+    @DeleteMapping("/{householdId}")
+    @RequiresListAccess(ListAccessLevel.OWNER)
+    public ResponseEntity<Void> revokeHouseholdPermission(@PathVariable Long listId, @PathVariable Long householdId) {
+        service.revokePermission(listId, householdId);
+        return HttpResponseUtil.noContent();
+    }
+}
@@ -1,5 +1,8 @@
 package com.omatheusmesmo.shoppmate.list.controller;
 
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemOrder;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemParseRequestDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemParseResultDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ListItemRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ListItemResponseDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ListItemSummaryDTO;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -30,27 +34,35 @@ public class ListItemController {
 
     @Operation(summary = "Get a specific ListItem by its ID within a ShoppingList")
     @GetMapping("/{id}")
-    public ResponseEntity<ListItemResponseDTO> getListItemById(@PathVariable Long id) {
+    public ResponseEntity<ListItemResponseDTO> getListItemById(@PathVariable Long listId, @PathVariable Long id) {
 
-        ListItem listItem = service.findListItemById(id);
+        ListItem listItem = service.findListItemById(listId, id);
 
         ListItemResponseDTO responseDTO = listItemMapper.toResponseDTO(listItem);
         return HttpResponseUtil.ok(responseDTO);
     }
 
-    @Operation(description = "Return all ListItems for a specific ShoppingList")
+    @Operation(description = "Return the ListItems of a ShoppingList, optionally filtered and ordered")
     @GetMapping
-    public ResponseEntity<List<ListItemSummaryDTO>> getAllListItemsByListId(@PathVariable Long listId) {
-        List<ListItem> listItems = service.findAll(listId);
-
-        List<ListItemSummaryDTO> responseDTOs = listItems.stream().map(listItemMapper::toSummaryDTO).toList();
+    public ResponseEntity<List<ListItemSummaryDTO>> getAllListItemsByListId(@PathVariable Long listId,
+            @RequestParam(required = false) Boolean purchased, @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String order, @RequestParam(required = false) String store,
+            Principal principal) {
+        ListItemOrder listItemOrder = ListItemOrder.from(order);
+        List<ListItemSummaryDTO> responseDTOs = listItemOrder == ListItemOrder.AISLE
+                ? service.findAllInAisleOrder(listId, purchased, categoryId, principal.getName(), store)
+                : service.findAll(listId, purchased, categoryId, listItemOrder);
 
         return HttpResponseUtil.ok(responseDTOs);
     }
 
     @Operation(summary = "Add a new ListItem")
     @PostMapping
-    public ResponseEntity<ListItemResponseDTO> addListItem(@Valid @RequestBody ListItemRequestDTO requestDTO) {
+    public ResponseEntity<ListItemResponseDTO> addListItem(@PathVariable Long listId,
+            @Valid @RequestBody ListItemRequestDTO requestDTO) {
+        if (!listId.equals(requestDTO.listId())) {
+            throw new IllegalArgumentException("List ID in the path and in the body must match!");
+        }
         ListItem addedListItem = service.addShoppItemList(requestDTO);
         ListItemResponseDTO responseDTO = listItemMapper.toResponseDTO(addedListItem);
 
@@ -60,20 +72,27 @@ public class ListItemController {
         return ResponseEntity.created(location).body(responseDTO);
     }
 
+    @Operation(summary = "Add the items named in free text", description = "Finds catalog items anywhere in the text, with an optional quantity and unit before each (\"2 kg tomates, 1 leite\"), and adds them all at once.")
+    @PostMapping("/parse")
+    public ResponseEntity<ListItemParseResultDTO> addParsedListItems(@PathVariable Long listId,
+            @Valid @RequestBody ListItemParseRequestDTO requestDTO) {
+        return HttpResponseUtil.created(service.addParsedItems(listId, requestDTO.text()));
+    }
+
     @Operation(summary = "Delete a ListItem by id")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteListItem(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteListItem(@PathVariable Long listId, @PathVariable Long id) {
 
-        service.removeList(id);
+        service.removeList(listId, id);
         return HttpResponseUtil.noContent();
     }
 
     @Operation(summary = "Update a ListItem")
     @PutMapping("/{id}")
-    public ResponseEntity<ListItemResponseDTO> updateListItem(@PathVariable Long id,
+    public ResponseEntity<ListItemResponseDTO> updateListItem(@PathVariable Long listId, @PathVariable Long id,
             @Valid @RequestBody ListItemUpdateRequestDTO requestDTO) {
 
-        ListItem updatedListItem = service.editList(id, requestDTO);
+        ListItem updatedListItem = service.editList(listId, id, requestDTO);
 
         ListItemResponseDTO responseDTO = listItemMapper.toResponseDTO(updatedListItem);
         return HttpResponseUtil.ok(responseDTO);
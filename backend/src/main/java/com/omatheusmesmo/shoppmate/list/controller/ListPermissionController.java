@@ -1,9 +1,12 @@
 package com.omatheusmesmo.shoppmate.list.controller;
 
+import com.omatheusmesmo.shoppmate.list.configs.RequiresListAccess;
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionBatchRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionResponseDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionUpdateRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionSummaryDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
 import com.omatheusmesmo.shoppmate.list.entity.ListPermission;
 import com.omatheusmesmo.shoppmate.list.mapper.ListPermissionMapper;
 import com.omatheusmesmo.shoppmate.list.service.ListPermissionService;
@@ -39,8 +42,12 @@ public class ListPermissionController {
 
     @Operation(summary = "Add a new ListPermission")
     @PostMapping
-    public ResponseEntity<ListPermissionResponseDTO> addListPermission(
+    @RequiresListAccess(ListAccessLevel.OWNER)
+    public ResponseEntity<ListPermissionResponseDTO> addListPermission(@PathVariable Long listId,
             @Valid @RequestBody ListPermissionRequestDTO requestDTO) {
+        if (!listId.equals(requestDTO.idList())) {
+            throw new IllegalArgumentException("List ID in the path and in the body must match!");
+        }
         ListPermission addedListPermission = service.addListPermission(requestDTO);
         ListPermissionResponseDTO responseDTO = listPermissionMapper.toResponseDTO(addedListPermission);
 
@@ -50,19 +57,40 @@ public class ListPermissionController {
         return ResponseEntity.created(location).body(responseDTO);
     }
 
+    @Operation(summary = "Grant or update permissions of several users in one request")
+    @PostMapping("/batch")
+    @RequiresListAccess(ListAccessLevel.OWNER)
+    public ResponseEntity<List<ListPermissionSummaryDTO>> addListPermissions(@PathVariable Long listId,
+            @Valid @RequestBody ListPermissionBatchRequestDTO requestDTO) {
+        List<ListPermission> listPermissions = service.addListPermissions(listId, requestDTO);
+        List<ListPermissionSummaryDTO> responseDTOs = listPermissions.stream().map(listPermissionMapper::toSummaryDTO)
+                .toList();
+        return HttpResponseUtil.ok(responseDTOs);
+    }
+
+    @Operation(summary = "Revoke the permissions of several users in one request")
+    @DeleteMapping
+    @RequiresListAccess(ListAccessLevel.OWNER)
+    public ResponseEntity<Void> deleteListPermissions(@PathVariable Long listId, @RequestParam List<Long> userIds) {
+        service.removeListPermissions(listId, userIds);
+        return HttpResponseUtil.noContent();
+    }
+
     @Operation(summary = "Delete a ListPermission by id")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteListPermission(@PathVariable Long id) {
-        service.removeList(id);
+    @RequiresListAccess(ListAccessLevel.OWNER)
+    public ResponseEntity<Void> deleteListPermission(@PathVariable Long listId, @PathVariable Long id) {
+        service.removeList(listId, id);
         return HttpResponseUtil.noContent();
     }
 
     @Operation(summary = "Update a ListPermission")
     @PutMapping("/{id}")
-    public ResponseEntity<ListPermissionResponseDTO> updateListPermission(@PathVariable Long id,
-            @Valid @RequestBody ListPermissionUpdateRequestDTO requestDTO) {
+    @RequiresListAccess(ListAccessLevel.OWNER)
+    public ResponseEntity<ListPermissionResponseDTO> updateListPermission(@PathVariable Long listId,
+            @PathVariable Long id, @Valid @RequestBody ListPermissionUpdateRequestDTO requestDTO) {
 
-        ListPermission updatedListPermission = service.editList(id, requestDTO);
+        ListPermission updatedListPermission = service.editList(listId, id, requestDTO);
         ListPermissionResponseDTO responseDTO = listPermissionMapper.toResponseDTO(updatedListPermission);
 
         return ResponseEntity.ok(responseDTO);
@@ -1,11 +1,18 @@
 package com.omatheusmesmo.shoppmate.list.controller;
 
+import com.omatheusmesmo.shoppmate.list.configs.RequiresListAccess;
+import com.omatheusmesmo.shoppmate.list.dtos.ConsolidatedListItemDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ShoppingListRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ShoppingListResponseDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ShoppingListUpdateRequestDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
 import com.omatheusmesmo.shoppmate.list.mapper.ListMapper;
+import com.omatheusmesmo.shoppmate.list.service.ListAccessService;
+import com.omatheusmesmo.shoppmate.list.service.ListItemService;
 import com.omatheusmesmo.shoppmate.list.service.ShoppingListService;
+import com.omatheusmesmo.shoppmate.store.dto.StoreBasketCostDTO;
+import com.omatheusmesmo.shoppmate.store.service.BasketCostService;
 import com.omatheusmesmo.shoppmate.utils.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -18,7 +25,6 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import java.net.URI;
 import java.util.List;
 
-// TODO: return only lists owned by the user or that are shared with him
 @RestController
 @RequestMapping("/lists")
 public class ShoppingListController {
@@ -29,28 +35,50 @@ public class ShoppingListController {
     @Autowired
     private ListMapper listMapper;
 
-    @Operation(description = "Return all Shopping Lists")
+    @Autowired
+    private ListAccessService listAccessService;
+
+    @Autowired
+    private ListItemService listItemService;
+
+    @Autowired
+    private BasketCostService basketCostService;
+
+    @Operation(description = "Return the Shopping Lists owned by or shared with the current user")
     @GetMapping
     public ResponseEntity<List<ShoppingListResponseDTO>> getAllShoppingLists() {
-        List<ShoppingList> shoppingLists = service.findAll();
+        List<ShoppingList> shoppingLists = service.findAllAccessible(listAccessService.currentUserId());
 
         List<ShoppingListResponseDTO> responseDTOs = shoppingLists.stream().map(listMapper::toResponseDTO).toList();
         return HttpResponseUtil.ok(responseDTOs);
     }
 
+    @Operation(summary = "Return the items of several Shopping Lists merged into one view", description = "Quantities of the same item are added up in the item's unit, converting between units of the same dimension.")
+    @GetMapping("/consolidated")
+    public ResponseEntity<List<ConsolidatedListItemDTO>> getConsolidatedListItems(@RequestParam List<Long> ids,
+            @RequestParam(required = false) Boolean purchased) {
+        return HttpResponseUtil.ok(listItemService.findConsolidated(ids, purchased));
+    }
+
     @Operation(description = "Return a Shopping List by ID")
-    @GetMapping("/{id}")
-    public ResponseEntity<ShoppingListResponseDTO> getShoppingListById(@PathVariable Long id) {
-        ShoppingList shoppingList = service.findListById(id);
+    @GetMapping("/{listId}")
+    public ResponseEntity<ShoppingListResponseDTO> getShoppingListById(@PathVariable Long listId) {
+        ShoppingList shoppingList = service.findListById(listId);
         ShoppingListResponseDTO responseDTO = listMapper.toResponseDTO(shoppingList);
         return HttpResponseUtil.ok(responseDTO);
     }
 
+    @Operation(summary = "Return what the still-to-buy items of a Shopping List cost at each store", description = "Stores pricing the most items come first, then the cheapest.")
+    @GetMapping("/{listId}/basket-cost")
+    public ResponseEntity<List<StoreBasketCostDTO>> getBasketCost(@PathVariable Long listId,
+            @RequestParam(required = false) Integer limit) {
+        return HttpResponseUtil.ok(basketCostService.findBasketCosts(listId, limit));
+    }
+
     @Operation(summary = "Add a new Shopping List")
     @PostMapping
     public ResponseEntity<ShoppingListResponseDTO> addShoppingList(@Valid @RequestBody ShoppingListRequestDTO dto) {
-        ShoppingList shoppingList = listMapper.toEntity(dto);
-        ShoppingList savedList = service.saveList(shoppingList);
+        ShoppingList savedList = service.addList(dto);
         ShoppingListResponseDTO responseDTO = listMapper.toResponseDTO(savedList);
 
         URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(savedList.getId())
@@ -60,22 +88,19 @@ public class ShoppingListController {
     }
 
     @Operation(summary = "Delete a Shopping List by id")
-    @DeleteMapping("/{id}")
+    @DeleteMapping("/{listId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteShoppingList(@PathVariable Long id) {
-        service.removeList(id);
+    @RequiresListAccess(ListAccessLevel.OWNER)
+    public void deleteShoppingList(@PathVariable Long listId) {
+        service.removeList(listId);
     }
 
     @Operation(summary = "Update a Shopping List")
-    @PutMapping("/{id}")
-    public ResponseEntity<ShoppingListResponseDTO> updateShoppingList(@PathVariable Long id,
+    @PutMapping("/{listId}")
+    public ResponseEntity<ShoppingListResponseDTO> updateShoppingList(@PathVariable Long listId,
             @Valid @RequestBody ShoppingListUpdateRequestDTO requestDTO) {
 
-        ShoppingList existingList = service.findListById(id);
-
-        listMapper.updateEntityFromDto(requestDTO, existingList);
-
-        ShoppingList updatedList = service.editList(existingList);
+        ShoppingList updatedList = service.editList(listId, requestDTO);
 
         ShoppingListResponseDTO responseDTO = listMapper.toResponseDTO(updatedList);
 
@@ -0,0 +1,8 @@
+package com.omatheusmesmo.shoppmate.list.dtos;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record ConsolidatedListItemDTO(Long itemId, String itemName, BigDecimal quantity, String unit,
+        List<Long> listIds) {
+}
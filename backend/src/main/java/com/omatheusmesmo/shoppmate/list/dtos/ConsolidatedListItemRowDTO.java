@@ -0,0 +1,5 @@
+package com.omatheusmesmo.shoppmate.list.dtos;
+
+public record ConsolidatedListItemRowDTO(Long itemId, String itemName, Long itemUnitId, Long unitId, Long quantity,
+        String listIds) {
+}
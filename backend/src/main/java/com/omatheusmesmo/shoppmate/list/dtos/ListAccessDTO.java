@@ -0,0 +1,6 @@
+package com.omatheusmesmo.shoppmate.list.dtos;
+
+import com.omatheusmesmo.shoppmate.list.entity.Permission;
+
+public record ListAccessDTO(Long ownerId, Permission permission) {
+}
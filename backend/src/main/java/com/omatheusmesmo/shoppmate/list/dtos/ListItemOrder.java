@@ -0,0 +1,31 @@
+package com.omatheusmesmo.shoppmate.list.dtos;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+
+public enum ListItemOrder {
+    NAME(Sort.by("item.name", "id")), CATEGORY(Sort.by("item.category.name", "item.name", "id")),
+    CREATED(Sort.by("createdAt", "id")), AISLE(Sort.unsorted());
+
+    private final Sort sort;
+
+    ListItemOrder(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public static ListItemOrder from(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid order: " + value + ". Use name, category, created or aisle.");
+        }
+    }
+}
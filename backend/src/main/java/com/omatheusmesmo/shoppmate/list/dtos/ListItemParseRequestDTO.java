@@ -0,0 +1,8 @@
+package com.omatheusmesmo.shoppmate.list.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record ListItemParseRequestDTO(
+        @NotBlank(message = "Text cannot be blank") @Size(max = 10000, message = "Text cannot be longer than 10000 characters") String text) {
+}
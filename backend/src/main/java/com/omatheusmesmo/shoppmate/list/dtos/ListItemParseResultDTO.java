@@ -0,0 +1,7 @@
+package com.omatheusmesmo.shoppmate.list.dtos;
+
+import java.util.List;
+
+public record ListItemParseResultDTO(List<ParsedListItemDTO> added, List<String> unmatched,
+        List<String> alreadyOnList) {
+}
@@ -3,6 +3,9 @@ package com.omatheusmesmo.shoppmate.list.dtos;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.UUID;
+
 public record ListItemRequestDTO(@NotNull(message = "List ID cannot be null") Long listId,
-        @NotNull(message = "Item ID cannot be null") Long itemId, @Min(1) Integer quantity) {
+        @NotNull(message = "Item ID cannot be null") Long itemId, @Min(1) Integer quantity, Long unitId,
+        UUID publicId) {
 }
@@ -4,6 +4,8 @@ import com.omatheusmesmo.shoppmate.item.dto.ItemResponseDTO;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.UUID;
+
 public record ListItemResponseDTO(ShoppingListResponseDTO shoppingList, ItemResponseDTO item, Long idListItem,
-        Integer quantity, Boolean purchased) {
+        UUID publicId, Integer quantity, String unit, Boolean purchased) {
 }
@@ -1,4 +1,5 @@
 package com.omatheusmesmo.shoppmate.list.dtos;
 
-public record ListItemSummaryDTO(Long idListItem, Long itemId, String itemName, Integer quantity, Boolean purchased) {
+public record ListItemSummaryDTO(Long idListItem, Long itemId, String itemName, Integer quantity, String unit,
+        Boolean purchased) {
 }
@@ -5,5 +5,5 @@ import jakarta.validation.constraints.NotNull;
 
 public record ListItemUpdateRequestDTO(@NotNull(message = "List ID cannot be null") Long listId,
         @NotNull(message = "Item ID cannot be null") Long itemId, @Min(1) Integer quantity,
-        @NotNull(message = "Purchased field cannot be null") Boolean purchased) {
+        @NotNull(message = "Purchased field cannot be null") Boolean purchased, Long unitId) {
 }
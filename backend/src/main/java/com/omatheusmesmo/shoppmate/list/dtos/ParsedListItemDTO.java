@@ -0,0 +1,4 @@
+package com.omatheusmesmo.shoppmate.list.dtos;
+
+public record ParsedListItemDTO(Long idListItem, Long itemId, String itemName, Integer quantity, String unit) {
+}
@@ -3,6 +3,8 @@ package com.omatheusmesmo.shoppmate.list.dtos;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.UUID;
+
 public record ShoppingListRequestDTO(@NotBlank(message = "List name cannot be blank") String name,
-        @NotNull(message = "User ID cannot be null") Long idUser) {
+        @NotNull(message = "User ID cannot be null") Long idUser, UUID publicId) {
 }
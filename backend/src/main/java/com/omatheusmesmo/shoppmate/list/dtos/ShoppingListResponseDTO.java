@@ -2,5 +2,7 @@ package com.omatheusmesmo.shoppmate.list.dtos;
 
 import com.omatheusmesmo.shoppmate.user.dtos.UserResponseDTO;
 
-public record ShoppingListResponseDTO(Long idList, String listName, UserResponseDTO owner) {
+import java.util.UUID;
+
+public record ShoppingListResponseDTO(Long idList, UUID publicId, String listName, UserResponseDTO owner) {
 }
@@ -0,0 +1,7 @@
+package com.omatheusmesmo.shoppmate.list.dtos.listpermission;
+
+import com.omatheusmesmo.shoppmate.list.entity.Permission;
+
+public record ListHouseholdPermissionSummaryDTO(Long id, Long idHousehold, String householdName,
+        Permission permission) {
+}
@@ -0,0 +1,13 @@
+package com.omatheusmesmo.shoppmate.list.dtos.listpermission;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ListPermissionBatchRequestDTO(
+        @NotEmpty(message = "Permissions cannot be empty") @Size(max = MAX_PERMISSIONS, message = "At most 500 permissions per request") List<@Valid ListPermissionGrantDTO> permissions) {
+
+    public static final int MAX_PERMISSIONS = 500;
+}
@@ -0,0 +1,16 @@
+package com.omatheusmesmo.shoppmate.list.entity;
+
+public enum ListAccessLevel {
+    NONE, READ, WRITE, OWNER;
+
+    public static ListAccessLevel from(Permission permission) {
+        if (permission == null) {
+            return NONE;
+        }
+        return permission == Permission.WRITE ? WRITE : READ;
+    }
+
+    public boolean allows(ListAccessLevel required) {
+        return compareTo(required) >= 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.omatheusmesmo.shoppmate.list.entity;
+
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import com.omatheusmesmo.shoppmate.shared.domain.BaseAuditableEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+@Entity
+@Table(name = "list_household_permissions")
+@SQLRestriction("deleted = false")
+@Getter
+@Setter
+public class ListHouseholdPermission extends BaseAuditableEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_list", nullable = false)
+    private ShoppingList shoppingList;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_household", nullable = false)
+    private Household household;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "permission_type")
+    private Permission permission;
+}
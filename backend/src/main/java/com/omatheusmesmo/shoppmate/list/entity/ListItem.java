@@ -2,20 +2,30 @@ package com.omatheusmesmo.shoppmate.list.entity;
 
 import com.omatheusmesmo.shoppmate.item.entity.Item;
 import com.omatheusmesmo.shoppmate.shared.domain.BaseAuditableEntity;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.utils.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.util.UUID;
 
 @Entity
 @Table(name = "list_items")
+@SQLRestriction("deleted = false")
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class ListItem extends BaseAuditableEntity {
 
+    // Chosen by the client when the item was added offline, as for lists.
+    @Column(name = "public_id", nullable = false, updatable = false)
+    private UUID publicId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_list", nullable = false)
     private ShoppingList shoppList;
@@ -26,4 +36,16 @@ public class ListItem extends BaseAuditableEntity {
 
     private Integer quantity;
     private Boolean purchased = false;
+
+    // Unit the quantity is given in when it differs from the item's own; it always converts to the item's unit.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_unit")
+    private Unit unit;
+
+    @PrePersist
+    private void assignPublicId() {
+        if (publicId == null) {
+            publicId = UuidV7.generate();
+        }
+    }
 }
@@ -5,9 +5,11 @@ import com.omatheusmesmo.shoppmate.shared.domain.BaseAuditableEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "list_user_permissions")
+@SQLRestriction("deleted = false")
 @Getter
 @Setter
 public class ListPermission extends BaseAuditableEntity {
@@ -20,6 +22,7 @@ public class ListPermission extends BaseAuditableEntity {
     @JoinColumn(name = "id_user", nullable = false)
     private User user;
 
+    @Enumerated(EnumType.STRING)
     @Column(name = "permission_type")
     private Permission permission;
 }
@@ -2,21 +2,37 @@ package com.omatheusmesmo.shoppmate.list.entity;
 
 import com.omatheusmesmo.shoppmate.user.entity.User;
 import com.omatheusmesmo.shoppmate.shared.domain.DomainEntity;
+import com.omatheusmesmo.shoppmate.utils.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.util.UUID;
 
 @Entity
 @Table(name = "lists")
+@SQLRestriction("deleted = false")
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class ShoppingList extends DomainEntity {
 
+    // Time-ordered UUIDv7 a client may choose before the row exists, to create it offline and sync it later.
+    @Column(name = "public_id", nullable = false, updatable = false)
+    private UUID publicId;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id_user", nullable = false)
     private User owner;
+
+    @PrePersist
+    private void assignPublicId() {
+        if (publicId == null) {
+            publicId = UuidV7.generate();
+        }
+    }
 }
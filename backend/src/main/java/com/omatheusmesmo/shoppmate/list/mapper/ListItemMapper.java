@@ -7,6 +7,9 @@ import com.omatheusmesmo.shoppmate.list.dtos.ListItemResponseDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ListItemSummaryDTO;
 import com.omatheusmesmo.shoppmate.list.entity.ListItem;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import com.omatheusmesmo.shoppmate.shared.jfr.MapperConversions;
+import com.omatheusmesmo.shoppmate.shared.jfr.MapperConversions.Mapper;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -19,22 +22,33 @@ public class ListItemMapper {
     @Autowired
     private ItemMapper itemMapper;
 
+    @Autowired
+    private UnitRegistry unitRegistry;
+
     public ListItem toEntity(ListItemRequestDTO dto, Item item, ShoppingList shoppingList) {
         ListItem listItem = new ListItem();
         listItem.setShoppList(shoppingList);
         listItem.setItem(item);
         listItem.setQuantity(dto.quantity());
+        listItem.setPublicId(dto.publicId());
         return listItem;
     }
 
     public ListItemResponseDTO toResponseDTO(ListItem listItem) {
+        MapperConversions.count(Mapper.LIST_ITEM);
         return new ListItemResponseDTO(listMapper.toResponseDTO(listItem.getShoppList()),
-                itemMapper.toResponseDTO(listItem.getItem()), listItem.getId(), listItem.getQuantity(),
-                listItem.getPurchased());
+                itemMapper.toResponseDTO(listItem.getItem()), listItem.getId(), listItem.getPublicId(),
+                listItem.getQuantity(), unitSymbol(listItem), listItem.getPurchased());
     }
 
     public ListItemSummaryDTO toSummaryDTO(ListItem listItem) {
+        MapperConversions.count(Mapper.LIST_ITEM);
         return new ListItemSummaryDTO(listItem.getId(), listItem.getItem().getId(), listItem.getItem().getName(),
-                listItem.getQuantity(), listItem.getPurchased());
+                listItem.getQuantity(), unitSymbol(listItem), listItem.getPurchased());
+    }
+
+    private String unitSymbol(ListItem listItem) {
+        Long unitId = listItem.getUnit() != null ? listItem.getUnit().getId() : listItem.getItem().getUnit().getId();
+        return unitRegistry.get(unitId).symbol();
     }
 }
@@ -4,6 +4,8 @@ import com.omatheusmesmo.shoppmate.list.dtos.ShoppingListRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ShoppingListResponseDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ShoppingListUpdateRequestDTO;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import com.omatheusmesmo.shoppmate.shared.jfr.MapperConversions;
+import com.omatheusmesmo.shoppmate.shared.jfr.MapperConversions.Mapper;
 import com.omatheusmesmo.shoppmate.user.dtos.UserResponseDTO;
 import com.omatheusmesmo.shoppmate.user.entity.User;
 import com.omatheusmesmo.shoppmate.user.mapper.UserMapper;
@@ -29,6 +31,7 @@ public class ListMapper {
         }
         ShoppingList entity = new ShoppingList();
         entity.setName(dto.name());
+        entity.setPublicId(dto.publicId());
 
         User owner = userService.findUser(dto.idUser());
         entity.setOwner(owner);
@@ -40,10 +43,11 @@ public class ListMapper {
         if (entity == null) {
             return null;
         }
+        MapperConversions.count(Mapper.LIST);
 
         UserResponseDTO ownerDTO = userMapper.toResponseDTO(entity.getOwner());
 
-        return new ShoppingListResponseDTO(entity.getId(), entity.getName(), ownerDTO);
+        return new ShoppingListResponseDTO(entity.getId(), entity.getPublicId(), entity.getName(), ownerDTO);
     }
 
     public void updateEntityFromDto(ShoppingListUpdateRequestDTO dto, ShoppingList entity) {
@@ -1,12 +1,11 @@
 package com.omatheusmesmo.shoppmate.list.mapper;
 
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListHouseholdPermissionSummaryDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionSummaryDTO;
 import com.omatheusmesmo.shoppmate.user.dtos.UserResponseDTO;
-import com.omatheusmesmo.shoppmate.user.entity.User;
-import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionResponseDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListHouseholdPermission;
 import com.omatheusmesmo.shoppmate.list.entity.ListPermission;
-import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -16,14 +15,6 @@ public class ListPermissionMapper {
     @Autowired
     private ListMapper listMapper;
 
-    public ListPermission toEntity(ListPermissionRequestDTO dto, ShoppingList shoppingList, User user) {
-        ListPermission listPermission = new ListPermission();
-        listPermission.setShoppingList(shoppingList);
-        listPermission.setPermission(dto.permission());
-        listPermission.setUser(user);
-        return listPermission;
-    }
-
     public ListPermissionResponseDTO toResponseDTO(ListPermission listPermission) {
         UserResponseDTO userResponseDTO = new UserResponseDTO(listPermission.getUser().getId(),
                 listPermission.getUser().getFullName(), listPermission.getUser().getEmail());
@@ -37,4 +28,10 @@ public class ListPermissionMapper {
         return new ListPermissionSummaryDTO(listPermission.getId(), listPermission.getUser().getFullName(),
                 listPermission.getUser().getEmail(), listPermission.getPermission());
     }
+
+    public ListHouseholdPermissionSummaryDTO toSummaryDTO(ListHouseholdPermission listHouseholdPermission) {
+        return new ListHouseholdPermissionSummaryDTO(listHouseholdPermission.getId(),
+                listHouseholdPermission.getHousehold().getId(), listHouseholdPermission.getHousehold().getName(),
+                listHouseholdPermission.getPermission());
+    }
 }
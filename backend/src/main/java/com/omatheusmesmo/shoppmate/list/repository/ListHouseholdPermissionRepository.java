@@ -0,0 +1,35 @@
+package com.omatheusmesmo.shoppmate.list.repository;
+
+import com.omatheusmesmo.shoppmate.list.entity.ListHouseholdPermission;
+import com.omatheusmesmo.shoppmate.list.entity.Permission;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ListHouseholdPermissionRepository extends JpaRepository<ListHouseholdPermission, Long> {
+
+    @Query("""
+            SELECT lhp.permission FROM ListHouseholdPermission lhp
+            JOIN lhp.household h
+            WHERE lhp.shoppingList.id = :listId AND h.id IN :householdIds AND h.deleted = false
+            """)
+    List<Permission> findPermissionsByListIdAndHouseholdIds(@Param("listId") Long listId,
+            @Param("householdIds") Collection<Long> householdIds);
+
+    @EntityGraph(attributePaths = "household")
+    List<ListHouseholdPermission> findByShoppingListIdAndHouseholdDeletedFalse(Long listId);
+
+    Optional<ListHouseholdPermission> findByShoppingListIdAndHouseholdId(Long listId, Long householdId);
+
+    // Native, so a revoked permission is found and revived instead of colliding with the (list, household) key.
+    @Query(value = "SELECT * FROM list_household_permissions WHERE id_list = :listId AND id_household = :householdId", nativeQuery = true)
+    Optional<ListHouseholdPermission> findIncludingDeleted(@Param("listId") Long listId,
+            @Param("householdId") Long householdId);
+}
@@ -1,19 +1,92 @@
 package com.omatheusmesmo.shoppmate.list.repository;
 
+import com.omatheusmesmo.shoppmate.list.dtos.ConsolidatedListItemRowDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemSummaryDTO;
 import com.omatheusmesmo.shoppmate.list.entity.ListItem;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface ListItemRepository extends JpaRepository<ListItem, Long> {
 
     List<ListItem> findByShoppListId(Long shoppListId);
 
-    List<ListItem> findByShoppListIdAndDeletedFalse(Long shoppListId);
+    @Query("SELECT DISTINCT li.shoppList.id FROM ListItem li WHERE li.item.id IN :itemIds")
+    List<Long> findListIdsByItemIds(@Param("itemIds") Collection<Long> itemIds);
 
-    Optional<ListItem> findByIdAndDeletedFalse(Long id);
+    // The list, its owner and the item are what a ListItemResponseDTO shows.
+    @Override
+    @EntityGraph(attributePaths = { "shoppList.owner", "item" })
+    Optional<ListItem> findById(Long id);
+
+    @EntityGraph(attributePaths = { "shoppList.owner", "item" })
+    Optional<ListItem> findByIdAndShoppListId(Long id, Long shoppListId);
+
+    @EntityGraph(attributePaths = { "shoppList.owner", "item" })
+    Optional<ListItem> findByPublicId(UUID publicId);
+
+    // Native, so the public id of a removed list item is still seen as taken.
+    @Query(value = "SELECT COUNT(*) > 0 FROM list_items WHERE public_id = :publicId", nativeQuery = true)
+    boolean existsByPublicIdIncludingDeleted(@Param("publicId") UUID publicId);
+
+    boolean existsByUnitId(Long unitId);
+
+    boolean existsByShoppListIdAndItemId(Long shoppListId, Long itemId);
+
+    @Query("SELECT li.item.id FROM ListItem li WHERE li.shoppList.id = :listId AND li.item.id IN :itemIds")
+    List<Long> findItemIdsByListId(@Param("listId") Long listId, @Param("itemIds") Collection<Long> itemIds);
+
+    @Query("""
+            SELECT new com.omatheusmesmo.shoppmate.list.dtos.ListItemSummaryDTO(li.id, i.id, i.name, li.quantity,
+                COALESCE(lu.symbol, u.symbol), li.purchased)
+            FROM ListItem li JOIN li.item i JOIN i.unit u LEFT JOIN li.unit lu
+            WHERE li.shoppList.id = :listId
+            AND (:purchased IS NULL OR li.purchased = :purchased)
+            AND (:categoryId IS NULL OR i.category.id IN (
+                SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :categoryId))
+            """)
+    List<ListItemSummaryDTO> findSummariesByListId(@Param("listId") Long listId, @Param("purchased") Boolean purchased,
+            @Param("categoryId") Long categoryId, Sort sort);
+
+    @Query("""
+            SELECT new com.omatheusmesmo.shoppmate.list.dtos.ListItemSummaryDTO(li.id, i.id, i.name, li.quantity,
+                COALESCE(lu.symbol, u.symbol), li.purchased)
+            FROM ListItem li JOIN li.item i JOIN i.unit u LEFT JOIN li.unit lu JOIN i.category c
+            LEFT JOIN CategoryOrder co ON co.categoryId = c.id AND co.store = :store
+                AND co.userId = (SELECT u.id FROM User u WHERE u.email = :email)
+            WHERE li.shoppList.id = :listId
+            AND (:purchased IS NULL OR li.purchased = :purchased)
+            AND (:categoryId IS NULL OR c.id IN (
+                SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :categoryId))
+            ORDER BY co.position NULLS LAST, c.name, i.name, li.id
+            """)
+    List<ListItemSummaryDTO> findSummariesByListIdInAisleOrder(@Param("listId") Long listId,
+            @Param("purchased") Boolean purchased, @Param("categoryId") Long categoryId, @Param("email") String email,
+            @Param("store") String store);
+
+    /**
+     * Sums the quantities of the given lists per item and per unit the quantity is given in, with the ids of the lists
+     * each sum comes from.
+     */
+    @Query("""
+            SELECT new com.omatheusmesmo.shoppmate.list.dtos.ConsolidatedListItemRowDTO(i.id, i.name, u.id,
+                COALESCE(lu.id, u.id), SUM(li.quantity), LISTAGG(CAST(li.shoppList.id AS String), ','))
+            FROM ListItem li JOIN li.item i JOIN i.unit u LEFT JOIN li.unit lu
+            WHERE li.shoppList.id IN :listIds
+            AND (:purchased IS NULL OR li.purchased = :purchased)
+            GROUP BY i.id, i.name, u.id, COALESCE(lu.id, u.id)
+            ORDER BY i.name, i.id
+            """)
+    List<ConsolidatedListItemRowDTO> findConsolidatedRows(@Param("listIds") List<Long> listIds,
+            @Param("purchased") Boolean purchased);
 
 }
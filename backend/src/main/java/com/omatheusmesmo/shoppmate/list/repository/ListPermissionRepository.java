@@ -1,13 +1,39 @@
 package com.omatheusmesmo.shoppmate.list.repository;
 
 import com.omatheusmesmo.shoppmate.list.entity.ListPermission;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ListPermissionRepository extends JpaRepository<ListPermission, Long> {
+public interface ListPermissionRepository extends JpaRepository<ListPermission, Long>, ListPermissionRepositoryCustom {
 
-    List<ListPermission> findByShoppingListIdAndDeletedFalse(Long id);
+    @Override
+    @EntityGraph(attributePaths = { "user", "shoppingList.owner" })
+    Optional<ListPermission> findById(Long id);
+
+    @EntityGraph(attributePaths = { "user", "shoppingList.owner" })
+    Optional<ListPermission> findByIdAndShoppingListId(Long id, Long shoppingListId);
+
+    @EntityGraph(attributePaths = "user")
+    List<ListPermission> findByShoppingListId(Long id);
+
+    @EntityGraph(attributePaths = { "user", "shoppingList.owner" })
+    Optional<ListPermission> findByShoppingListIdAndUserId(Long shoppingListId, Long userId);
+
+    @Modifying
+    @Query("""
+            UPDATE ListPermission lp SET lp.deleted = true, lp.updatedAt = :timestamp
+            WHERE lp.shoppingList.id = :listId AND lp.user.id IN :userIds AND lp.deleted = false
+            """)
+    int softDeleteByListIdAndUserIds(@Param("listId") Long listId, @Param("userIds") Collection<Long> userIds,
+            @Param("timestamp") LocalDateTime timestamp);
 }
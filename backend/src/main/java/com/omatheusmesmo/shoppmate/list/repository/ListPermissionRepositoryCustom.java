@@ -0,0 +1,15 @@
+package com.omatheusmesmo.shoppmate.list.repository;
+
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionGrantDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ListPermissionRepositoryCustom {
+
+    /**
+     * Inserts or updates one permission per grant on the (id_list, id_user) unique key in a single JDBC batch, reviving
+     * soft-deleted rows.
+     */
+    void upsertPermissions(Long listId, List<ListPermissionGrantDTO> grants, LocalDateTime timestamp);
+}
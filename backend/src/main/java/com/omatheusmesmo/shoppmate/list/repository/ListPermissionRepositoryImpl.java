@@ -0,0 +1,32 @@
+package com.omatheusmesmo.shoppmate.list.repository;
+
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionGrantDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ListPermissionRepositoryImpl implements ListPermissionRepositoryCustom {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO list_user_permissions (id_list, id_user, permission_type, created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, false)
+            ON CONFLICT (id_list, id_user) DO UPDATE
+            SET permission_type = EXCLUDED.permission_type, updated_at = EXCLUDED.updated_at, deleted = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ListPermissionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertPermissions(Long listId, List<ListPermissionGrantDTO> grants, LocalDateTime timestamp) {
+        Timestamp now = Timestamp.valueOf(timestamp);
+        List<Object[]> rows = grants.stream()
+                .map(grant -> new Object[] { listId, grant.idUser(), grant.permission().name(), now, now }).toList();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+}
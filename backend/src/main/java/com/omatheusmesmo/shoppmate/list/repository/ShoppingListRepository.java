@@ -1,10 +1,45 @@
 package com.omatheusmesmo.shoppmate.list.repository;
 
+import com.omatheusmesmo.shoppmate.list.dtos.ListAccessDTO;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 @Repository
 public interface ShoppingListRepository extends JpaRepository<ShoppingList, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = "owner")
+    Optional<ShoppingList> findById(Long id);
+
+    @EntityGraph(attributePaths = "owner")
+    Optional<ShoppingList> findByPublicId(UUID publicId);
+
+    @Query("""
+            SELECT new com.omatheusmesmo.shoppmate.list.dtos.ListAccessDTO(l.owner.id, lp.permission)
+            FROM ShoppingList l
+            LEFT JOIN ListPermission lp ON lp.shoppingList.id = l.id AND lp.user.id = :userId
+            WHERE l.id = :listId
+            """)
+    Optional<ListAccessDTO> findAccess(@Param("listId") Long listId, @Param("userId") Long userId);
+
+    @Query("""
+            SELECT l FROM ShoppingList l
+            JOIN FETCH l.owner
+            WHERE l.owner.id = :userId OR EXISTS (
+                SELECT 1 FROM ListPermission lp
+                WHERE lp.shoppingList.id = l.id AND lp.user.id = :userId) OR EXISTS (
+                SELECT 1 FROM ListHouseholdPermission lhp
+                JOIN lhp.household h
+                JOIN HouseholdMember hm ON hm.household.id = h.id
+                WHERE lhp.shoppingList.id = l.id AND hm.user.id = :userId AND h.deleted = false)
+            """)
+    List<ShoppingList> findAllAccessibleByUserId(@Param("userId") Long userId);
 }
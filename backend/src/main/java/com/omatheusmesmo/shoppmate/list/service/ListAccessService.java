@@ -0,0 +1,185 @@
+package com.omatheusmesmo.shoppmate.list.service;
+
+import com.omatheusmesmo.shoppmate.auth.service.AuthenticatedUser;
+import com.omatheusmesmo.shoppmate.household.service.HouseholdMembershipIndex;
+import com.omatheusmesmo.shoppmate.list.dtos.ListAccessDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
+import com.omatheusmesmo.shoppmate.list.repository.ListHouseholdPermissionRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ShoppingListRepository;
+import com.omatheusmesmo.shoppmate.shared.cache.CacheInvalidation;
+import com.omatheusmesmo.shoppmate.shared.cache.LongKeyedCache;
+import com.omatheusmesmo.shoppmate.shared.datasource.ReplicaRoutingDataSource;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Resolves what a user may do with a shopping list. Results are cached per (user, list) pair so that the check on every
+ * /lists/{listId}/** request is usually a single array probe; permission changes invalidate the affected pair.
+ * <p>
+ * Every invalidation also bumps a generation for the list or user, striped over a fixed number of counters. A level
+ * resolved while the generation of its list or user changed may predate the change, so it does not stay cached.
+ * <p>
+ * Levels are resolved on the primary, in a read-only transaction of their own, even when the caller's transaction reads
+ * from a replica: a replica may not have applied a revoke yet, and the generations cannot tell, so what it returned
+ * would stay cached for the whole TTL instead of the replica's lag.
+ * <p>
+ * Access comes from list ownership, a direct {@link com.omatheusmesmo.shoppmate.list.entity.ListPermission} or a
+ * permission held by one of the user's households; the highest level wins.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ListAccessService {
+
+    private static final long NO_KEY = -1;
+    private static final long KEY_ID_MASK = 0xFFFFFFFFL;
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ShoppingListRepository shoppingListRepository;
+    private final UserRepository userRepository;
+    private final ListHouseholdPermissionRepository listHouseholdPermissionRepository;
+    private final HouseholdMembershipIndex householdMembershipIndex;
+    private final LongKeyedCache<ListAccessLevel> accessCache;
+    private final AtomicLongArray listGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLongArray userGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final TransactionTemplate primaryRead;
+
+    public ListAccessService(ShoppingListRepository shoppingListRepository, UserRepository userRepository,
+            ListHouseholdPermissionRepository listHouseholdPermissionRepository,
+            HouseholdMembershipIndex householdMembershipIndex, PlatformTransactionManager transactionManager,
+            @Value("${list.access.cache.capacity:16384}") int cacheCapacity,
+            @Value("${list.access.cache.ttl:PT5M}") Duration cacheTtl) {
+        this.shoppingListRepository = shoppingListRepository;
+        this.userRepository = userRepository;
+        this.listHouseholdPermissionRepository = listHouseholdPermissionRepository;
+        this.householdMembershipIndex = householdMembershipIndex;
+        this.accessCache = new LongKeyedCache<>(cacheCapacity, cacheTtl);
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryRead.setReadOnly(true);
+        this.primaryRead.setName(ReplicaRoutingDataSource.PRIMARY_READ);
+    }
+
+    public void checkAccess(Long listId, ListAccessLevel required) {
+        if (!resolveAccess(currentUserId(), listId).allows(required)) {
+            throw new AccessDeniedException("User does not have " + required + " access to list " + listId);
+        }
+    }
+
+    public ListAccessLevel resolveAccess(Long userId, Long listId) {
+        long key = key(userId, listId);
+        ListAccessLevel cached = key == NO_KEY ? null : accessCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long listGeneration = listGenerations.get(stripe(listId));
+        long userGeneration = userGenerations.get(stripe(userId));
+        ListAccessLevel level = primaryRead.execute(status -> loadAccess(userId, listId));
+
+        if (key != NO_KEY) {
+            accessCache.put(key, level);
+            // Checked after the put, as an invalidation running meanwhile may have cleared the cache before it.
+            if (listGenerations.get(stripe(listId)) != listGeneration
+                    || userGenerations.get(stripe(userId)) != userGeneration) {
+                accessCache.invalidate(key);
+            }
+        }
+        return level;
+    }
+
+    private ListAccessLevel loadAccess(Long userId, Long listId) {
+        ListAccessDTO access = shoppingListRepository.findAccess(listId, userId)
+                .orElseThrow(() -> new NoSuchElementException("ShoppingList not found"));
+        ListAccessLevel level = userId.equals(access.ownerId()) ? ListAccessLevel.OWNER
+                : ListAccessLevel.from(access.permission());
+        if (!level.allows(ListAccessLevel.WRITE)) {
+            level = max(level, resolveHouseholdAccess(userId, listId));
+        }
+        return level;
+    }
+
+    private ListAccessLevel resolveHouseholdAccess(Long userId, Long listId) {
+        long[] householdIds = householdMembershipIndex.householdIdsOf(userId);
+        if (householdIds.length == 0) {
+            return ListAccessLevel.NONE;
+        }
+
+        List<Long> ids = Arrays.stream(householdIds).boxed().toList();
+        return listHouseholdPermissionRepository.findPermissionsByListIdAndHouseholdIds(listId, ids).stream()
+                .map(ListAccessLevel::from).reduce(ListAccessLevel.NONE, ListAccessService::max);
+    }
+
+    private static ListAccessLevel max(ListAccessLevel first, ListAccessLevel second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    public Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user");
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.getId();
+        }
+        return userRepository.findByEmail(authentication.getName()).map(User::getId)
+                .orElseThrow(() -> new NoSuchElementException("User not found!"));
+    }
+
+    public void invalidate(Long userId, Long listId) {
+        long key = key(userId, listId);
+        CacheInvalidation.runNowAndAfterCommit(() -> {
+            listGenerations.incrementAndGet(stripe(listId));
+            if (key != NO_KEY) {
+                accessCache.invalidate(key);
+            }
+        });
+    }
+
+    public void invalidateList(Long listId) {
+        long listKey = listId;
+        CacheInvalidation.runNowAndAfterCommit(() -> {
+            listGenerations.incrementAndGet(stripe(listKey));
+            accessCache.invalidateIf(key -> (key & KEY_ID_MASK) == listKey);
+        });
+    }
+
+    public void invalidateUser(Long userId) {
+        long userKey = userId;
+        CacheInvalidation.runNowAndAfterCommit(() -> {
+            userGenerations.incrementAndGet(stripe(userKey));
+            accessCache.invalidateIf(key -> (key >>> 32) == userKey);
+        });
+    }
+
+    private static int stripe(long id) {
+        return Long.hashCode(id) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * Packs both ids into one long while each fits in 31 bits, which covers two billion users and lists; a pair with a
+     * larger id gets {@link #NO_KEY} and is resolved without the cache, as ids are 64-bit and must never collide.
+     */
+    static long key(long userId, long listId) {
+        if ((userId | listId) >>> 31 != 0) {
+            return NO_KEY;
+        }
+        return (userId << 32) | listId;
+    }
+}
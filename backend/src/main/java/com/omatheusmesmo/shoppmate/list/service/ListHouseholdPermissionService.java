@@ -0,0 +1,73 @@
+package com.omatheusmesmo.shoppmate.list.service;
+
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import com.omatheusmesmo.shoppmate.household.service.HouseholdService;
+import com.omatheusmesmo.shoppmate.list.entity.ListHouseholdPermission;
+import com.omatheusmesmo.shoppmate.list.entity.Permission;
+import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import com.omatheusmesmo.shoppmate.list.repository.ListHouseholdPermissionRepository;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
+import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Shares a list with a whole household: one row grants the permission to every current and future member.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
+public class ListHouseholdPermissionService {
+
+    @Autowired
+    private ListHouseholdPermissionRepository listHouseholdPermissionRepository;
+    @Autowired
+    private ShoppingListService shoppingListService;
+    @Autowired
+    private HouseholdService householdService;
+    @Autowired
+    private AuditService auditService;
+    @Autowired
+    private ListAccessService listAccessService;
+
+    public List<ListHouseholdPermission> findAllByListId(Long listId) {
+        return listHouseholdPermissionRepository.findByShoppingListIdAndHouseholdDeletedFalse(listId);
+    }
+
+    @Transactional
+    public ListHouseholdPermission grantPermission(Long listId, Long householdId, Permission permission) {
+        ShoppingList shoppingList = shoppingListService.findListById(listId);
+        Household household = householdService.findHouseholdById(householdId);
+
+        ListHouseholdPermission listHouseholdPermission = listHouseholdPermissionRepository
+                .findIncludingDeleted(listId, householdId).orElse(null);
+        if (listHouseholdPermission == null) {
+            listHouseholdPermission = new ListHouseholdPermission();
+            listHouseholdPermission.setShoppingList(shoppingList);
+            listHouseholdPermission.setHousehold(household);
+            auditService.setAuditData(listHouseholdPermission, true);
+        } else {
+            listHouseholdPermission.setDeleted(false);
+            auditService.setAuditData(listHouseholdPermission, false);
+        }
+        listHouseholdPermission.setPermission(permission);
+        listHouseholdPermissionRepository.save(listHouseholdPermission);
+        listAccessService.invalidateList(listId);
+        return listHouseholdPermission;
+    }
+
+    @Transactional
+    public void revokePermission(Long listId, Long householdId) {
+        ListHouseholdPermission listHouseholdPermission = listHouseholdPermissionRepository
+                .findByShoppingListIdAndHouseholdId(listId, householdId)
+                .orElseThrow(() -> new NoSuchElementException("ListHouseholdPermission not found"));
+        auditService.softDelete(listHouseholdPermission);
+        listHouseholdPermissionRepository.save(listHouseholdPermission);
+        listAccessService.invalidateList(listId);
+    }
+}
@@ -1,23 +1,61 @@
 package com.omatheusmesmo.shoppmate.list.service;
 
+import com.omatheusmesmo.shoppmate.category.service.CategoryOrderService;
 import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.list.dtos.ConsolidatedListItemDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ConsolidatedListItemRowDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemOrder;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemParseResultDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ListItemRequestDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemSummaryDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ListItemUpdateRequestDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ParsedListItemDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
 import com.omatheusmesmo.shoppmate.list.entity.ListItem;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
 import com.omatheusmesmo.shoppmate.list.mapper.ListItemMapper;
 import com.omatheusmesmo.shoppmate.list.repository.ListItemRepository;
 import com.omatheusmesmo.shoppmate.item.service.ItemService;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
 import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import com.omatheusmesmo.shoppmate.store.service.BasketCostService;
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
+import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import com.omatheusmesmo.shoppmate.utils.UuidV7;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
 public class ListItemService {
 
+    static final int MAX_CONSOLIDATED_LISTS = 50;
+
     @Autowired
     private ListItemRepository ListItemRepository;
 
@@ -31,18 +69,160 @@ public class ListItemService {
     @Autowired
     private ListItemMapper listItemMapper;
 
+    @Autowired
+    private QuickAddParser quickAddParser;
+
+    @Autowired
+    private UnitService unitService;
+    @Autowired
+    private UnitRegistry unitRegistry;
+    @Autowired
+    private ListAccessService listAccessService;
+    @Autowired
+    private BasketCostService basketCostService;
+
+    @Transactional
     public ListItem addShoppItemList(ListItemRequestDTO listItemRequestDTO) {
         Item item = itemService.findById(listItemRequestDTO.itemId());
         ShoppingList shoppingList = shoppingListService.findListById(listItemRequestDTO.listId());
+        Optional<ListItem> created = findCreatedWithPublicId(listItemRequestDTO.publicId(), shoppingList);
+        if (created.isPresent()) {
+            return created.get();
+        }
+        if (ListItemRepository.existsByShoppListIdAndItemId(shoppingList.getId(), item.getId())) {
+            throw new IllegalArgumentException("Item " + item.getName() + " is already on the list");
+        }
 
         ListItem listItem = listItemMapper.toEntity(listItemRequestDTO, item, shoppingList);
+        listItem.setUnit(resolveUnit(listItemRequestDTO.unitId(), item));
 
         isListItemValid(listItem);
         auditService.setAuditData(listItem, true);
         ListItemRepository.save(listItem);
+        basketCostService.invalidateList(shoppingList.getId());
         return listItem;
     }
 
+    /**
+     * Adds every catalog item named in the text to the list in one transaction. Items come from the in-memory catalog
+     * matcher, so they are attached by reference and only the list is loaded; an item given in a unit is loaded to
+     * check that the unit can measure it.
+     * <p>
+     * An item named more than once is added once with the quantities summed, so it must be given in the same unit each
+     * time. Items already on the list are left as they are and returned in {@code alreadyOnList}.
+     */
+    @Transactional
+    public ListItemParseResultDTO addParsedItems(Long listId, String text) {
+        QuickAddParser.Result parsed = quickAddParser.parse(text);
+        if (parsed.entries().isEmpty()) {
+            return new ListItemParseResultDTO(List.of(), parsed.unmatched(), List.of());
+        }
+
+        ShoppingList shoppingList = shoppingListService.findListById(listId);
+        shoppingListService.isListValid(shoppingList);
+        Set<Long> listedItemIds = new HashSet<>(ListItemRepository.findItemIdsByListId(listId,
+                parsed.entries().stream().map(QuickAddParser.Entry::itemId).collect(Collectors.toSet())));
+
+        Map<Long, ListItem> listItems = new LinkedHashMap<>();
+        Map<Long, QuickAddParser.Entry> shownEntries = new HashMap<>();
+        Set<String> alreadyOnList = new LinkedHashSet<>();
+        for (QuickAddParser.Entry entry : parsed.entries()) {
+            if (listedItemIds.contains(entry.itemId())) {
+                alreadyOnList.add(entry.itemName());
+                continue;
+            }
+
+            Item item = entry.unit() == null ? itemService.getReferenceById(entry.itemId())
+                    : itemService.findById(entry.itemId());
+            Unit unit = entry.unit() == null ? null : resolveUnit(entry.unit().id(), item);
+            ListItem listItem = listItems.get(entry.itemId());
+            if (listItem != null) {
+                if (addQuantity(listItem, unit, entry)) {
+                    shownEntries.put(entry.itemId(), entry);
+                }
+                continue;
+            }
+
+            listItem = new ListItem();
+            listItem.setShoppList(shoppingList);
+            listItem.setItem(item);
+            listItem.setUnit(unit);
+            listItem.setQuantity(entry.quantity());
+            auditService.setAuditData(listItem, true);
+            listItems.put(entry.itemId(), listItem);
+            shownEntries.put(entry.itemId(), entry);
+        }
+        if (!listItems.isEmpty()) {
+            ListItemRepository.saveAll(listItems.values());
+            basketCostService.invalidateList(listId);
+        }
+
+        List<ParsedListItemDTO> added = new ArrayList<>();
+        for (Map.Entry<Long, ListItem> listItem : listItems.entrySet()) {
+            QuickAddParser.Entry entry = shownEntries.get(listItem.getKey());
+            added.add(new ParsedListItemDTO(listItem.getValue().getId(), entry.itemId(), entry.itemName(),
+                    listItem.getValue().getQuantity(), entry.unit() == null ? null : entry.unit().symbol()));
+        }
+        return new ListItemParseResultDTO(added, parsed.unmatched(), List.copyOf(alreadyOnList));
+    }
+
+    /**
+     * Adds the quantity of an item named again in the same text. Quantities in different units are folded into the
+     * finer one, so "1 kg arroz e 500 g arroz" adds 1500 g; returns whether the item moved to the entry's unit.
+     */
+    private boolean addQuantity(ListItem listItem, Unit unit, QuickAddParser.Entry entry) {
+        Long currentUnitId = unitId(listItem.getUnit());
+        Long addedUnitId = unitId(unit);
+        if (Objects.equals(currentUnitId, addedUnitId)) {
+            listItem.setQuantity(listItem.getQuantity() + entry.quantity());
+            return false;
+        }
+
+        Long itemUnitId = listItem.getItem().getUnit().getId();
+        OptionalDouble factor = unitRegistry.conversionFactor(addedUnitId == null ? itemUnitId : addedUnitId,
+                currentUnitId == null ? itemUnitId : currentUnitId);
+        if (factor.isEmpty()) {
+            throw new IllegalArgumentException("Item " + entry.itemName() + " is given in more than one unit");
+        }
+        boolean finer = factor.getAsDouble() < 1;
+        double total = finer ? listItem.getQuantity() / factor.getAsDouble() + entry.quantity()
+                : listItem.getQuantity() + entry.quantity() * factor.getAsDouble();
+        long quantity = Math.round(total);
+        if (Math.abs(total - quantity) > 1e-6 || quantity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Item " + entry.itemName() + " is given in units that do not add up to a whole quantity");
+        }
+        if (finer) {
+            listItem.setUnit(unit);
+        }
+        listItem.setQuantity((int) quantity);
+        return finer;
+    }
+
+    private static Long unitId(Unit unit) {
+        return unit == null ? null : unit.getId();
+    }
+
+    /**
+     * Returns the item already added to the list under a client-chosen public id, so replaying an offline add is a
+     * no-op. The id may not be reused for another list or for an item that was removed since.
+     */
+    private Optional<ListItem> findCreatedWithPublicId(UUID publicId, ShoppingList shoppingList) {
+        if (publicId == null) {
+            return Optional.empty();
+        }
+        Optional<ListItem> created = ListItemRepository.findByPublicId(publicId);
+        if (created.isEmpty()) {
+            if (ListItemRepository.existsByPublicIdIncludingDeleted(publicId)) {
+                throw new IllegalArgumentException("Public id is already in use!");
+            }
+            UuidV7.check(publicId, Instant.now());
+        } else if (!created.get().getShoppList().getId().equals(shoppingList.getId())) {
+            throw new IllegalArgumentException("Public id is already in use!");
+        }
+        return created;
+    }
+
     public void isListItemValid(ListItem ListItem) throws NoSuchElementException {
         itemService.isItemValid(ListItem.getItem());
         shoppingListService.isListValid(ListItem.getShoppList());
@@ -56,29 +236,111 @@ public class ListItemService {
         }
     }
 
-    public ListItem findListItemById(Long id) {
-        return ListItemRepository.findByIdAndDeletedFalse(id)
+    /**
+     * Returns the unit to store for a quantity given in {@code unitId}: none when it is the item's own unit, which is
+     * what an absent unit means.
+     */
+    private Unit resolveUnit(Long unitId, Item item) {
+        if (unitId == null) {
+            return null;
+        }
+        Long itemUnitId = item.getUnit().getId();
+        if (unitId.equals(itemUnitId)) {
+            return null;
+        }
+        unitRegistry.get(unitId);
+        if (unitRegistry.conversionFactor(unitId, itemUnitId).isEmpty()) {
+            throw new IllegalArgumentException("Unit " + unitId + " cannot measure item " + item.getId());
+        }
+        return unitService.getReferenceById(unitId);
+    }
+
+    /**
+     * Finds a list item within the given list only, as access is checked against the list in the path: an item of
+     * another list is not found.
+     */
+    public ListItem findListItemById(Long listId, Long id) {
+        return ListItemRepository.findByIdAndShoppListId(id, listId)
                 .orElseThrow(() -> new NoSuchElementException("ListItem not found"));
     }
 
-    public void removeList(Long id) {
-        ListItem deletedItem = findListItemById(id);
+    @Transactional
+    public void removeList(Long listId, Long id) {
+        ListItem deletedItem = findListItemById(listId, id);
         auditService.softDelete(deletedItem);
         ListItemRepository.save(deletedItem);
+        basketCostService.invalidateList(deletedItem.getShoppList().getId());
     }
 
-    public ListItem editList(Long id, ListItemUpdateRequestDTO listItemUpdateRequestDTO) {
-        ListItem existingListItem = findListItemById(id);
+    @Transactional
+    public ListItem editList(Long listId, Long id, ListItemUpdateRequestDTO listItemUpdateRequestDTO) {
+        ListItem existingListItem = findListItemById(listId, id);
 
         existingListItem.setQuantity(listItemUpdateRequestDTO.quantity());
         existingListItem.setPurchased(listItemUpdateRequestDTO.purchased());
+        existingListItem.setUnit(resolveUnit(listItemUpdateRequestDTO.unitId(), existingListItem.getItem()));
 
         auditService.setAuditData(existingListItem, false);
         ListItemRepository.save(existingListItem);
+        basketCostService.invalidateList(existingListItem.getShoppList().getId());
         return existingListItem;
     }
 
     public List<ListItem> findAll(Long idList) {
-        return ListItemRepository.findByShoppListIdAndDeletedFalse(idList);
+        return ListItemRepository.findByShoppListId(idList);
+    }
+
+    public List<ListItemSummaryDTO> findAll(Long idList, Boolean purchased, Long categoryId, ListItemOrder order) {
+        return ListItemRepository.findSummariesByListId(idList, purchased, categoryId, order.getSort());
+    }
+
+    public List<ListItemSummaryDTO> findAllInAisleOrder(Long idList, Boolean purchased, Long categoryId,
+            String userEmail, String store) {
+        return ListItemRepository.findSummariesByListIdInAisleOrder(idList, purchased, categoryId, userEmail,
+                CategoryOrderService.normalizeStore(store));
+    }
+
+    /**
+     * Merges the items of several lists into one shopping view. The database sums each item's quantities per unit in
+     * one grouped query; the sums are then converted into the item's own unit, so "500 g" on one list and "1 kg" on
+     * another come back as 1.5 kg. Quantities in a unit that no longer converts to the item's are kept apart.
+     */
+    public List<ConsolidatedListItemDTO> findConsolidated(List<Long> listIds, Boolean purchased) {
+        List<Long> ids = listIds == null ? List.of() : listIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one list id must be informed!");
+        } else if (ids.size() > MAX_CONSOLIDATED_LISTS) {
+            throw new IllegalArgumentException("At most " + MAX_CONSOLIDATED_LISTS + " lists can be consolidated!");
+        }
+        ids.forEach(id -> listAccessService.checkAccess(id, ListAccessLevel.READ));
+
+        Map<ConsolidationKey, ConsolidatedTotal> totals = new LinkedHashMap<>();
+        for (ConsolidatedListItemRowDTO row : ListItemRepository.findConsolidatedRows(ids, purchased)) {
+            OptionalDouble factor = unitRegistry.conversionFactor(row.unitId(), row.itemUnitId());
+            ConsolidationKey key = new ConsolidationKey(row.itemId(),
+                    factor.isPresent() ? row.itemUnitId() : row.unitId());
+            ConsolidatedTotal total = totals.computeIfAbsent(key, k -> new ConsolidatedTotal(row.itemName()));
+            total.quantity += row.quantity() * factor.orElse(1);
+            Arrays.stream(row.listIds().split(",")).map(Long::valueOf).forEach(total.listIds::add);
+        }
+
+        List<ConsolidatedListItemDTO> consolidated = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> consolidated.add(new ConsolidatedListItemDTO(key.itemId(), total.itemName,
+                BigDecimal.valueOf(total.quantity).setScale(3, RoundingMode.HALF_UP).stripTrailingZeros(),
+                unitRegistry.find(key.unitId()).map(UnitDTO::symbol).orElse(null), List.copyOf(total.listIds))));
+        return consolidated;
+    }
+
+    private record ConsolidationKey(Long itemId, Long unitId) {
+    }
+
+    private static final class ConsolidatedTotal {
+        private final String itemName;
+        private final TreeSet<Long> listIds = new TreeSet<>();
+        private double quantity;
+
+        private ConsolidatedTotal(String itemName) {
+            this.itemName = itemName;
+        }
     }
 }
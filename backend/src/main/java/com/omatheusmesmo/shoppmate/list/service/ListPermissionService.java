@@ -1,22 +1,30 @@
 package com.omatheusmesmo.shoppmate.list.service;
 
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionBatchRequestDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionGrantDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionUpdateRequestDTO;
 import com.omatheusmesmo.shoppmate.list.entity.ListPermission;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
-import com.omatheusmesmo.shoppmate.list.mapper.ListPermissionMapper;
 import com.omatheusmesmo.shoppmate.list.repository.ListPermissionRepository;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
 import com.omatheusmesmo.shoppmate.shared.service.AuditService;
 import com.omatheusmesmo.shoppmate.user.entity.User;
 import com.omatheusmesmo.shoppmate.user.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
 public class ListPermissionService {
 
     @Autowired
@@ -29,18 +37,62 @@ public class ListPermissionService {
     @Autowired
     private AuditService auditService;
     @Autowired
-    private ListPermissionMapper listPermissionMapper;
+    private ListAccessService listAccessService;
 
+    /**
+     * Grants one user a permission through the same upsert as {@link #addListPermissions}, so re-granting a revoked
+     * permission revives it instead of clashing with its row.
+     */
+    @Transactional
     public ListPermission addListPermission(ListPermissionRequestDTO listPermissionRequestDTO) {
-        ShoppingList shoppingList = shoppingListService.findListById(listPermissionRequestDTO.idList());
+        Long listId = listPermissionRequestDTO.idList();
+        ShoppingList shoppingList = shoppingListService.findListById(listId);
         User user = userService.findUserById(listPermissionRequestDTO.idUser());
+        shoppingListService.isListValid(shoppingList);
+        userService.isUserValid(user);
+        if (user.getId().equals(shoppingList.getOwner().getId())) {
+            throw new IllegalArgumentException("The list owner already has full access to the list!");
+        }
 
-        ListPermission listPermission = listPermissionMapper.toEntity(listPermissionRequestDTO, shoppingList, user);
+        listPermissionRepository.upsertPermissions(listId,
+                List.of(new ListPermissionGrantDTO(user.getId(), listPermissionRequestDTO.permission())),
+                LocalDateTime.now());
+        listAccessService.invalidate(user.getId(), listId);
+        return listPermissionRepository.findByShoppingListIdAndUserId(listId, user.getId()).orElseThrow();
+    }
 
-        isListValid(listPermission);
-        auditService.setAuditData(listPermission, true);
-        listPermissionRepository.save(listPermission);
-        return listPermission;
+    @Transactional
+    public List<ListPermission> addListPermissions(Long listId, ListPermissionBatchRequestDTO batchRequestDTO) {
+        ShoppingList shoppingList = shoppingListService.findListById(listId);
+        List<ListPermissionGrantDTO> grants = batchRequestDTO.permissions();
+        List<Long> userIds = grants.stream().map(ListPermissionGrantDTO::idUser).toList();
+
+        if (new HashSet<>(userIds).size() != userIds.size()) {
+            throw new IllegalArgumentException("A user can only receive one permission per request!");
+        }
+        if (userIds.contains(shoppingList.getOwner().getId())) {
+            throw new IllegalArgumentException("The list owner already has full access to the list!");
+        }
+        if (userService.findUsersByIds(userIds).size() != userIds.size()) {
+            throw new NoSuchElementException("User not found!");
+        }
+
+        listPermissionRepository.upsertPermissions(listId, grants, LocalDateTime.now());
+        userIds.forEach(userId -> listAccessService.invalidate(userId, listId));
+        return findAllPermissionsByListId(listId);
+    }
+
+    @Transactional
+    public int removeListPermissions(Long listId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one user id must be informed!");
+        } else if (userIds.size() > ListPermissionBatchRequestDTO.MAX_PERMISSIONS) {
+            throw new IllegalArgumentException(
+                    "At most " + ListPermissionBatchRequestDTO.MAX_PERMISSIONS + " permissions per request");
+        }
+        int revoked = listPermissionRepository.softDeleteByListIdAndUserIds(listId, userIds, LocalDateTime.now());
+        userIds.forEach(userId -> listAccessService.invalidate(userId, listId));
+        return revoked;
     }
 
     public void isListValid(ListPermission listPermission) {
@@ -57,27 +109,40 @@ public class ListPermissionService {
         }
     }
 
-    public ListPermission findListUserPermissionById(Long id) {
-        return listPermissionRepository.findById(id)
+    /**
+     * Finds a permission within the given list only, as ownership is checked against the list in the path: a permission
+     * on another list is not found.
+     */
+    public ListPermission findListUserPermissionById(Long listId, Long id) {
+        return listPermissionRepository.findByIdAndShoppingListId(id, listId)
                 .orElseThrow(() -> new NoSuchElementException("ListPermission not found"));
     }
 
-    public void removeList(Long id) {
-        ListPermission listPermission = findListUserPermissionById(id);
+    @Transactional
+    public void removeList(Long listId, Long id) {
+        ListPermission listPermission = findListUserPermissionById(listId, id);
         auditService.softDelete(listPermission);
         listPermissionRepository.save(listPermission);
+        invalidateAccess(listPermission);
     }
 
-    public ListPermission editList(Long id, ListPermissionUpdateRequestDTO listPermissionUpdateRequestDTO) {
-        ListPermission listPermission = findListUserPermissionById(id);
+    @Transactional
+    public ListPermission editList(Long listId, Long id,
+            ListPermissionUpdateRequestDTO listPermissionUpdateRequestDTO) {
+        ListPermission listPermission = findListUserPermissionById(listId, id);
         listPermission.setPermission(listPermissionUpdateRequestDTO.permission());
         isListValid(listPermission);
         auditService.setAuditData(listPermission, false);
         listPermissionRepository.save(listPermission);
+        invalidateAccess(listPermission);
         return listPermission;
     }
 
+    private void invalidateAccess(ListPermission listPermission) {
+        listAccessService.invalidate(listPermission.getUser().getId(), listPermission.getShoppingList().getId());
+    }
+
     public List<ListPermission> findAllPermissionsByListId(Long id) {
-        return listPermissionRepository.findByShoppingListIdAndDeletedFalse(id);
+        return listPermissionRepository.findByShoppingListId(id);
     }
 }
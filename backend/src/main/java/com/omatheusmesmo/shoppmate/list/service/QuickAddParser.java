@@ -0,0 +1,128 @@
+package com.omatheusmesmo.shoppmate.list.service;
+
+import com.omatheusmesmo.shoppmate.item.service.ItemNameMatcher;
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
+import com.omatheusmesmo.shoppmate.utils.TextNormalizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free text such as "2 kg tomates, 1 leite e pão" into catalog items with quantities.
+ * <p>
+ * Item names are found anywhere in the text by {@link ItemNameMatcher}; the words just before a name may give its
+ * quantity and unit ("2 kg", "2kg", "3 x"). Units are matched by name or symbol. Words that belong to no item are
+ * returned as unmatched fragments. Quantities are whole numbers: an item given a fractional one ("1,5 kg arroz") is
+ * returned unmatched rather than added at the amount its digits would otherwise spell.
+ */
+@Component
+public class QuickAddParser {
+
+    private static final int MAX_QUANTITY_DIGITS = 4;
+    private static final Set<String> CONNECTIVES = Set.of("e", "and", "de", "of", "x");
+    private static final Pattern DECIMAL = Pattern.compile("\\d+[.,]\\d+");
+
+    public record Entry(long itemId, String itemName, int quantity, UnitDTO unit) {
+    }
+
+    public record Result(List<Entry> entries, List<String> unmatched) {
+    }
+
+    @Autowired
+    private ItemNameMatcher itemNameMatcher;
+
+    @Autowired
+    private UnitRegistry unitRegistry;
+
+    public Result parse(String text) {
+        List<String> words = tokenize(text);
+        Map<String, UnitDTO> units = unitsByWord();
+
+        List<Entry> entries = new ArrayList<>();
+        List<String> unmatched = new ArrayList<>();
+        int position = 0;
+        for (ItemNameMatcher.Match match : itemNameMatcher.findMatches(words)) {
+            // Read "<quantity> [unit | x] <item>" backwards from the item name.
+            int before = match.start() - 1;
+            boolean marked = before >= position
+                    && (words.get(before).equals("x") || units.containsKey(words.get(before)));
+            int numberAt = marked ? before - 1 : before;
+
+            if (numberAt >= position && DECIMAL.matcher(words.get(numberAt)).matches()) {
+                addUnmatched(unmatched, words, position, numberAt);
+                addUnmatched(unmatched, words, numberAt, match.end());
+                position = match.end();
+                continue;
+            }
+
+            int prefixStart = match.start();
+            int quantity = 1;
+            UnitDTO unit = null;
+            if (numberAt >= position && isQuantity(words.get(numberAt))) {
+                quantity = Math.max(1, Integer.parseInt(words.get(numberAt)));
+                unit = marked ? units.get(words.get(before)) : null;
+                prefixStart = numberAt;
+            }
+
+            addUnmatched(unmatched, words, position, prefixStart);
+            entries.add(new Entry(match.itemId(), match.itemName(), quantity, unit));
+            position = match.end();
+        }
+        addUnmatched(unmatched, words, position, words.size());
+        return new Result(entries, unmatched);
+    }
+
+    /**
+     * Splits the text into words, keeping decimal numbers such as "1,5" or "0.5" whole: the tokenizer would split them
+     * at the separator and leave the fraction digits to be read as the quantity.
+     */
+    private static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        Matcher decimal = DECIMAL.matcher(text == null ? "" : text);
+        int from = 0;
+        while (decimal.find()) {
+            words.addAll(TextNormalizer.tokenizeSplittingNumbers(text.substring(from, decimal.start())));
+            words.add(decimal.group());
+            from = decimal.end();
+        }
+        words.addAll(TextNormalizer.tokenizeSplittingNumbers(text == null ? null : text.substring(from)));
+        return words;
+    }
+
+    private Map<String, UnitDTO> unitsByWord() {
+        Map<String, UnitDTO> units = new HashMap<>();
+        for (UnitDTO unit : unitRegistry.findAll()) {
+            units.putIfAbsent(TextNormalizer.normalize(unit.name()).strip(), unit);
+        }
+        for (UnitDTO unit : unitRegistry.findAll()) {
+            if (unit.symbol() != null) {
+                units.putIfAbsent(TextNormalizer.normalize(unit.symbol()).strip(), unit);
+            }
+        }
+        return units;
+    }
+
+    private static boolean isQuantity(String word) {
+        return word.length() <= MAX_QUANTITY_DIGITS && word.chars().allMatch(Character::isDigit);
+    }
+
+    private static void addUnmatched(List<String> unmatched, List<String> words, int from, int to) {
+        while (from < to && CONNECTIVES.contains(words.get(from))) {
+            from++;
+        }
+        while (to > from && CONNECTIVES.contains(words.get(to - 1))) {
+            to--;
+        }
+        if (from < to) {
+            unmatched.add(String.join(" ", words.subList(from, to)));
+        }
+    }
+}
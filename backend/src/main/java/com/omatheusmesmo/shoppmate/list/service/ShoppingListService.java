@@ -1,19 +1,30 @@
 package com.omatheusmesmo.shoppmate.list.service;
 
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
 import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.list.dtos.ShoppingListRequestDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ShoppingListUpdateRequestDTO;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import com.omatheusmesmo.shoppmate.list.mapper.ListMapper;
 
 import com.omatheusmesmo.shoppmate.list.repository.ShoppingListRepository;
 import com.omatheusmesmo.shoppmate.user.service.UserService;
 import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import com.omatheusmesmo.shoppmate.utils.UuidV7;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
 public class ShoppingListService {
 
     @Autowired
@@ -22,14 +33,46 @@ public class ShoppingListService {
     private AuditService auditService;
     @Autowired
     private UserService userService;
+    @Autowired
+    private ListAccessService listAccessService;
+    @Autowired
+    private ListMapper listMapper;
+
+    @Transactional
+    public ShoppingList addList(ShoppingListRequestDTO shoppingListRequestDTO) {
+        return saveList(listMapper.toEntity(shoppingListRequestDTO));
+    }
 
+    @Transactional
     public ShoppingList saveList(ShoppingList ShoppingList) {
+        Optional<ShoppingList> created = findCreatedWithPublicId(ShoppingList);
+        if (created.isPresent()) {
+            return created.get();
+        }
         isListValid(ShoppingList);
         auditService.setAuditData(ShoppingList, true);
         shoppingListRepository.save(ShoppingList);
         return ShoppingList;
     }
 
+    /**
+     * Returns the list already created under the public id chosen for {@code shoppingList}, so a client replaying an
+     * offline create gets the same list back instead of a copy. A new public id must be a valid UUIDv7.
+     */
+    private Optional<ShoppingList> findCreatedWithPublicId(ShoppingList shoppingList) {
+        UUID publicId = shoppingList.getPublicId();
+        if (publicId == null) {
+            return Optional.empty();
+        }
+        Optional<ShoppingList> created = shoppingListRepository.findByPublicId(publicId);
+        if (created.isEmpty()) {
+            UuidV7.check(publicId, Instant.now());
+        } else if (!created.get().getOwner().getId().equals(shoppingList.getOwner().getId())) {
+            throw new IllegalArgumentException("Public id is already in use!");
+        }
+        return created;
+    }
+
     public void isListValid(ShoppingList ShoppingList) {
         ShoppingList.checkName();
         getOwnerId(ShoppingList);
@@ -54,11 +97,14 @@ public class ShoppingListService {
     }
 
     // TODO: implement soft delete?
+    @Transactional
     public void removeList(Long id) {
         findListById(id);
         shoppingListRepository.deleteById(id);
+        listAccessService.invalidateList(id);
     }
 
+    @Transactional
     public ShoppingList editList(ShoppingList ShoppingList) {
         findListById(ShoppingList.getId());
         isListValid(ShoppingList);
@@ -67,7 +113,18 @@ public class ShoppingListService {
         return ShoppingList;
     }
 
+    @Transactional
+    public ShoppingList editList(Long id, ShoppingListUpdateRequestDTO shoppingListUpdateRequestDTO) {
+        ShoppingList shoppingList = findListById(id);
+        listMapper.updateEntityFromDto(shoppingListUpdateRequestDTO, shoppingList);
+        return editList(shoppingList);
+    }
+
     public List<ShoppingList> findAll() {
         return shoppingListRepository.findAll();
     }
+
+    public List<ShoppingList> findAllAccessible(Long userId) {
+        return shoppingListRepository.findAllAccessibleByUserId(userId);
+    }
 }
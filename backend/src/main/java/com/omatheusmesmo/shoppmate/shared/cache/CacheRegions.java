@@ -0,0 +1,24 @@
+package com.omatheusmesmo.shoppmate.shared.cache;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions: one per cached entity and one per group of cached lookup queries.
+ */
+public final class CacheRegions {
+
+    public static final String ITEMS = "items";
+    public static final String CATEGORIES = "categories";
+    public static final String UNITS = "units";
+    public static final String USERS = "users";
+
+    public static final String CATEGORY_LOOKUPS = "category-lookups";
+    public static final String UNIT_LOOKUPS = "unit-lookups";
+    public static final String USER_LOOKUPS = "user-lookups";
+
+    public static final List<String> ALL = List.of(ITEMS, CATEGORIES, UNITS, USERS, CATEGORY_LOOKUPS, UNIT_LOOKUPS,
+            USER_LOOKUPS);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,117 @@
+package com.omatheusmesmo.shoppmate.shared.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, thread-safe cache keyed by a primitive {@code long}, with a fixed time to live per entry.
+ * <p>
+ * Entries live in a fixed array of slots and each key may only occupy one of two neighbouring slots, so lookups never
+ * box the key, never lock and never allocate. When both slots are taken the entry closest to expiry is replaced, which
+ * keeps the memory footprint bounded by the capacity given at construction.
+ */
+public class LongKeyedCache<V> {
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final int mask;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    public LongKeyedCache(int capacity, Duration ttl) {
+        this(capacity, ttl, System::nanoTime);
+    }
+
+    LongKeyedCache(int capacity, Duration ttl, LongSupplier clock) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Cache capacity must be at least 2!");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    public V get(long key) {
+        int index = indexOf(key);
+        long now = clock.getAsLong();
+        V value = valueAt(index, key, now);
+        return value != null ? value : valueAt(index ^ 1, key, now);
+    }
+
+    public void put(long key, V value) {
+        int index = indexOf(key);
+        long now = clock.getAsLong();
+        Entry<V> entry = new Entry<>(key, value, now + ttlNanos);
+
+        Entry<V> first = slots.get(index);
+        Entry<V> second = slots.get(index ^ 1);
+        if (second != null && second.key == key) {
+            slots.set(index ^ 1, entry);
+        } else if (first == null || first.key == key || first.isExpired(now)) {
+            slots.set(index, entry);
+        } else if (second == null || second.isExpired(now) || second.expiresAt - first.expiresAt < 0) {
+            slots.set(index ^ 1, entry);
+        } else {
+            slots.set(index, entry);
+        }
+    }
+
+    public void invalidate(long key) {
+        int index = indexOf(key);
+        clearSlot(index, key);
+        clearSlot(index ^ 1, key);
+    }
+
+    public void invalidateIf(LongPredicate keyPredicate) {
+        for (int i = 0; i < slots.length(); i++) {
+            Entry<V> entry = slots.get(i);
+            if (entry != null && keyPredicate.test(entry.key)) {
+                slots.compareAndSet(i, entry, null);
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private V valueAt(int index, long key, long now) {
+        Entry<V> entry = slots.get(index);
+        if (entry == null || entry.key != key) {
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            slots.compareAndSet(index, entry, null);
+            return null;
+        }
+        return entry.value;
+    }
+
+    private void clearSlot(int index, long key) {
+        Entry<V> entry = slots.get(index);
+        if (entry != null && entry.key == key) {
+            slots.compareAndSet(index, entry, null);
+        }
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private record Entry<V>(long key, V value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.omatheusmesmo.shoppmate.shared.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Creates the Hibernate second-level cache regions, each bounded by {@code cache.region.<name>.capacity} entries that
+ * expire {@code cache.region.<name>.ttl} after being written. Hibernate is set to fail at startup on a region missing
+ * here rather than create an unbounded one.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Hibernate's own regions: results of cacheable queries without a region of their own, and the last write to each
+    // table, which tells whether a cached query result is still current.
+    static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private record RegionDefaults(long capacity, Duration ttl) {
+    }
+
+    private static final Map<String, RegionDefaults> DEFAULTS = Map.of(CacheRegions.ITEMS,
+            new RegionDefaults(10_000, Duration.ofMinutes(10)), CacheRegions.CATEGORIES,
+            new RegionDefaults(1_000, Duration.ofHours(1)), CacheRegions.UNITS,
+            new RegionDefaults(1_000, Duration.ofHours(1)), CacheRegions.USERS,
+            new RegionDefaults(10_000, Duration.ofMinutes(10)), CacheRegions.CATEGORY_LOOKUPS,
+            new RegionDefaults(1_000, Duration.ofHours(1)), CacheRegions.UNIT_LOOKUPS,
+            new RegionDefaults(1_000, Duration.ofHours(1)), CacheRegions.USER_LOOKUPS,
+            new RegionDefaults(10_000, Duration.ofMinutes(10)), DEFAULT_QUERY_RESULTS_REGION,
+            new RegionDefaults(1_000, Duration.ofMinutes(10)));
+
+    @Bean
+    public CacheManager hibernateCacheManager(Environment environment) {
+        // A provider of its own, so every application context gets separate caches.
+        CachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        DEFAULTS.forEach((region, defaults) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(
+                    environment.getProperty("cache.region." + region + ".capacity", Long.class, defaults.capacity())));
+            configuration.setExpireAfterWrite(OptionalLong.of(environment
+                    .getProperty("cache.region." + region + ".ttl", Duration.class, defaults.ttl()).toNanos()));
+            cacheManager.createCache(region, configuration);
+        });
+        // Evicting a timestamp would let a cached query result outlive a write it missed, so these are kept for good:
+        // there is one per table.
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -0,0 +1,48 @@
+package com.omatheusmesmo.shoppmate.shared.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the hits, misses and puts of every second-level cache region, and the share of lookups it answered since
+ * startup.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : CacheRegions.ALL) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            FunctionCounter.builder("hibernate.cache.gets", regionStatistics, CacheRegionStatistics::getHitCount)
+                    .tag("region", region).tag("result", "hit").description("Lookups answered by the cache region")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.gets", regionStatistics, CacheRegionStatistics::getMissCount)
+                    .tag("region", region).tag("result", "miss")
+                    .description("Lookups the cache region could not answer").register(registry);
+            FunctionCounter.builder("hibernate.cache.puts", regionStatistics, CacheRegionStatistics::getPutCount)
+                    .tag("region", region).description("Entries put in the cache region").register(registry);
+            Gauge.builder("hibernate.cache.hit.ratio", regionStatistics, SecondLevelCacheMetrics::hitRatio)
+                    .tag("region", region).description("Share of lookups answered by the cache region since startup")
+                    .register(registry);
+        }
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        long hits = regionStatistics.getHitCount();
+        long lookups = hits + regionStatistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,79 @@
+package com.omatheusmesmo.shoppmate.shared.datasource;
+
+import com.omatheusmesmo.shoppmate.shared.datasource.ReplicaRoutingDataSource.Replica;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the replication lag of every replica at a fixed interval, on a single background thread. A replica that
+ * cannot be queried is given an infinite lag, so reads leave it until it answers again.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /**
+     * Seconds since the last transaction replayed on a Postgres standby, or zero when it has replayed everything it
+     * received, as an idle primary sends nothing new to replay. A server that is not a standby has no lag.
+     */
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final ScheduledExecutorService executor;
+
+    public ReplicaLagMonitor(List<Replica> replicas, String lagQuery) {
+        this.replicas = List.copyOf(replicas);
+        this.lagQuery = lagQuery;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start(Duration interval) {
+        executor.scheduleWithFixedDelay(this::measureAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void measureAll() {
+        replicas.forEach(this::measure);
+    }
+
+    private void measure(Replica replica) {
+        double lag;
+        try (Connection connection = replica.dataSource().getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            resultSet.next();
+            lag = resultSet.getDouble(1);
+        } catch (SQLException | RuntimeException e) {
+            if (replica.lagSeconds() != Double.POSITIVE_INFINITY) {
+                logger.warn("Replica {} is unreachable, reads go to the other replicas or the primary", replica.name(),
+                        e);
+            }
+            lag = Double.POSITIVE_INFINITY;
+        }
+        if (replica.lagSeconds() == Double.POSITIVE_INFINITY && lag != Double.POSITIVE_INFINITY) {
+            logger.info("Replica {} is reachable again, lagging {} s", replica.name(), lag);
+        }
+        replica.setLagSeconds(lag);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,162 @@
+package com.omatheusmesmo.shoppmate.shared.datasource;
+
+import com.omatheusmesmo.shoppmate.auth.service.AuthenticatedUser;
+import com.omatheusmesmo.shoppmate.shared.cache.LongKeyedCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to one of the replicas, round robin, and everything else to the primary.
+ * <p>
+ * The decision is taken when a transaction checks out its connection, so this data source has to sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction is only marked read-only
+ * after it has begun. Replicas lagging more than the allowed maximum are skipped, and once a user commits a read-write
+ * transaction, their reads stay on the primary for the read-your-writes window.
+ * <p>
+ * A read-only transaction named {@link #PRIMARY_READ} also stays on the primary, for reads that must not trail it, such
+ * as those filling a long-lived cache; it leaves the user's other reads on the replicas.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    /**
+     * Transaction name that keeps a read-only transaction on the primary.
+     */
+    public static final String PRIMARY_READ = "primary-read";
+
+    /**
+     * A replica and the replication lag last measured on it, in seconds. The lag is unknown until first measured, and
+     * infinite while the replica cannot be reached.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.NaN;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public double lagSeconds() {
+            return lagSeconds;
+        }
+
+        void setLagSeconds(double lagSeconds) {
+            this.lagSeconds = lagSeconds;
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final LongKeyedCache<Boolean> recentWriters;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter readWrite;
+    private final Counter readYourWrites;
+    private final Counter primaryReads;
+    private final Counter replicasLagging;
+    private final Map<String, Counter> readOnly = new HashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Duration maxLag,
+            Duration readYourWritesWindow, int readYourWritesCapacity, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.recentWriters = new LongKeyedCache<>(readYourWritesCapacity, readYourWritesWindow);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : this.replicas) {
+            targets.put(replica.name(), replica.dataSource());
+            readOnly.put(replica.name(), routingCounter(meterRegistry, replica.name(), "read-only"));
+            Gauge.builder("datasource.replica.lag", replica, Replica::lagSeconds).tag("replica", replica.name())
+                    .baseUnit("seconds").description("Replication lag last measured on the replica")
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.readWrite = routingCounter(meterRegistry, PRIMARY, "read-write");
+        this.readYourWrites = routingCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.primaryReads = routingCounter(meterRegistry, PRIMARY, PRIMARY_READ);
+        this.replicasLagging = routingCounter(meterRegistry, PRIMARY, "replicas-lagging");
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(userId, Boolean.TRUE);
+                    }
+                });
+            }
+            readWrite.increment();
+            return PRIMARY;
+        }
+        if (PRIMARY_READ.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        if (userId != null && recentWriters.get(userId) != null) {
+            readYourWrites.increment();
+            return PRIMARY;
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            // NaN (not measured yet) compares false, so a replica is used until it is known to lag.
+            if (!(replica.lagSeconds() > maxLagSeconds)) {
+                readOnly.get(replica.name()).increment();
+                return replica.name();
+            }
+        }
+        replicasLagging.increment();
+        return PRIMARY;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.getId();
+        }
+        return null;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing").tag("target", target).tag("reason", reason)
+                .description("Connections checked out, by the data source they were routed to and why")
+                .register(meterRegistry);
+    }
+}
@@ -15,7 +15,7 @@ import lombok.Setter;
 public abstract class BaseAuditableEntity implements AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id")
     private Long id;
 
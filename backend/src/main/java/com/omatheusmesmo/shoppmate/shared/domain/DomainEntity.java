@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 public abstract class DomainEntity implements AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,10 @@
+package com.omatheusmesmo.shoppmate.shared.domain;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) pagination. {@code nextCursor} is the key to pass as {@code after} for the following
+ * page, or {@code null} on the last page.
+ */
+public record KeysetPage<T>(List<T> items, Long nextCursor) {
+}
@@ -0,0 +1,41 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An HTTP request, from the first filter to the response, with the entities its mappers converted to responses. The
+ * other events recorded on its thread within it are its work.
+ */
+@Name(HttpRequestEvent.NAME)
+@Label("HTTP Request")
+@Category({ "ShoppMate", "Web" })
+@Description("An HTTP request and the entities converted to its response")
+@StackTrace(false)
+class HttpRequestEvent extends Event {
+
+    static final String NAME = "shoppmate.HttpRequest";
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    @Description("URI pattern of the handler, or the path when no handler matched")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("List Conversions")
+    int listConversions;
+
+    @Label("List Item Conversions")
+    int listItemConversions;
+
+    @Label("Item Conversions")
+    int itemConversions;
+}
@@ -0,0 +1,52 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+import com.omatheusmesmo.shoppmate.shared.jfr.MapperConversions.Mapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records an {@link HttpRequestEvent} around every request while a flight recording is running, ahead of the security
+ * filters so token decryption falls within it. Without a recording it only checks that none is running.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HttpRequestEventFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (!event.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        event.begin();
+        MapperConversions.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int[] conversions = MapperConversions.stop();
+            if (event.shouldCommit()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.method = request.getMethod();
+                event.uri = pattern == null ? request.getRequestURI() : pattern.toString();
+                event.status = response.getStatus();
+                event.listConversions = conversions[Mapper.LIST.ordinal()];
+                event.listItemConversions = conversions[Mapper.LIST_ITEM.ordinal()];
+                event.itemConversions = conversions[Mapper.ITEM.ordinal()];
+                event.commit();
+            }
+        }
+    }
+}
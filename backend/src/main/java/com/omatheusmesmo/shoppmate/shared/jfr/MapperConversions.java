@@ -0,0 +1,34 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+/**
+ * Counts the entities converted to responses during a request, by mapper, for its {@link HttpRequestEvent}. Nothing is
+ * counted unless a recording is running.
+ */
+public final class MapperConversions {
+
+    public enum Mapper {
+        LIST, LIST_ITEM, ITEM
+    }
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private MapperConversions() {
+    }
+
+    public static void count(Mapper mapper) {
+        int[] conversions = CURRENT.get();
+        if (conversions != null) {
+            conversions[mapper.ordinal()]++;
+        }
+    }
+
+    static void start() {
+        CURRENT.set(new int[Mapper.values().length]);
+    }
+
+    static int[] stop() {
+        int[] conversions = CURRENT.get();
+        CURRENT.remove();
+        return conversions;
+    }
+}
@@ -0,0 +1,212 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Summarizes a flight recording per endpoint: how many requests it served and how long they took, and how much of that
+ * went to token decryption, services and repository queries, with the rows read and entities converted per request.
+ * Events are attributed to the request recorded around them on the same thread.
+ * <p>
+ * Needs nothing but the JDK and the compiled classes:
+ * {@code java -cp target/classes com.omatheusmesmo.shoppmate.shared.jfr.RecordingSummary shoppmate.jfr}
+ */
+public final class RecordingSummary {
+
+    private static final Set<String> EVENTS = Set.of(HttpRequestEvent.NAME, TokenDecryptEvent.NAME,
+            RepositoryQueryEvent.NAME, ServiceCallEvent.NAME);
+
+    /**
+     * What the requests to one endpoint added up to. Service time only counts the outermost calls, as calls between
+     * services are nested in them.
+     */
+    public static final class EndpointSummary {
+
+        private final String endpoint;
+        private final List<Duration> latencies = new ArrayList<>();
+        private Duration tokenDecryption = Duration.ZERO;
+        private int tokenDecryptions;
+        private Duration services = Duration.ZERO;
+        private int serviceCalls;
+        private Duration repositoryQueries = Duration.ZERO;
+        private int queries;
+        private long rows;
+        private long listConversions;
+        private long listItemConversions;
+        private long itemConversions;
+
+        EndpointSummary(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String endpoint() {
+            return endpoint;
+        }
+
+        public int requests() {
+            return latencies.size();
+        }
+
+        public Duration total() {
+            return latencies.stream().reduce(Duration.ZERO, Duration::plus);
+        }
+
+        public Duration percentile(double percentile) {
+            List<Duration> sorted = latencies.stream().sorted().toList();
+            return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+        }
+
+        public Duration tokenDecryption() {
+            return tokenDecryption;
+        }
+
+        public int tokenDecryptions() {
+            return tokenDecryptions;
+        }
+
+        public Duration services() {
+            return services;
+        }
+
+        public int serviceCalls() {
+            return serviceCalls;
+        }
+
+        public Duration repositoryQueries() {
+            return repositoryQueries;
+        }
+
+        public int queries() {
+            return queries;
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        public long listConversions() {
+            return listConversions;
+        }
+
+        public long listItemConversions() {
+            return listItemConversions;
+        }
+
+        public long itemConversions() {
+            return itemConversions;
+        }
+    }
+
+    private RecordingSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: RecordingSummary <recording.jfr>");
+            System.exit(2);
+        }
+        print(summarize(Path.of(args[0])), System.out);
+    }
+
+    /**
+     * Summaries of the endpoints in the recording, the one that took the most time in total first.
+     */
+    public static List<EndpointSummary> summarize(Path recording) throws IOException {
+        Map<Long, List<RecordedEvent>> eventsByThread = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            if (EVENTS.contains(event.getEventType().getName()) && event.getThread() != null) {
+                eventsByThread.computeIfAbsent(event.getThread().getJavaThreadId(), id -> new ArrayList<>()).add(event);
+            }
+        }
+
+        Map<String, EndpointSummary> summaries = new HashMap<>();
+        for (List<RecordedEvent> events : eventsByThread.values()) {
+            summarizeThread(events, summaries);
+        }
+        return summaries.values().stream().sorted(Comparator.comparing(EndpointSummary::total).reversed()).toList();
+    }
+
+    /**
+     * Requests on a thread do not overlap, so walking its events by start time, each event belongs to the last request
+     * started if it ends within it.
+     */
+    private static void summarizeThread(List<RecordedEvent> events, Map<String, EndpointSummary> summaries) {
+        // A request starts before the events within it; on the same start, the longer event encloses the other.
+        events.sort(Comparator.comparing(RecordedEvent::getStartTime).thenComparing(RecordedEvent::getDuration,
+                Comparator.reverseOrder()));
+
+        RecordedEvent request = null;
+        EndpointSummary summary = null;
+        Instant outermostServiceEnd = Instant.MIN;
+        for (RecordedEvent event : events) {
+            String name = event.getEventType().getName();
+            if (name.equals(HttpRequestEvent.NAME)) {
+                request = event;
+                summary = summaries.computeIfAbsent(event.getString("method") + " " + event.getString("uri"),
+                        EndpointSummary::new);
+                summary.latencies.add(event.getDuration());
+                summary.listConversions += event.getInt("listConversions");
+                summary.listItemConversions += event.getInt("listItemConversions");
+                summary.itemConversions += event.getInt("itemConversions");
+                outermostServiceEnd = Instant.MIN;
+                continue;
+            }
+            if (request == null || event.getEndTime().isAfter(request.getEndTime())) {
+                continue;
+            }
+
+            if (name.equals(TokenDecryptEvent.NAME)) {
+                summary.tokenDecryption = summary.tokenDecryption.plus(event.getDuration());
+                summary.tokenDecryptions++;
+            } else if (name.equals(RepositoryQueryEvent.NAME)) {
+                summary.repositoryQueries = summary.repositoryQueries.plus(event.getDuration());
+                summary.queries++;
+                summary.rows += event.getInt("rows");
+            } else if (name.equals(ServiceCallEvent.NAME) && !event.getStartTime().isBefore(outermostServiceEnd)) {
+                summary.services = summary.services.plus(event.getDuration());
+                summary.serviceCalls++;
+                outermostServiceEnd = event.getEndTime();
+            }
+        }
+    }
+
+    static void print(List<EndpointSummary> summaries, PrintStream out) {
+        for (EndpointSummary summary : summaries) {
+            int requests = summary.requests();
+            double total = summary.total().toNanos();
+            out.printf("%s: %d requests, avg %s, p95 %s, max %s%n", summary.endpoint(), requests,
+                    millis(summary.total().dividedBy(requests)), millis(summary.percentile(0.95)),
+                    millis(summary.percentile(1)));
+            out.printf("  token decryption  %5.1f%%  %.1f per request%n", share(summary.tokenDecryption(), total),
+                    (double) summary.tokenDecryptions() / requests);
+            out.printf("  services          %5.1f%%  %.1f calls per request%n", share(summary.services(), total),
+                    (double) summary.serviceCalls() / requests);
+            out.printf("  repository        %5.1f%%  %.1f queries, %.1f rows per request%n",
+                    share(summary.repositoryQueries(), total), (double) summary.queries() / requests,
+                    (double) summary.rows() / requests);
+            out.printf("  conversions       %.1f lists, %.1f list items, %.1f items per request%n",
+                    (double) summary.listConversions() / requests, (double) summary.listItemConversions() / requests,
+                    (double) summary.itemConversions() / requests);
+        }
+    }
+
+    private static String millis(Duration duration) {
+        return String.format("%.1fms", duration.toNanos() / 1_000_000.0);
+    }
+
+    private static double share(Duration part, double total) {
+        return total == 0 ? 0 : 100 * part.toNanos() / total;
+    }
+}
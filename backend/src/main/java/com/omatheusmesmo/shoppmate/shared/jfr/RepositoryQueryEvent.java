@@ -0,0 +1,31 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * A call of a repository method, from outside any other repository method.
+ */
+@Name(RepositoryQueryEvent.NAME)
+@Label("Repository Query")
+@Category({ "ShoppMate", "Persistence" })
+@Description("A call of a repository method and the rows it returned")
+@StackTrace(false)
+@Setter
+public class RepositoryQueryEvent extends Event {
+
+    static final String NAME = "shoppmate.RepositoryQuery";
+
+    @Label("Query")
+    @Description("Repository and method, such as ListItemRepository.findByShoppListIdAndDeletedFalse")
+    private String query;
+
+    @Label("Rows")
+    @Description("Rows returned: the size of a collection or page, 0 or 1 for an optional, 1 for a single value")
+    private int rows;
+}
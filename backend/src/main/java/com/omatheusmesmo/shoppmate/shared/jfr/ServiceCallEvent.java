@@ -0,0 +1,25 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A call of a service method through its proxy. Calls between services are recorded nested in their caller's.
+ */
+@Name(ServiceCallEvent.NAME)
+@Label("Service Call")
+@Category({ "ShoppMate", "Services" })
+@StackTrace(false)
+class ServiceCallEvent extends Event {
+
+    static final String NAME = "shoppmate.ServiceCall";
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+}
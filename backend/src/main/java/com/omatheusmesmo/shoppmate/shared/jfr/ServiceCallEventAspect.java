@@ -0,0 +1,34 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records a {@link ServiceCallEvent} around every call of a service method while a flight recording is running. The
+ * authentication services are left out, as their token decryptions are recorded on their own.
+ */
+@Aspect
+@Component
+public class ServiceCallEventAspect {
+
+    @Around("@within(org.springframework.stereotype.Service) && !within(com.omatheusmesmo.shoppmate.auth..*)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * A decryption of the request's token by the authentication filter.
+ */
+@Name(TokenDecryptEvent.NAME)
+@Label("Token Decrypt")
+@Category({ "ShoppMate", "Auth" })
+@Description("A decryption of the bearer token, to read its subject or to validate it")
+@StackTrace(false)
+@Setter
+public class TokenDecryptEvent extends Event {
+
+    static final String NAME = "shoppmate.TokenDecrypt";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Valid")
+    private boolean valid;
+}
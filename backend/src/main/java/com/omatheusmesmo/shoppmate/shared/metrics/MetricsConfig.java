@@ -0,0 +1,25 @@
+package com.omatheusmesmo.shoppmate.shared.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Times every method of a bean annotated with {@link io.micrometer.core.annotation.Timed}, tagged with its class and
+ * method. Calls a bean makes to its own methods do not go through the proxy and are not timed separately.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Timer of the domain services, so a request's time can be split between them, token decryption and password
+     * hashing.
+     */
+    public static final String SERVICE_TIMER = "shoppmate.service";
+
+    @Bean
+    TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.omatheusmesmo.shoppmate.shared.registry;
+
+import com.omatheusmesmo.shoppmate.shared.cache.CacheInvalidation;
+import com.omatheusmesmo.shoppmate.shared.domain.AuditableEntity;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * In-memory copy of a small, read-mostly table, kept as an immutable snapshot keyed by id.
+ * <p>
+ * Readers only dereference the current snapshot, so lookups never lock and never reach the database. Writers build a
+ * new snapshot from the old one and publish it with a single volatile write, which is cheap for tables of a few hundred
+ * rows and keeps every reader on a consistent view.
+ * <p>
+ * Every published snapshot carries a new version, which {@link #etag()} turns into an entity tag for the whole table.
+ */
+public abstract class ReferenceDataRegistry<E extends AuditableEntity, V> implements SmartInitializingSingleton {
+
+    private record Snapshot<V>(Map<Long, V> byId, List<V> ordered, long version) {
+    }
+
+    // Versions restart with the process, so the tag also names the process to never reuse one for other content.
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private volatile Snapshot<V> snapshot = new Snapshot<>(Map.of(), List.of(), 0);
+
+    protected abstract List<E> loadAll();
+
+    protected abstract Long idOf(E entity);
+
+    protected abstract V toValue(E entity);
+
+    protected abstract String describe();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        TreeMap<Long, V> next = new TreeMap<>();
+        for (E entity : loadAll()) {
+            next.put(idOf(entity), toValue(entity));
+        }
+        publish(next);
+    }
+
+    /**
+     * Publishes the saved state of {@code entity}; callers invoke it after every insert, update or soft delete. A soft
+     * deleted entity leaves the registry, as it leaves every query.
+     * <p>
+     * Inside a transaction the state is taken now but only published once the transaction commits, so neither readers
+     * nor the version ever see a row that may still roll back.
+     */
+    public void put(E entity) {
+        Long id = idOf(entity);
+        V value = Boolean.TRUE.equals(entity.getDeleted()) ? null : toValue(entity);
+        CacheInvalidation.runAfterCommit(() -> publish(id, value));
+    }
+
+    private synchronized void publish(Long id, V value) {
+        TreeMap<Long, V> next = new TreeMap<>(snapshot.byId());
+        if (value == null) {
+            next.remove(id);
+        } else {
+            next.put(id, value);
+        }
+        publish(next);
+    }
+
+    private void publish(TreeMap<Long, V> values) {
+        snapshot = new Snapshot<>(Map.copyOf(values), List.copyOf(values.values()), snapshot.version() + 1);
+    }
+
+    public Optional<V> find(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot.byId().get(id));
+    }
+
+    public V get(Long id) {
+        return find(id).orElseThrow(() -> new NoSuchElementException(describe() + " not found with id: " + id));
+    }
+
+    /**
+     * Returns every entry ordered by id.
+     */
+    public List<V> findAll() {
+        return snapshot.ordered();
+    }
+
+    /**
+     * Returns the version of the current snapshot, which changes whenever any entry does.
+     */
+    protected long version() {
+        return snapshot.version();
+    }
+
+    public String etag() {
+        return "\"" + epoch + "-" + snapshot.version() + "\"";
+    }
+
+    public int size() {
+        return snapshot.byId().size();
+    }
+}
@@ -1,12 +1,20 @@
 package com.omatheusmesmo.shoppmate.shared.service;
 
+import com.omatheusmesmo.shoppmate.shared.cache.CacheInvalidation;
 import com.omatheusmesmo.shoppmate.shared.domain.AuditableEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
 @Component
 public class AuditService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     public <T extends AuditableEntity> void setAuditData(T entity, boolean isNew) {
         LocalDateTime now = LocalDateTime.now();
         if (isNew) {
@@ -17,8 +25,15 @@ public class AuditService {
         }
     }
 
+    /**
+     * Marks {@code entity} deleted and drops it from the second-level cache: a load served from the cache skips the
+     * {@code deleted = false} restriction the entity's queries carry.
+     */
     public <T extends AuditableEntity> void softDelete(T entity) {
         entity.setDeleted(true);
         entity.setUpdatedAt(LocalDateTime.now());
+        Class<?> entityClass = Hibernate.getClass(entity);
+        Object id = entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity);
+        CacheInvalidation.runNowAndAfterCommit(() -> entityManagerFactory.getCache().evict(entityClass, id));
     }
 }
@@ -0,0 +1,81 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import com.omatheusmesmo.shoppmate.shared.jfr.RepositoryQueryEvent;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * The repository method running on the current thread, such as
+ * {@code ListItemRepository.findByShoppListIdAndDeletedFalse}, so the statements it sends can be labelled with it.
+ * Statements sent outside one, by flushes at commit or lazy loads, are labelled {@link #NONE}.
+ */
+final class RepositoryMethod {
+
+    static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethod() {
+    }
+
+    static String current() {
+        String current = CURRENT.get();
+        return current == null ? NONE : current;
+    }
+
+    /**
+     * Sets the label around each call of a repository, and records it as a {@link RepositoryQueryEvent} while a flight
+     * recording is running. A repository method calling another keeps the outer label, as its statements are the outer
+     * method's work.
+     */
+    static class Interceptor implements MethodInterceptor {
+
+        private final String repository;
+
+        Interceptor(Class<?> repositoryInterface) {
+            this.repository = repositoryInterface.getSimpleName();
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (CURRENT.get() != null) {
+                return invocation.proceed();
+            }
+            String query = repository + "." + invocation.getMethod().getName();
+            CURRENT.set(query);
+            RepositoryQueryEvent event = new RepositoryQueryEvent();
+            event.begin();
+            try {
+                Object result = invocation.proceed();
+                if (event.shouldCommit()) {
+                    event.setQuery(query);
+                    event.setRows(rows(result));
+                    event.commit();
+                }
+                return result;
+            } finally {
+                CURRENT.remove();
+            }
+        }
+
+        private static int rows(Object result) {
+            if (result == null) {
+                return 0;
+            }
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (result instanceof Slice<?> slice) {
+                return slice.getNumberOfElements();
+            }
+            if (result instanceof Optional<?> optional) {
+                return optional.isPresent() ? 1 : 0;
+            }
+            return 1;
+        }
+    }
+}
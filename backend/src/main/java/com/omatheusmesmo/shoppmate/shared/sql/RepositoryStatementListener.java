@@ -0,0 +1,67 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import com.omatheusmesmo.shoppmate.shared.sql.SlowStatementLog.SlowStatement;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every statement by the {@link RepositoryMethod} that sent it, and adds those slower than the threshold to the
+ * {@link SlowStatementLog}. The data source is wrapped before the meter registry and the log exist, so statements are
+ * only looked at once they are handed over at the end of startup.
+ */
+class RepositoryStatementListener implements QueryExecutionListener {
+
+    private volatile MeterRegistry meterRegistry;
+    private volatile SlowStatementLog slowStatementLog;
+
+    void start(MeterRegistry meterRegistry, SlowStatementLog slowStatementLog) {
+        this.meterRegistry = meterRegistry;
+        this.slowStatementLog = slowStatementLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String repositoryMethod = RepositoryMethod.current();
+        long elapsedMillis = execInfo.getElapsedTime();
+
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            Timer.builder("db.statements").tag("repository.method", repositoryMethod)
+                    .description("Statements sent to the database, by the repository method that sent them")
+                    .register(registry).record(elapsedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        SlowStatementLog log = slowStatementLog;
+        if (log == null || !log.isSlow(elapsedMillis)) {
+            return;
+        }
+        Instant executedAt = Instant.now();
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            List<String> parameterTypes = parametersList.isEmpty() ? List.of()
+                    : parametersList.get(0).stream().map(RepositoryStatementListener::type).toList();
+            log.add(new SlowStatement(executedAt, repositoryMethod, queryInfo.getQuery(), elapsedMillis, parameterTypes,
+                    Math.max(parametersList.size(), 1)));
+        }
+    }
+
+    private static String type(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if (ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        return args[1].getClass().getSimpleName();
+    }
+}
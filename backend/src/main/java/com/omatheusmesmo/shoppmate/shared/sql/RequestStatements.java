@@ -0,0 +1,87 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The statements one HTTP request sent to the database, tracked on the thread serving it: how many there were and, per
+ * SQL string, the distinct parameters it ran with. The same statement run for many different ids within one request is
+ * the mark of an N+1.
+ */
+public final class RequestStatements {
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    /**
+     * A statement the request ran with {@code parameterSets} different parameters.
+     */
+    public record RepeatedStatement(String sql, int parameterSets) {
+    }
+
+    private final String method;
+    private final String uri;
+    private int statements;
+    private final Map<String, Set<String>> parametersBySql = new HashMap<>();
+
+    private RequestStatements(String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+    }
+
+    static void begin(String method, String uri) {
+        CURRENT.set(new RequestStatements(method, uri));
+    }
+
+    static RequestStatements end() {
+        RequestStatements current = CURRENT.get();
+        CURRENT.remove();
+        return current;
+    }
+
+    static RequestStatements current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql, String parameters) {
+        statements++;
+        parametersBySql.computeIfAbsent(sql, key -> new HashSet<>()).add(parameters);
+    }
+
+    /**
+     * Counts a JDBC batch as the single round trip it is, without looking for repeats in it.
+     */
+    void recordBatch() {
+        statements++;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String uri() {
+        return uri;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public List<RepeatedStatement> repeatedStatements(int threshold) {
+        List<RepeatedStatement> repeated = new ArrayList<>();
+        parametersBySql.forEach((sql, parameterSets) -> {
+            if (parameterSets.size() >= threshold) {
+                repeated.add(new RepeatedStatement(sql, parameterSets.size()));
+            }
+        });
+        return repeated;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + uri;
+    }
+}
@@ -0,0 +1,90 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import com.omatheusmesmo.shoppmate.shared.sql.RequestStatements.RepeatedStatement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the statements each request sends to the database, from the first interceptor to the end of the handler.
+ * Counts are published per endpoint, and a statement run with {@code sql.repeated-statement.threshold} or more
+ * different parameters within one request is logged with the endpoint as a likely N+1. Without a meter registry, as in
+ * web slice tests, only the logging is done.
+ */
+@Component
+public class RequestStatementsInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestStatementsInterceptor.class);
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int repeatedStatementThreshold;
+    private final List<Consumer<RequestStatements>> listeners = new CopyOnWriteArrayList<>();
+
+    public RequestStatementsInterceptor(ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${sql.repeated-statement.threshold:3}") int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    /**
+     * Calls {@code listener} with the statements of every request completed from now on, until it is removed.
+     */
+    public void addListener(Consumer<RequestStatements> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<RequestStatements> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        RequestStatements.begin(request.getMethod(), pattern == null ? "UNKNOWN" : pattern.toString());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, Exception ex) {
+        RequestStatements statements = RequestStatements.end();
+        if (statements == null) {
+            return;
+        }
+        List<RepeatedStatement> repeatedStatements = statements.repeatedStatements(repeatedStatementThreshold);
+        meterRegistry.ifAvailable(registry -> publish(registry, statements, repeatedStatements.size()));
+        for (RepeatedStatement repeated : repeatedStatements) {
+            logger.warn("{} ran the same statement with {} different parameters, likely an N+1: {}", statements,
+                    repeated.parameterSets(), repeated.sql());
+        }
+        listeners.forEach(listener -> listener.accept(statements));
+    }
+
+    private static void publish(MeterRegistry registry, RequestStatements statements, int repeatedStatements) {
+        DistributionSummary.builder("http.server.requests.statements").tag("method", statements.method())
+                .tag("uri", statements.uri()).baseUnit("statements")
+                .description("Statements sent to the database per request").register(registry)
+                .record(statements.statements());
+        if (repeatedStatements > 0) {
+            Counter.builder("http.server.requests.repeated.statements").tag("method", statements.method())
+                    .tag("uri", statements.uri())
+                    .description("Statements run with many different parameters within one request, likely N+1s")
+                    .register(registry).increment(repeatedStatements);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The latest statements that took {@code sql.slow-statement.threshold} or longer, newest first. Only the types of their
+ * parameters are kept, never the values, so the log holds no user data.
+ */
+@Component
+public class SlowStatementLog {
+
+    /**
+     * A slow statement, run {@code parameterSets} times when it was a batch.
+     */
+    public record SlowStatement(Instant executedAt, String repositoryMethod, String sql, long elapsedMillis,
+            List<String> parameterTypes, int parameterSets) {
+    }
+
+    private final long thresholdMillis;
+    private final int capacity;
+    private final Deque<SlowStatement> statements = new ArrayDeque<>();
+
+    public SlowStatementLog(@Value("${sql.slow-statement.threshold:PT0.2S}") Duration threshold,
+            @Value("${sql.slow-statement.capacity:100}") int capacity) {
+        this.thresholdMillis = threshold.toMillis();
+        this.capacity = capacity;
+    }
+
+    boolean isSlow(long elapsedMillis) {
+        return elapsedMillis >= thresholdMillis;
+    }
+
+    synchronized void add(SlowStatement statement) {
+        if (statements.size() == capacity) {
+            statements.removeLast();
+        }
+        statements.addFirst(statement);
+    }
+
+    public synchronized List<SlowStatement> recent() {
+        return List.copyOf(statements);
+    }
+
+    public synchronized void clear() {
+        statements.clear();
+    }
+}
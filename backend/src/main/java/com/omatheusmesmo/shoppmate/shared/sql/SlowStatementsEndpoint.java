@@ -0,0 +1,33 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import com.omatheusmesmo.shoppmate.shared.sql.SlowStatementLog.SlowStatement;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Lists the slow statements at {@code /actuator/slowstatements}, and empties the log on a delete.
+ */
+@Component
+@Endpoint(id = "slowstatements")
+public class SlowStatementsEndpoint {
+
+    private final SlowStatementLog slowStatementLog;
+
+    public SlowStatementsEndpoint(SlowStatementLog slowStatementLog) {
+        this.slowStatementLog = slowStatementLog;
+    }
+
+    @ReadOperation
+    public List<SlowStatement> slowStatements() {
+        return slowStatementLog.recent();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowStatementLog.clear();
+    }
+}
@@ -0,0 +1,99 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's data source so every statement executed during a request is counted by
+ * {@link RequestStatementsInterceptor}, which runs ahead of the other interceptors to include their statements too.
+ * Repositories are advised to label the statements they send with their {@link RepositoryMethod}, by which statements
+ * are timed and slow ones logged.
+ */
+@Configuration
+public class StatementCountingConfig implements WebMvcConfigurer {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final RequestStatementsInterceptor requestStatementsInterceptor;
+
+    public StatementCountingConfig(RequestStatementsInterceptor requestStatementsInterceptor) {
+        this.requestStatementsInterceptor = requestStatementsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestStatementsInterceptor).order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<SlowStatementLog> slowStatementLog) {
+        return new StatementCountingDataSourcePostProcessor(meterRegistry, slowStatementLog);
+    }
+
+    @Bean
+    static BeanPostProcessor repositoryMethodPostProcessor() {
+        return new RepositoryMethodPostProcessor();
+    }
+
+    /**
+     * Only wraps the data source everything uses, not the pools behind a routing one, so no statement is counted twice.
+     */
+    private static class StatementCountingDataSourcePostProcessor
+            implements BeanPostProcessor, PriorityOrdered, SmartInitializingSingleton {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final ObjectProvider<SlowStatementLog> slowStatementLog;
+        private final RepositoryStatementListener repositoryStatementListener = new RepositoryStatementListener();
+
+        StatementCountingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                ObjectProvider<SlowStatementLog> slowStatementLog) {
+            this.meterRegistry = meterRegistry;
+            this.slowStatementLog = slowStatementLog;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                return ProxyDataSourceBuilder.create(beanName, dataSource).listener(new StatementCountingListener())
+                        .listener(repositoryStatementListener).build();
+            }
+            return bean;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            repositoryStatementListener.start(meterRegistry.getIfAvailable(), slowStatementLog.getIfAvailable());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    private static class RepositoryMethodPostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+                repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                new RepositoryMethod.Interceptor(repositoryInformation.getRepositoryInterface()))));
+            }
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Adds every statement executed on the thread of an HTTP request to that request's {@link RequestStatements}.
+ * Statements run outside a request, at startup or by background jobs, are not tracked.
+ */
+class StatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestStatements current = RequestStatements.current();
+        if (current == null) {
+            return;
+        }
+        if (execInfo.isBatch()) {
+            current.recordBatch();
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            current.record(queryInfo.getQuery(), parameters(queryInfo));
+        }
+    }
+
+    private static String parameters(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return "";
+        }
+        return parametersList.get(0).stream().map(StatementCountingListener::value).collect(Collectors.joining(","));
+    }
+
+    private static String value(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if (ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2) {
+            return "null";
+        }
+        return String.valueOf(args[1]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.omatheusmesmo.shoppmate.store.controller;
+
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceBatchRequestDTO;
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceResponseDTO;
+import com.omatheusmesmo.shoppmate.store.dto.StoreRequestDTO;
+import com.omatheusmesmo.shoppmate.store.dto.StoreResponseDTO;
+import com.omatheusmesmo.shoppmate.store.entity.Store;
+import com.omatheusmesmo.shoppmate.store.mapper.StoreMapper;
+import com.omatheusmesmo.shoppmate.store.service.ItemPriceService;
+import com.omatheusmesmo.shoppmate.store.service.StoreService;
+import com.omatheusmesmo.shoppmate.utils.HttpResponseUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/store")
+public class StoreController {
+
+    @Autowired
+    private StoreService storeService;
+    @Autowired
+    private ItemPriceService itemPriceService;
+    @Autowired
+    private StoreMapper storeMapper;
+
+    @Operation(summary = "Return all stores")
+    @GetMapping
+    public ResponseEntity<List<StoreResponseDTO>> getAllStores() {
+        return HttpResponseUtil.ok(storeService.findAll().stream().map(storeMapper::toResponseDTO).toList());
+    }
+
+    @Operation(summary = "Add a new store")
+    @PostMapping
+    public ResponseEntity<StoreResponseDTO> addStore(@Valid @RequestBody StoreRequestDTO requestDTO) {
+        Store savedStore = storeService.saveStore(storeMapper.toEntity(requestDTO));
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(savedStore.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(storeMapper.toResponseDTO(savedStore));
+    }
+
+    @Operation(summary = "Delete a store by id")
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteStore(@PathVariable Long id) {
+        storeService.removeStore(id);
+    }
+
+    @Operation(summary = "Record prices observed at a store", description = "Each price becomes the item's latest price at the store unless a later one is already recorded.")
+    @PostMapping("/{id}/prices")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void recordPrices(@PathVariable Long id, @Valid @RequestBody ItemPriceBatchRequestDTO requestDTO) {
+        itemPriceService.recordPrices(id, requestDTO.prices());
+    }
+
+    @Operation(summary = "Return the price history of an item at a store, most recent first")
+    @GetMapping("/{id}/prices/{itemId}")
+    public ResponseEntity<List<ItemPriceResponseDTO>> getPriceHistory(@PathVariable Long id, @PathVariable Long itemId,
+            @RequestParam(required = false) Integer limit) {
+        return HttpResponseUtil.ok(itemPriceService.findPriceHistory(id, itemId, limit));
+    }
+}
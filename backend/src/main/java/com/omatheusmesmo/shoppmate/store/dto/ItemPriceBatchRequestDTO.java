@@ -0,0 +1,11 @@
+package com.omatheusmesmo.shoppmate.store.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ItemPriceBatchRequestDTO(
+        @NotEmpty(message = "Prices cannot be empty") @Size(max = 1000, message = "At most 1000 prices per request") List<@Valid ItemPriceRequestDTO> prices) {
+}
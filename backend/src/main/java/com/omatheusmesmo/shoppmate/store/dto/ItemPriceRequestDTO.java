@@ -0,0 +1,13 @@
+package com.omatheusmesmo.shoppmate.store.dto;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ItemPriceRequestDTO(@NotNull(message = "Item ID cannot be null") Long itemId,
+        @NotNull(message = "Price cannot be null") @PositiveOrZero(message = "Price cannot be negative") @Digits(integer = 10, fraction = 2, message = "Price must have at most 2 decimal places") BigDecimal price,
+        LocalDateTime observedAt) {
+}
@@ -0,0 +1,7 @@
+package com.omatheusmesmo.shoppmate.store.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ItemPriceResponseDTO(Long storeId, Long itemId, BigDecimal price, LocalDateTime observedAt) {
+}
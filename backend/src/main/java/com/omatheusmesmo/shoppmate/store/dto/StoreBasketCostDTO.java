@@ -0,0 +1,10 @@
+package com.omatheusmesmo.shoppmate.store.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * What buying a list at one store costs: {@code total} covers the {@code pricedItems} the store has a price for, and
+ * {@code missingItems} counts the list items it has none for.
+ */
+public record StoreBasketCostDTO(Long storeId, String storeName, BigDecimal total, int pricedItems, int missingItems) {
+}
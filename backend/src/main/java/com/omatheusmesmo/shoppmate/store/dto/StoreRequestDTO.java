@@ -0,0 +1,8 @@
+package com.omatheusmesmo.shoppmate.store.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record StoreRequestDTO(
+        @NotBlank(message = "Store name cannot be blank") @Size(max = 100, message = "Store name cannot be longer than 100 characters") String name) {
+}
@@ -0,0 +1,4 @@
+package com.omatheusmesmo.shoppmate.store.dto;
+
+public record StoreResponseDTO(Long id, String name) {
+}
@@ -0,0 +1,15 @@
+package com.omatheusmesmo.shoppmate.store.entity;
+
+import com.omatheusmesmo.shoppmate.shared.domain.DomainEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
+
+@Entity
+@Table(name = "stores")
+@SQLRestriction("deleted = false")
+@Getter
+@Setter
+public class Store extends DomainEntity {
+}
@@ -0,0 +1,20 @@
+package com.omatheusmesmo.shoppmate.store.mapper;
+
+import com.omatheusmesmo.shoppmate.store.dto.StoreRequestDTO;
+import com.omatheusmesmo.shoppmate.store.dto.StoreResponseDTO;
+import com.omatheusmesmo.shoppmate.store.entity.Store;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StoreMapper {
+
+    public Store toEntity(StoreRequestDTO requestDTO) {
+        Store store = new Store();
+        store.setName(requestDTO.name());
+        return store;
+    }
+
+    public StoreResponseDTO toResponseDTO(Store store) {
+        return new StoreResponseDTO(store.getId(), store.getName());
+    }
+}
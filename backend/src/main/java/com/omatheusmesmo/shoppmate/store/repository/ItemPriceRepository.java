@@ -0,0 +1,107 @@
+package com.omatheusmesmo.shoppmate.store.repository;
+
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceRequestDTO;
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceResponseDTO;
+import com.omatheusmesmo.shoppmate.store.dto.StoreBasketCostDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Price history and latest prices, written and read with plain SQL: prices arrive in large daily batches and are only
+ * ever read in aggregate, so neither side benefits from entities.
+ */
+@Repository
+public class ItemPriceRepository {
+
+    private static final String RECORD_PREFIX = "WITH observed (id_item, price, observed_at) AS (VALUES ";
+    private static final String RECORD_ROW = "(CAST(? AS BIGINT), CAST(? AS NUMERIC), CAST(? AS TIMESTAMP))";
+    private static final String RECORD_SUFFIX = """
+            ), inserted AS (
+                INSERT INTO item_prices (id_store, id_item, price, observed_at, created_at)
+                SELECT ?, id_item, price, observed_at, ? FROM observed
+                RETURNING id_item, price, observed_at
+            )
+            INSERT INTO latest_item_prices (id_item, id_store, price, observed_at)
+            SELECT DISTINCT ON (id_item) id_item, ?, price, observed_at FROM inserted ORDER BY id_item, observed_at DESC
+            ON CONFLICT (id_item, id_store) DO UPDATE SET price = EXCLUDED.price, observed_at = EXCLUDED.observed_at
+            WHERE latest_item_prices.observed_at <= EXCLUDED.observed_at
+            """;
+
+    private static final String HISTORY = """
+            SELECT price, observed_at FROM item_prices
+            WHERE id_store = ? AND id_item = ?
+            ORDER BY observed_at DESC
+            LIMIT ?
+            """;
+
+    // Quantities given in another unit than the item's are converted to it before pricing; NULL means the same unit.
+    private static final String BASKET_COSTS = """
+            SELECT s.id, s.name, ROUND(SUM(p.price * li.quantity * COALESCE(lu.factor / u.factor, 1)), 2) AS total,
+                COUNT(*) AS priced, listed.items - COUNT(*) AS missing
+            FROM list_items li
+            JOIN items i ON i.id = li.id_item
+            JOIN units u ON u.id = i.id_unit
+            LEFT JOIN units lu ON lu.id = li.id_unit
+            JOIN latest_item_prices p ON p.id_item = li.id_item
+            JOIN stores s ON s.id = p.id_store AND s.deleted = false
+            CROSS JOIN (
+                SELECT COUNT(*) AS items FROM list_items WHERE id_list = ? AND deleted = false AND purchased = false
+            ) listed
+            WHERE li.id_list = ? AND li.deleted = false AND li.purchased = false
+            GROUP BY s.id, s.name, listed.items
+            ORDER BY COUNT(*) DESC, total, s.id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ItemPriceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Appends every price to the history and, in the same statement, makes each the latest price of its item at the
+     * store unless a later observation is already recorded there. Prices without an observation time get
+     * {@code timestamp}.
+     */
+    public void recordPrices(Long storeId, List<ItemPriceRequestDTO> prices, LocalDateTime timestamp) {
+        if (prices.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(timestamp);
+        List<Object> args = new ArrayList<>(prices.size() * 3 + 3);
+        for (ItemPriceRequestDTO price : prices) {
+            args.add(price.itemId());
+            args.add(price.price());
+            args.add(price.observedAt() == null ? now : Timestamp.valueOf(price.observedAt()));
+        }
+        args.add(storeId);
+        args.add(now);
+        args.add(storeId);
+        String sql = RECORD_PREFIX + String.join(", ", Collections.nCopies(prices.size(), RECORD_ROW)) + RECORD_SUFFIX;
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    public List<ItemPriceResponseDTO> findPriceHistory(Long storeId, Long itemId, int limit) {
+        return jdbcTemplate.query(HISTORY, (rs, rowNum) -> new ItemPriceResponseDTO(storeId, itemId,
+                rs.getBigDecimal("price"), rs.getTimestamp("observed_at").toLocalDateTime()), storeId, itemId, limit);
+    }
+
+    /**
+     * Prices the still-to-buy items of a list at every store in one aggregate query, returning the stores that carry
+     * the most of them first and, among those, the cheapest.
+     */
+    public List<StoreBasketCostDTO> findBasketCosts(Long listId, int limit) {
+        return jdbcTemplate
+                .query(BASKET_COSTS,
+                        (rs, rowNum) -> new StoreBasketCostDTO(rs.getLong("id"), rs.getString("name"),
+                                rs.getBigDecimal("total"), rs.getInt("priced"), rs.getInt("missing")),
+                        listId, listId, limit);
+    }
+}
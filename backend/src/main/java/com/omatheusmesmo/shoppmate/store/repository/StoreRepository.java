@@ -0,0 +1,16 @@
+package com.omatheusmesmo.shoppmate.store.repository;
+
+import com.omatheusmesmo.shoppmate.store.entity.Store;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoreRepository extends JpaRepository<Store, Long> {
+
+    Optional<Store> findByName(String name);
+
+    List<Store> findAllByOrderByName();
+}
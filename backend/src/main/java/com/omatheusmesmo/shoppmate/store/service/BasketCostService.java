@@ -0,0 +1,73 @@
+package com.omatheusmesmo.shoppmate.store.service;
+
+import com.omatheusmesmo.shoppmate.list.repository.ListItemRepository;
+import com.omatheusmesmo.shoppmate.shared.cache.CacheInvalidation;
+import com.omatheusmesmo.shoppmate.shared.cache.LongKeyedCache;
+import com.omatheusmesmo.shoppmate.store.dto.StoreBasketCostDTO;
+import com.omatheusmesmo.shoppmate.store.repository.ItemPriceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tells which stores sell a shopping list for the least. The ranking of a list is computed by one aggregate query over
+ * the latest prices and cached per list until the list's items, or the price or unit of any item on it, change.
+ */
+@Service
+public class BasketCostService {
+
+    static final int DEFAULT_STORES = 10;
+    static final int MAX_STORES = 100;
+
+    private final ItemPriceRepository itemPriceRepository;
+    private final ListItemRepository listItemRepository;
+    private final LongKeyedCache<List<StoreBasketCostDTO>> basketCache;
+
+    public BasketCostService(ItemPriceRepository itemPriceRepository, ListItemRepository listItemRepository,
+            @Value("${basket.cost.cache.capacity:4096}") int cacheCapacity,
+            @Value("${basket.cost.cache.ttl:PT10M}") Duration cacheTtl) {
+        this.itemPriceRepository = itemPriceRepository;
+        this.listItemRepository = listItemRepository;
+        this.basketCache = new LongKeyedCache<>(cacheCapacity, cacheTtl);
+    }
+
+    /**
+     * Returns the cost of the list's still-to-buy items at the best {@code limit} stores: the stores pricing the most
+     * items first, then the cheapest.
+     */
+    public List<StoreBasketCostDTO> findBasketCosts(Long listId, Integer limit) {
+        int size = limit == null ? DEFAULT_STORES : limit;
+        if (size < 1 || size > MAX_STORES) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_STORES + "!");
+        }
+
+        List<StoreBasketCostDTO> stores = basketCache.get(listId);
+        if (stores == null) {
+            stores = List.copyOf(itemPriceRepository.findBasketCosts(listId, MAX_STORES));
+            basketCache.put(listId, stores);
+        }
+        return stores.size() <= size ? stores : stores.subList(0, size);
+    }
+
+    public void invalidateList(Long listId) {
+        long key = listId;
+        CacheInvalidation.runNowAndAfterCommit(() -> basketCache.invalidate(key));
+    }
+
+    /**
+     * Drops the cached costs of every list holding one of the items, found through the list items' item index.
+     */
+    public void invalidateItems(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        listItemRepository.findListIdsByItemIds(itemIds).forEach(this::invalidateList);
+    }
+
+    public void invalidateAll() {
+        CacheInvalidation.runNowAndAfterCommit(basketCache::clear);
+    }
+}
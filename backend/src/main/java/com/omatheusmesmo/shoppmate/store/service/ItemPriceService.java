@@ -0,0 +1,61 @@
+package com.omatheusmesmo.shoppmate.store.service;
+
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceRequestDTO;
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceResponseDTO;
+import com.omatheusmesmo.shoppmate.store.repository.ItemPriceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class ItemPriceService {
+
+    static final int DEFAULT_HISTORY = 30;
+    static final int MAX_HISTORY = 365;
+
+    @Autowired
+    private ItemPriceRepository itemPriceRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private StoreService storeService;
+    @Autowired
+    private BasketCostService basketCostService;
+
+    /**
+     * Records a batch of prices observed at a store in a single statement and drops the cached basket costs of the
+     * lists holding any of the items.
+     */
+    @Transactional
+    public void recordPrices(Long storeId, List<ItemPriceRequestDTO> prices) {
+        storeService.findStoreById(storeId);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> itemIds = prices.stream().map(ItemPriceRequestDTO::itemId).distinct().toList();
+        if (itemRepository.countByIdIn(itemIds) != itemIds.size()) {
+            throw new IllegalArgumentException("Prices can only be recorded for existing items!");
+        }
+        if (prices.stream().anyMatch(price -> price.observedAt() != null && price.observedAt().isAfter(now))) {
+            throw new IllegalArgumentException("Prices cannot be observed in the future!");
+        }
+
+        itemPriceRepository.recordPrices(storeId, prices, now);
+        basketCostService.invalidateItems(itemIds);
+    }
+
+    /**
+     * Returns the prices of an item at a store, most recent first.
+     */
+    public List<ItemPriceResponseDTO> findPriceHistory(Long storeId, Long itemId, Integer limit) {
+        int size = limit == null ? DEFAULT_HISTORY : limit;
+        if (size < 1 || size > MAX_HISTORY) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_HISTORY + "!");
+        }
+        storeService.findStoreById(storeId);
+        return itemPriceRepository.findPriceHistory(storeId, itemId, size);
+    }
+}
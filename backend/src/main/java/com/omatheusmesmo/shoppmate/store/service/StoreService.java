@@ -0,0 +1,55 @@
+package com.omatheusmesmo.shoppmate.store.service;
+
+import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import com.omatheusmesmo.shoppmate.store.entity.Store;
+import com.omatheusmesmo.shoppmate.store.repository.StoreRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@Service
+@Transactional(readOnly = true)
+public class StoreService {
+
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private AuditService auditService;
+    @Autowired
+    private BasketCostService basketCostService;
+
+    @Transactional
+    public Store saveStore(Store store) {
+        isStoreValid(store);
+        auditService.setAuditData(store, true);
+        return storeRepository.save(store);
+    }
+
+    public Store findStoreById(Long id) {
+        return storeRepository.findById(id).orElseThrow(() -> new NoSuchElementException("Store not found"));
+    }
+
+    public List<Store> findAll() {
+        return storeRepository.findAllByOrderByName();
+    }
+
+    @Transactional
+    public void removeStore(Long id) {
+        Store store = findStoreById(id);
+        auditService.softDelete(store);
+        storeRepository.save(store);
+        // Any list may have been priced at this store.
+        basketCostService.invalidateAll();
+    }
+
+    public void isStoreValid(Store store) {
+        store.checkName();
+        storeRepository.findByName(store.getName()).filter(existing -> !existing.getId().equals(store.getId()))
+                .ifPresent(existing -> {
+                    throw new IllegalArgumentException("A store with this name already exists!");
+                });
+    }
+}
@@ -1,12 +1,15 @@
 package com.omatheusmesmo.shoppmate.unit.controller;
 
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
 import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
 import com.omatheusmesmo.shoppmate.unit.service.UnitService;
 import com.omatheusmesmo.shoppmate.utils.HttpResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -18,15 +21,19 @@ public class UnitController {
     @Autowired
     private UnitService unitService;
 
+    @Autowired
+    private UnitRegistry unitRegistry;
+
     @Operation(summary = "Return all units")
     @GetMapping
-    public ResponseEntity<List<Unit>> getAllUnits() {
-        try {
-            List<Unit> units = unitService.findAll();
-            return HttpResponseUtil.ok(units);
-        } catch (Exception e) {
-            return HttpResponseUtil.internalServerError();
+    public ResponseEntity<List<UnitDTO>> getAllUnits(WebRequest request) {
+        // Tag and body both come from the registry, which only publishes committed writes. Reading the tag first means
+        // a write in between pairs an older tag with a newer body, which the next revalidation replaces.
+        String etag = unitRegistry.etag();
+        if (request.checkNotModified(etag)) {
+            return HttpResponseUtil.notModified(etag);
         }
+        return HttpResponseUtil.okRevalidated(unitRegistry.findAll(), etag);
     }
 
     @Operation(summary = "Add a new unit")
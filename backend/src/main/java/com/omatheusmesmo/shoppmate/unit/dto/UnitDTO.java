@@ -1,4 +1,8 @@
 package com.omatheusmesmo.shoppmate.unit.dto;
 
-public record UnitDTO(Long id, String name, String symbol) {
+import com.omatheusmesmo.shoppmate.unit.entity.UnitDimension;
+
+import java.math.BigDecimal;
+
+public record UnitDTO(Long id, String name, String symbol, UnitDimension dimension, BigDecimal factor) {
 }
@@ -1,15 +1,31 @@
 package com.omatheusmesmo.shoppmate.unit.entity;
 
+import com.omatheusmesmo.shoppmate.shared.cache.CacheRegions;
 import com.omatheusmesmo.shoppmate.shared.domain.DomainEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.math.BigDecimal;
 
 @Entity
 @Table(name = "units")
+@SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.UNITS)
 @Getter
 @Setter
 public class Unit extends DomainEntity {
 
     private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    private UnitDimension dimension;
+
+    // Amount of the dimension's base unit in one of this unit, e.g. 1000 for kg; null when the unit converts to
+    // nothing.
+    private BigDecimal factor;
 }
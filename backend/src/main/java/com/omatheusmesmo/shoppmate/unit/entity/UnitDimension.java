@@ -0,0 +1,9 @@
+package com.omatheusmesmo.shoppmate.unit.entity;
+
+/**
+ * What a unit measures. Units of the same dimension convert into each other through their factor, which is expressed in
+ * the dimension's base unit: grams, millilitres or pieces.
+ */
+public enum UnitDimension {
+    MASS, VOLUME, COUNT
+}
@@ -1,14 +1,22 @@
 package com.omatheusmesmo.shoppmate.unit.repository;
 
+import com.omatheusmesmo.shoppmate.shared.cache.CacheRegions;
 import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UnitRepository extends JpaRepository<Unit, Long> {
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.UNIT_LOOKUPS) })
     Optional<Unit> findBySymbol(String symbol);
 
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.UNIT_LOOKUPS) })
     Optional<Unit> findByName(String name);
 }
@@ -0,0 +1,94 @@
+package com.omatheusmesmo.shoppmate.unit.service;
+
+import com.omatheusmesmo.shoppmate.shared.registry.ReferenceDataRegistry;
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.repository.UnitRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Registry of units that also answers conversions between them.
+ * <p>
+ * The factor between every pair of units is precomputed into a matrix the first time a conversion is asked for after
+ * any unit changes, so a conversion is two map lookups and an array read.
+ */
+@Component
+public class UnitRegistry extends ReferenceDataRegistry<Unit, UnitDTO> {
+
+    private record ConversionMatrix(long version, Map<Long, Integer> index, double[][] factors) {
+    }
+
+    private final UnitRepository unitRepository;
+
+    private volatile ConversionMatrix conversionMatrix = new ConversionMatrix(-1, Map.of(), new double[0][]);
+
+    public UnitRegistry(UnitRepository unitRepository) {
+        this.unitRepository = unitRepository;
+    }
+
+    @Override
+    protected List<Unit> loadAll() {
+        return unitRepository.findAll();
+    }
+
+    @Override
+    protected Long idOf(Unit unit) {
+        return unit.getId();
+    }
+
+    @Override
+    protected UnitDTO toValue(Unit unit) {
+        return new UnitDTO(unit.getId(), unit.getName(), unit.getSymbol(), unit.getDimension(), unit.getFactor());
+    }
+
+    @Override
+    protected String describe() {
+        return "Unit";
+    }
+
+    /**
+     * Returns how many {@code toId} units make one {@code fromId} unit, or nothing when the units measure different
+     * dimensions or either is unknown. A unit always converts to itself.
+     */
+    public OptionalDouble conversionFactor(Long fromId, Long toId) {
+        ConversionMatrix matrix = conversionMatrix;
+        if (matrix.version() != version()) {
+            matrix = buildConversionMatrix();
+            conversionMatrix = matrix;
+        }
+        Integer from = matrix.index().get(fromId);
+        Integer to = matrix.index().get(toId);
+        if (from == null || to == null || Double.isNaN(matrix.factors()[from][to])) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(matrix.factors()[from][to]);
+    }
+
+    private ConversionMatrix buildConversionMatrix() {
+        // Read the version first: if a write lands meanwhile, the matrix is only rebuilt once more on the next call.
+        long version = version();
+        List<UnitDTO> units = findAll();
+        Map<Long, Integer> index = new HashMap<>();
+        double[][] factors = new double[units.size()][units.size()];
+        for (int from = 0; from < units.size(); from++) {
+            UnitDTO source = units.get(from);
+            index.put(source.id(), from);
+            for (int to = 0; to < units.size(); to++) {
+                UnitDTO target = units.get(to);
+                if (from == to) {
+                    factors[from][to] = 1;
+                } else if (source.dimension() != null && source.dimension() == target.dimension()) {
+                    factors[from][to] = source.factor().doubleValue() / target.factor().doubleValue();
+                } else {
+                    factors[from][to] = Double.NaN;
+                }
+            }
+        }
+        return new ConversionMatrix(version, Map.copyOf(index), factors);
+    }
+}
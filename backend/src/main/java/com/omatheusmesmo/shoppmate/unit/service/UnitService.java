@@ -1,29 +1,45 @@
 package com.omatheusmesmo.shoppmate.unit.service;
 
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ListItemRepository;
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
 import com.omatheusmesmo.shoppmate.unit.entity.Unit;
 import com.omatheusmesmo.shoppmate.unit.repository.UnitRepository;
 import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
 public class UnitService {
     @Autowired
     private UnitRepository unitRepository;
     @Autowired
     private AuditService auditService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ListItemRepository listItemRepository;
+    @Autowired
+    private UnitRegistry unitRegistry;
 
+    @Transactional
     public Unit saveUnit(Unit unit) {
         isUnitValid(unit);
-        auditService.setAuditData(unit, true);
-        unitRepository.save(unit);
+        auditService.setAuditData(unit, unit.getId() == null);
+        unitRepository.saveAndFlush(unit);
+        unitRegistry.put(unit);
         return unit;
     }
 
+    @Transactional
     public void editUnit(Unit unit) {
         isUnitValid(unit);
         if (unitExists(unit)) {
@@ -41,6 +57,13 @@ public class UnitService {
         return unitRepository.findById(id);
     }
 
+    /**
+     * Returns an uninitialized reference for attaching a known unit to another entity without loading it.
+     */
+    public Unit getReferenceById(Long id) {
+        return unitRepository.getReferenceById(id);
+    }
+
     public Optional<Unit> findUnitBySymbol(String symbol) {
         return unitRepository.findBySymbol(symbol);
     }
@@ -49,18 +72,28 @@ public class UnitService {
         return unitRepository.findByName(name);
     }
 
+    @Transactional
     public void removeUnit(Unit unit) {
+        checkNotInUse(unit.getId());
         auditService.softDelete(unit);
         saveUnit(unit);
     }
 
+    @Transactional
     public void removeUnitById(Long id) {
         Optional<Unit> unit = findUnitById(id);
         Unit deletedUnit = unit.get();
+        checkNotInUse(id);
         auditService.softDelete(deletedUnit);
         saveUnit(deletedUnit);
     }
 
+    private void checkNotInUse(Long id) {
+        if (itemRepository.existsByUnitId(id) || listItemRepository.existsByUnitId(id)) {
+            throw new IllegalArgumentException("Unit is in use by items; change their unit first");
+        }
+    }
+
     private boolean unitExists(Unit unit) {
         return unitRepository.existsById(unit.getId());
     }
@@ -68,6 +101,15 @@ public class UnitService {
     public void isUnitValid(Unit unit) {
         unit.checkName();
         checkSymbol(unit.getSymbol());
+        checkConversion(unit);
+    }
+
+    private void checkConversion(Unit unit) {
+        if ((unit.getDimension() == null) != (unit.getFactor() == null)) {
+            throw new IllegalArgumentException("Unit dimension and factor must be informed together!");
+        } else if (unit.getFactor() != null && unit.getFactor().signum() <= 0) {
+            throw new IllegalArgumentException("The unit factor must be greater than 0!");
+        }
     }
 
     private void checkSymbol(String symbol) {
@@ -1,5 +1,6 @@
 package com.omatheusmesmo.shoppmate.user.entity;
 
+import com.omatheusmesmo.shoppmate.shared.cache.CacheRegions;
 import com.omatheusmesmo.shoppmate.shared.domain.BaseAuditableEntity;
 import com.omatheusmesmo.shoppmate.user.dtos.RegisterUserDTO;
 import jakarta.persistence.*;
@@ -7,6 +8,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -14,6 +18,9 @@ import lombok.Setter;
 @Setter
 @Entity
 @Table(name = "users")
+@SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 public class User extends BaseAuditableEntity {
 
     private String email;
@@ -1,6 +1,10 @@
 package com.omatheusmesmo.shoppmate.user.repository;
 
+import com.omatheusmesmo.shoppmate.shared.cache.CacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import com.omatheusmesmo.shoppmate.user.entity.User;
 
@@ -9,5 +13,7 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_LOOKUPS) })
     Optional<User> findByEmail(String email);
 }
@@ -1,16 +1,22 @@
 package com.omatheusmesmo.shoppmate.user.service;
 
+import com.omatheusmesmo.shoppmate.shared.metrics.MetricsConfig;
 import com.omatheusmesmo.shoppmate.user.dtos.RegisterUserDTO;
 import com.omatheusmesmo.shoppmate.user.entity.User;
 import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@Transactional(readOnly = true)
 public class UserService {
 
     @Autowired
@@ -18,6 +24,7 @@ public class UserService {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Transactional
     public User addUser(RegisterUserDTO dto) {
         var user = new User(dto);
 
@@ -31,6 +38,7 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
     }
 
+    @Transactional
     public User editUser(User user) {
         findUserById(user.getId());
         validateIfDataIsNullOrEmpty(user);
@@ -39,6 +47,7 @@ public class UserService {
         return user;
     }
 
+    @Transactional
     public void removeUser(Long id) {
         findUserById(id);
         userRepository.deleteById(id);
@@ -48,6 +57,10 @@ public class UserService {
         return userRepository.findById(id).orElseThrow(() -> new NoSuchElementException("User not found!"));
     }
 
+    public List<User> findUsersByIds(Collection<Long> ids) {
+        return userRepository.findAllById(ids);
+    }
+
     public User findUserByEmail(String email) {
         return userRepository.findByEmail(email).orElseThrow(() -> new NoSuchElementException("User not found!"));
     }
@@ -0,0 +1,45 @@
+package com.omatheusmesmo.shoppmate.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CsvUtil {
+
+    private CsvUtil() {
+    }
+
+    /**
+     * Splits one CSV record on commas. Fields may be quoted, with {@code ""} standing for a literal quote; quoted
+     * fields cannot span lines.
+     */
+    public static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field!");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,52 @@
+package com.omatheusmesmo.shoppmate.utils;
+
+public final class GtinUtil {
+
+    private static final long GTIN_13_LIMIT = 10_000_000_000_000L;
+
+    private GtinUtil() {
+    }
+
+    /**
+     * Validates an EAN-8, UPC-A, EAN-13 or GTIN-14 code, check digit included, and returns its numeric value. Leading
+     * zeros do not count, so the same product scanned as UPC-A or EAN-13 gives the same number.
+     */
+    public static long normalize(String code) {
+        if (code == null) {
+            throw new IllegalArgumentException("Code cannot be null!");
+        }
+        String digits = code.strip();
+        int length = digits.length();
+        if (length != 8 && (length < 12 || length > 14)) {
+            throw new IllegalArgumentException("A code must have 8, 12, 13 or 14 digits!");
+        }
+
+        long value = 0;
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            char c = digits.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("A code must have 8, 12, 13 or 14 digits!");
+            }
+            int digit = c - '0';
+            value = value * 10 + digit;
+            // Weights alternate 3, 1 from the digit left of the check digit.
+            int positionFromRight = length - 1 - i;
+            if (positionFromRight > 0) {
+                sum += positionFromRight % 2 == 1 ? digit * 3 : digit;
+            }
+        }
+        int checkDigit = (10 - sum % 10) % 10;
+        if (checkDigit != digits.charAt(length - 1) - '0') {
+            throw new IllegalArgumentException("Invalid code check digit!");
+        }
+        return value;
+    }
+
+    /**
+     * Formats a normalized code as EAN-13, or as GTIN-14 when it needs the extra digit.
+     */
+    public static String format(long gtin) {
+        return gtin < GTIN_13_LIMIT ? String.format("%013d", gtin) : Long.toString(gtin);
+    }
+}
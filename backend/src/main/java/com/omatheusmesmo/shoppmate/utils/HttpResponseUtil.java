@@ -1,14 +1,38 @@
 package com.omatheusmesmo.shoppmate.utils;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
 
 public class HttpResponseUtil {
 
+    /**
+     * Lets the client keep a private copy but revalidate it with its entity tag before every use.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     public static <T> ResponseEntity<T> ok(T body) {
         return new ResponseEntity<>(body, HttpStatus.OK);
     }
 
+    public static <T> ResponseEntity<T> okRevalidated(T body, String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * Builds a strong entity tag from the body's text form, for records whose {@code toString} covers every field.
+     */
+    public static String contentEtag(Object body) {
+        return "\"" + DigestUtils.md5DigestAsHex(String.valueOf(body).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     public static <T> ResponseEntity<T> created(T body) {
         return new ResponseEntity<>(body, HttpStatus.CREATED);
     }
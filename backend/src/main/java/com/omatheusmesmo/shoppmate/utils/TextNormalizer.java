@@ -0,0 +1,55 @@
+package com.omatheusmesmo.shoppmate.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Folds text for matching: lower case, accents removed ("Feijão" → "feijao") and split on anything that is not a letter
+ * or digit.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase();
+    }
+
+    /**
+     * Like {@link #tokenize(String)}, but also splits where digits meet letters, so "2kg" gives "2" and "kg".
+     */
+    public static List<String> tokenizeSplittingNumbers(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : tokenize(text)) {
+            int start = 0;
+            for (int i = 1; i < token.length(); i++) {
+                if (Character.isDigit(token.charAt(i)) != Character.isDigit(token.charAt(i - 1))) {
+                    tokens.add(token.substring(start, i));
+                    start = i;
+                }
+            }
+            tokens.add(start == 0 ? token : token.substring(start));
+        }
+        return tokens;
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,50 @@
+package com.omatheusmesmo.shoppmate.utils;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by 74 random bits. Ids created close in time
+ * sort close together, so they keep index inserts on the most recent pages like a sequence would, while any client can
+ * generate one without asking the database.
+ */
+public final class UuidV7 {
+
+    // How far ahead of the server clock a client-generated id may be, to allow for clock drift.
+    static final Duration MAX_CLOCK_SKEW = Duration.ofHours(1);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long epochMillis) {
+        long mostSigBits = epochMillis << 16 | 0x7000L | RANDOM.nextInt(1 << 12);
+        long leastSigBits = RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static Instant timestamp(UUID uuid) {
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * Checks an id chosen by a client: it must be a version 7 UUID whose timestamp is not ahead of {@code now} by more
+     * than the allowed clock skew, so that it sorts among the ids created around it.
+     */
+    public static UUID check(UUID uuid, Instant now) {
+        if (uuid.version() != 7 || uuid.variant() != 2) {
+            throw new IllegalArgumentException("Public id must be a version 7 UUID!");
+        }
+        if (timestamp(uuid).isAfter(now.plus(MAX_CLOCK_SKEW))) {
+            throw new IllegalArgumentException("Public id cannot be created in the future!");
+        }
+        return uuid;
+    }
+}
@@ -0,0 +1,3 @@
+-- permission_type was written as the enum ordinal; store the enum name instead.
+UPDATE list_user_permissions SET permission_type = 'READ' WHERE permission_type = '0';
+UPDATE list_user_permissions SET permission_type = 'WRITE' WHERE permission_type = '1';
@@ -0,0 +1,41 @@
+CREATE TABLE households (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    owner_id_user INTEGER NOT NULL,
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    deleted BOOLEAN DEFAULT FALSE,
+    FOREIGN KEY (owner_id_user) REFERENCES users(id)
+);
+
+CREATE INDEX idx_households_owner_id_user ON households (owner_id_user);
+
+CREATE TABLE household_members (
+    id SERIAL PRIMARY KEY,
+    id_household INTEGER NOT NULL,
+    id_user INTEGER NOT NULL,
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    deleted BOOLEAN DEFAULT FALSE,
+    UNIQUE (id_household, id_user),
+    FOREIGN KEY (id_household) REFERENCES households(id),
+    FOREIGN KEY (id_user) REFERENCES users(id)
+);
+
+-- Membership is resolved per user, the unique key covers lookups per household.
+CREATE INDEX idx_household_members_id_user ON household_members (id_user);
+
+CREATE TABLE list_household_permissions (
+    id SERIAL PRIMARY KEY,
+    id_list INTEGER NOT NULL,
+    id_household INTEGER NOT NULL,
+    permission_type VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    deleted BOOLEAN DEFAULT FALSE,
+    UNIQUE (id_list, id_household),
+    FOREIGN KEY (id_list) REFERENCES lists(id),
+    FOREIGN KEY (id_household) REFERENCES households(id)
+);
+
+CREATE INDEX idx_list_household_permissions_id_household ON list_household_permissions (id_household);
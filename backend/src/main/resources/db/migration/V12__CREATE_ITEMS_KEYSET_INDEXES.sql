@@ -0,0 +1,7 @@
+-- Serve the item catalog pages (WHERE id_category/id_unit = ? AND id > ? ORDER BY id) straight from an index.
+CREATE INDEX idx_items_id_category_id ON items (id_category, id);
+CREATE INDEX idx_items_id_unit_id ON items (id_unit, id);
+
+-- Covered by the composite indexes above.
+DROP INDEX idx_items_id_category;
+DROP INDEX idx_items_id_unit;
@@ -0,0 +1,13 @@
+-- GTIN/EAN barcodes, stored as the numeric value of the GTIN-14 so EAN-13, UPC-A and EAN-8 forms of a code collide.
+CREATE TABLE item_codes (
+    id SERIAL PRIMARY KEY,
+    id_item INTEGER NOT NULL,
+    gtin BIGINT NOT NULL,
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    deleted BOOLEAN DEFAULT FALSE,
+    FOREIGN KEY (id_item) REFERENCES items(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX idx_item_codes_gtin ON item_codes (gtin);
+CREATE INDEX idx_item_codes_id_item ON item_codes (id_item);
@@ -0,0 +1,19 @@
+ALTER TABLE categories ADD COLUMN id_parent INTEGER REFERENCES categories(id);
+
+CREATE INDEX idx_categories_id_parent ON categories (id_parent);
+
+-- Closure table: one row per (ancestor, descendant) pair of the category tree, each category being its own ancestor at
+-- depth 0, so a whole subtree is one range of the primary key and a category's ancestors one range of the index below.
+CREATE TABLE category_closure (
+    id_ancestor INTEGER NOT NULL,
+    id_descendant INTEGER NOT NULL,
+    depth SMALLINT NOT NULL,
+    PRIMARY KEY (id_ancestor, id_descendant),
+    FOREIGN KEY (id_ancestor) REFERENCES categories(id) ON DELETE CASCADE,
+    FOREIGN KEY (id_descendant) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_category_closure_descendant ON category_closure (id_descendant, depth);
+
+INSERT INTO category_closure (id_ancestor, id_descendant, depth)
+SELECT id, id, 0 FROM categories;
@@ -0,0 +1,17 @@
+-- A unit measures a dimension (MASS, VOLUME or COUNT) and holds `factor` of that dimension's base unit (gram,
+-- millilitre, piece), so any two units of one dimension convert by the ratio of their factors.
+ALTER TABLE units ADD COLUMN dimension VARCHAR(20);
+ALTER TABLE units ADD COLUMN factor NUMERIC(18, 6);
+ALTER TABLE units ADD CONSTRAINT chk_units_conversion
+    CHECK ((dimension IS NULL AND factor IS NULL) OR (dimension IS NOT NULL AND factor > 0));
+
+UPDATE units SET dimension = 'MASS', factor = 0.001 WHERE lower(symbol) = 'mg';
+UPDATE units SET dimension = 'MASS', factor = 1 WHERE lower(symbol) = 'g';
+UPDATE units SET dimension = 'MASS', factor = 1000 WHERE lower(symbol) = 'kg';
+UPDATE units SET dimension = 'VOLUME', factor = 1 WHERE lower(symbol) = 'ml';
+UPDATE units SET dimension = 'VOLUME', factor = 1000 WHERE lower(symbol) = 'l';
+UPDATE units SET dimension = 'COUNT', factor = 1 WHERE lower(symbol) IN ('un', 'un.', 'und', 'unid', 'pc', 'pcs');
+UPDATE units SET dimension = 'COUNT', factor = 12 WHERE lower(symbol) = 'dz';
+
+-- The unit a list item's quantity is given in; NULL means the item's own unit.
+ALTER TABLE list_items ADD COLUMN id_unit INTEGER REFERENCES units(id);
@@ -0,0 +1,33 @@
+CREATE TABLE stores (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(100) UNIQUE NOT NULL,
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    deleted BOOLEAN DEFAULT FALSE
+);
+
+-- Every observed price, append-only. Daily updates across thousands of stores outgrow a 32-bit key.
+CREATE TABLE item_prices (
+    id BIGSERIAL PRIMARY KEY,
+    id_store INTEGER NOT NULL,
+    id_item INTEGER NOT NULL,
+    price NUMERIC(12, 2) NOT NULL CHECK (price >= 0),
+    observed_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (id_store) REFERENCES stores(id) ON DELETE CASCADE,
+    FOREIGN KEY (id_item) REFERENCES items(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_item_prices_store_item_observed ON item_prices (id_store, id_item, observed_at DESC);
+
+-- The most recent row of item_prices per (item, store), written in the same statement as the history. Keyed by item
+-- first so pricing a list reads one index range per list item.
+CREATE TABLE latest_item_prices (
+    id_item INTEGER NOT NULL,
+    id_store INTEGER NOT NULL,
+    price NUMERIC(12, 2) NOT NULL,
+    observed_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id_item, id_store),
+    FOREIGN KEY (id_store) REFERENCES stores(id) ON DELETE CASCADE,
+    FOREIGN KEY (id_item) REFERENCES items(id) ON DELETE CASCADE
+);
@@ -0,0 +1,15 @@
+-- Hibernate reserves ids 50 at a time from each table's sequence (pooled optimizer), which lets it batch inserts.
+-- The increment must match the allocation size of the entity ids; plain SQL inserts still take ids from the same
+-- sequences through the column defaults.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE units_id_seq INCREMENT BY 50;
+ALTER SEQUENCE categories_id_seq INCREMENT BY 50;
+ALTER SEQUENCE items_id_seq INCREMENT BY 50;
+ALTER SEQUENCE lists_id_seq INCREMENT BY 50;
+ALTER SEQUENCE list_items_id_seq INCREMENT BY 50;
+ALTER SEQUENCE list_user_permissions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE households_id_seq INCREMENT BY 50;
+ALTER SEQUENCE household_members_id_seq INCREMENT BY 50;
+ALTER SEQUENCE list_household_permissions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE item_codes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE stores_id_seq INCREMENT BY 50;
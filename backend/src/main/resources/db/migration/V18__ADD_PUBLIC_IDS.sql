@@ -0,0 +1,31 @@
+-- Version 7 UUID (RFC 9562): the 48-bit Unix millisecond timestamp of `ts` followed by the random bits of a version 4
+-- UUID, with the version nibble turned from 4 into 7.
+CREATE FUNCTION uuid_v7(ts TIMESTAMPTZ DEFAULT clock_timestamp()) RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send(floor(extract(epoch FROM ts) * 1000)::BIGINT) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::UUID
+$$ LANGUAGE SQL VOLATILE;
+
+-- Public ids clients may choose themselves, so lists, list items and items can be created offline and synced later.
+-- Existing rows get one stamped with their creation time; rows inserted by plain SQL get one from the default.
+ALTER TABLE lists ADD COLUMN public_id UUID;
+UPDATE lists SET public_id = uuid_v7(COALESCE(created_at, CURRENT_TIMESTAMP));
+ALTER TABLE lists ALTER COLUMN public_id SET DEFAULT uuid_v7();
+ALTER TABLE lists ALTER COLUMN public_id SET NOT NULL;
+CREATE UNIQUE INDEX idx_lists_public_id ON lists (public_id);
+
+ALTER TABLE list_items ADD COLUMN public_id UUID;
+UPDATE list_items SET public_id = uuid_v7(COALESCE(created_at, CURRENT_TIMESTAMP));
+ALTER TABLE list_items ALTER COLUMN public_id SET DEFAULT uuid_v7();
+ALTER TABLE list_items ALTER COLUMN public_id SET NOT NULL;
+CREATE UNIQUE INDEX idx_list_items_public_id ON list_items (public_id);
+
+ALTER TABLE items ADD COLUMN public_id UUID;
+UPDATE items SET public_id = uuid_v7(COALESCE(created_at, CURRENT_TIMESTAMP));
+ALTER TABLE items ALTER COLUMN public_id SET DEFAULT uuid_v7();
+ALTER TABLE items ALTER COLUMN public_id SET NOT NULL;
+CREATE UNIQUE INDEX idx_items_public_id ON items (public_id);
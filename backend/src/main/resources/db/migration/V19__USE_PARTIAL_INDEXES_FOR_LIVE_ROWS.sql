@@ -0,0 +1,41 @@
+-- Every entity query now filters on deleted = false, and almost every row is live: an index on the flag alone is
+-- never selective enough to be used.
+DROP INDEX idx_users_deleted;
+DROP INDEX idx_units_deleted;
+DROP INDEX idx_categories_deleted;
+DROP INDEX idx_items_deleted;
+DROP INDEX idx_lists_deleted;
+DROP INDEX idx_list_items_deleted;
+DROP INDEX idx_list_user_permissions_deleted;
+
+-- A deleted unit, category or store no longer holds on to its name. Each was unique twice, by constraint and index.
+ALTER TABLE units DROP CONSTRAINT units_name_key;
+DROP INDEX idx_units_name;
+CREATE UNIQUE INDEX idx_units_name ON units (name) WHERE deleted = false;
+
+ALTER TABLE categories DROP CONSTRAINT categories_name_key;
+DROP INDEX idx_categories_name;
+CREATE UNIQUE INDEX idx_categories_name ON categories (name) WHERE deleted = false;
+
+ALTER TABLE stores DROP CONSTRAINT stores_name_key;
+CREATE UNIQUE INDEX idx_stores_name ON stores (name) WHERE deleted = false;
+
+DROP INDEX idx_categories_id_parent;
+CREATE INDEX idx_categories_id_parent ON categories (id_parent) WHERE deleted = false;
+
+-- The catalog pages and list views only ever read live rows.
+DROP INDEX idx_items_id_category_id;
+DROP INDEX idx_items_id_unit_id;
+CREATE INDEX idx_items_id_category_id ON items (id_category, id) WHERE deleted = false;
+CREATE INDEX idx_items_id_unit_id ON items (id_unit, id) WHERE deleted = false;
+
+CREATE INDEX idx_list_items_id_list_purchased ON list_items (id_list, purchased) WHERE deleted = false;
+CREATE INDEX idx_list_items_id_list_created_at ON list_items (id_list, created_at) WHERE deleted = false;
+DROP INDEX idx_list_items_id_list_deleted_purchased;
+DROP INDEX idx_list_items_id_list_deleted_created_at;
+
+-- Duplicates the items_name_key constraint.
+DROP INDEX idx_items_name;
+
+-- The (id_list, id_user) and item name unique keys stay on every row: the bulk upserts resolve their conflicts on
+-- them, reviving a removed permission rather than inserting it again.
@@ -0,0 +1,3 @@
+-- Removed list items are never revived: adding the item again inserts a new row, so only live rows may be unique.
+ALTER TABLE list_items DROP CONSTRAINT list_items_id_list_id_item_key;
+CREATE UNIQUE INDEX idx_list_items_id_list_id_item ON list_items (id_list, id_item) WHERE deleted = false;
@@ -0,0 +1,42 @@
+-- Since V17 every sequence advances by 50 per call, and plain SQL inserts call it once per row: the bulk upserts of
+-- items and list permissions burn 50 ids per row, even for the rows that end up in ON CONFLICT. That would run 32-bit
+-- SERIAL ids out after some 43 million such rows, so ids and the columns that reference them become 64-bit.
+ALTER TABLE users ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE users_id_seq AS BIGINT;
+
+ALTER TABLE units ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE units_id_seq AS BIGINT;
+
+ALTER TABLE categories ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id_parent TYPE BIGINT;
+ALTER SEQUENCE categories_id_seq AS BIGINT;
+ALTER TABLE category_closure ALTER COLUMN id_ancestor TYPE BIGINT, ALTER COLUMN id_descendant TYPE BIGINT;
+
+ALTER TABLE items ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id_category TYPE BIGINT,
+    ALTER COLUMN id_unit TYPE BIGINT;
+ALTER SEQUENCE items_id_seq AS BIGINT;
+ALTER TABLE item_codes ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id_item TYPE BIGINT;
+ALTER SEQUENCE item_codes_id_seq AS BIGINT;
+
+ALTER TABLE lists ALTER COLUMN id TYPE BIGINT, ALTER COLUMN owner_id_user TYPE BIGINT;
+ALTER SEQUENCE lists_id_seq AS BIGINT;
+ALTER TABLE list_items ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id_list TYPE BIGINT,
+    ALTER COLUMN id_item TYPE BIGINT, ALTER COLUMN id_unit TYPE BIGINT;
+ALTER SEQUENCE list_items_id_seq AS BIGINT;
+ALTER TABLE list_user_permissions ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id_list TYPE BIGINT,
+    ALTER COLUMN id_user TYPE BIGINT;
+ALTER SEQUENCE list_user_permissions_id_seq AS BIGINT;
+ALTER TABLE user_category_orders ALTER COLUMN id_user TYPE BIGINT, ALTER COLUMN id_category TYPE BIGINT;
+
+ALTER TABLE households ALTER COLUMN id TYPE BIGINT, ALTER COLUMN owner_id_user TYPE BIGINT;
+ALTER SEQUENCE households_id_seq AS BIGINT;
+ALTER TABLE household_members ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id_household TYPE BIGINT,
+    ALTER COLUMN id_user TYPE BIGINT;
+ALTER SEQUENCE household_members_id_seq AS BIGINT;
+ALTER TABLE list_household_permissions ALTER COLUMN id TYPE BIGINT, ALTER COLUMN id_list TYPE BIGINT,
+    ALTER COLUMN id_household TYPE BIGINT;
+ALTER SEQUENCE list_household_permissions_id_seq AS BIGINT;
+
+ALTER TABLE stores ALTER COLUMN id TYPE BIGINT;
+ALTER SEQUENCE stores_id_seq AS BIGINT;
+ALTER TABLE item_prices ALTER COLUMN id_store TYPE BIGINT, ALTER COLUMN id_item TYPE BIGINT;
+ALTER TABLE latest_item_prices ALTER COLUMN id_store TYPE BIGINT, ALTER COLUMN id_item TYPE BIGINT;
@@ -0,0 +1,5 @@
+CREATE INDEX idx_list_items_id_list_deleted_purchased ON list_items (id_list, deleted, purchased);
+CREATE INDEX idx_list_items_id_list_deleted_created_at ON list_items (id_list, deleted, created_at);
+
+-- Covered by the composite indexes above and by the (id_list, id_item) unique key.
+DROP INDEX IF EXISTS idx_list_items_id_list;
@@ -0,0 +1,9 @@
+CREATE TABLE user_category_orders (
+    id_user INTEGER NOT NULL,
+    store VARCHAR(100) NOT NULL DEFAULT '',
+    id_category INTEGER NOT NULL,
+    position SMALLINT NOT NULL,
+    PRIMARY KEY (id_user, store, id_category),
+    FOREIGN KEY (id_user) REFERENCES users(id),
+    FOREIGN KEY (id_category) REFERENCES categories(id)
+);
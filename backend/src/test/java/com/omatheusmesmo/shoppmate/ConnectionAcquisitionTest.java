@@ -0,0 +1,219 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.auth.service.AuthenticatedUser;
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.list.entity.ListItem;
+import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import com.omatheusmesmo.shoppmate.list.repository.ListItemRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ShoppingListRepository;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the JDBC connections each endpoint checks out of the pool, and whether they were read-only: every request
+ * should run as a single service transaction, read-only unless it writes. The list access cache is warmed first, as it
+ * is for every request after the first one on a list.
+ */
+@SpringBootTest(properties = { "spring.flyway.enabled=false", "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN" })
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ConnectionAcquisitionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CountingDataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UnitService unitService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+    @Autowired
+    private ListItemRepository listItemRepository;
+
+    private User user;
+    private User otherUser;
+    private Item item;
+    private ShoppingList shoppingList;
+    private ListItem listItem;
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)
+                            ? new CountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    static class CountingDataSource extends DelegatingDataSource {
+
+        // One entry per connection checked out, true when it was made read-only.
+        private final List<Boolean> readOnly = new ArrayList<>();
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            int index;
+            synchronized (readOnly) {
+                index = readOnly.size();
+                readOnly.add(false);
+            }
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("setReadOnly") && (Boolean) args[0]) {
+                            synchronized (readOnly) {
+                                readOnly.set(index, true);
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        List<Boolean> checkouts(RequestBuilder request, MockMvc mockMvc) throws Exception {
+            synchronized (readOnly) {
+                readOnly.clear();
+            }
+            mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+            synchronized (readOnly) {
+                return List.copyOf(readOnly);
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        user = new User();
+        user.setEmail(suffix + "@shoppmate.com");
+        user.setFullName("Connection Counter");
+        user.setPassword("password");
+        userRepository.save(user);
+        otherUser = new User();
+        otherUser.setEmail("other-" + suffix + "@shoppmate.com");
+        otherUser.setFullName("Other Counter");
+        otherUser.setPassword("password");
+        userRepository.save(otherUser);
+
+        Unit unit = new Unit();
+        unit.setName("Kilogram " + suffix);
+        unit.setSymbol("kg");
+        unitService.saveUnit(unit);
+        Category category = new Category();
+        category.setName("Vegetables " + suffix);
+        categoryService.saveCategory(category);
+        item = new Item();
+        item.setName("Tomato " + suffix);
+        item.setCategory(category);
+        item.setUnit(unit);
+        itemRepository.save(item);
+
+        shoppingList = new ShoppingList();
+        shoppingList.setName("Weekly");
+        shoppingList.setOwner(user);
+        shoppingListRepository.save(shoppingList);
+        listItem = new ListItem();
+        listItem.setShoppList(shoppingList);
+        listItem.setItem(item);
+        listItem.setQuantity(1);
+        listItemRepository.save(listItem);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getId(), user.getEmail(), "", List.of()), null, List.of()));
+        mockMvc.perform(get("/lists/{listId}", shoppingList.getId())).andExpect(status().isOk());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readsUseOneReadOnlyConnection() throws Exception {
+        List<RequestBuilder> reads = List.of(get("/lists"), get("/lists/{listId}", shoppingList.getId()),
+                get("/lists/{listId}/items", shoppingList.getId()),
+                get("/lists/{listId}/items/{id}", shoppingList.getId(), listItem.getId()),
+                get("/item/{id}", item.getId()));
+
+        for (RequestBuilder read : reads) {
+            assertEquals(List.of(true), dataSource.checkouts(read, mockMvc));
+        }
+    }
+
+    @Test
+    void writesUseOneReadWriteConnection() throws Exception {
+        List<RequestBuilder> writes = List.of(
+                post("/lists").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Party\", \"idUser\": " + otherUser.getId() + "}"),
+                put("/lists/{listId}", shoppingList.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Monthly\"}"),
+                put("/lists/{listId}/items/{id}", shoppingList.getId(), listItem.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"listId\": " + shoppingList.getId() + ", \"itemId\": " + item.getId()
+                                + ", \"quantity\": 3, \"purchased\": true}"),
+                delete("/lists/{listId}/items/{id}", shoppingList.getId(), listItem.getId()),
+                post("/lists/{listId}/items", shoppingList.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"listId\": " + shoppingList.getId() + ", \"itemId\": " + item.getId()
+                                + ", \"quantity\": 2}"));
+
+        for (RequestBuilder write : writes) {
+            assertEquals(List.of(false), dataSource.checkouts(write, mockMvc));
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.auth.service.AuthenticatedUser;
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import com.omatheusmesmo.shoppmate.household.entity.HouseholdMember;
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdMemberRepository;
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdRepository;
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.service.ItemService;
+import com.omatheusmesmo.shoppmate.list.entity.ListHouseholdPermission;
+import com.omatheusmesmo.shoppmate.list.entity.ListItem;
+import com.omatheusmesmo.shoppmate.list.entity.ListPermission;
+import com.omatheusmesmo.shoppmate.list.entity.Permission;
+import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import com.omatheusmesmo.shoppmate.list.repository.ListHouseholdPermissionRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ListItemRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ListPermissionRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ShoppingListRepository;
+import com.omatheusmesmo.shoppmate.shared.sql.MaxQueries;
+import com.omatheusmesmo.shoppmate.store.entity.Store;
+import com.omatheusmesmo.shoppmate.store.repository.StoreRepository;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Holds every endpoint to the number of statements it sends to the database, over a fixture where each list, item and
+ * permission points at a different user, category or unit: an N+1 in a mapper pushes the endpoint over its budget. The
+ * second-level cache starts empty, as it would hide the repeated loads.
+ */
+@SpringBootTest(properties = { "spring.flyway.enabled=false", "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN" })
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class EndpointQueryBudgetTest {
+
+    private static final int ROWS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UnitService unitService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+    @Autowired
+    private ListItemRepository listItemRepository;
+    @Autowired
+    private ListPermissionRepository listPermissionRepository;
+    @Autowired
+    private HouseholdRepository householdRepository;
+    @Autowired
+    private HouseholdMemberRepository householdMemberRepository;
+    @Autowired
+    private ListHouseholdPermissionRepository listHouseholdPermissionRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private String suffix;
+    private User user;
+    private final List<User> others = new ArrayList<>();
+    private final List<Item> items = new ArrayList<>();
+    private Category category;
+    private ShoppingList shoppingList;
+    private ListItem listItem;
+    private Household household;
+    private UsernamePasswordAuthenticationToken authentication;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString();
+        user = user("owner");
+        for (int i = 0; i < ROWS; i++) {
+            others.add(user("other-" + i));
+        }
+
+        for (int i = 0; i < ROWS; i++) {
+            Unit unit = new Unit();
+            unit.setName("Unit " + i + " " + suffix);
+            unit.setSymbol("u" + i);
+            unitService.saveUnit(unit);
+            category = new Category();
+            category.setName("Category " + i + " " + suffix);
+            categoryService.saveCategory(category);
+            Item item = new Item();
+            item.setName("Item " + i + " " + suffix);
+            item.setCategory(category);
+            item.setUnit(unit);
+            items.add(itemService.addItem(item));
+        }
+
+        // One list of the user's, shared with every other user, and one list of each other user shared with the user.
+        shoppingList = list(user);
+        for (User other : others) {
+            permission(shoppingList, other);
+            permission(list(other), user);
+        }
+        for (Item item : items) {
+            ListItem row = new ListItem();
+            row.setShoppList(shoppingList);
+            row.setItem(item);
+            row.setQuantity(1);
+            listItemRepository.save(row);
+            listItem = row;
+        }
+
+        household = new Household();
+        household.setName("Home " + suffix);
+        household.setOwner(user);
+        householdRepository.save(household);
+        member(user);
+        for (User other : others) {
+            member(other);
+        }
+        ListHouseholdPermission householdPermission = new ListHouseholdPermission();
+        householdPermission.setShoppingList(shoppingList);
+        householdPermission.setHousehold(household);
+        householdPermission.setPermission(Permission.READ);
+        listHouseholdPermissionRepository.save(householdPermission);
+
+        Store store = new Store();
+        store.setName("Store " + suffix);
+        storeRepository.save(store);
+
+        // Cold, so an entity loaded once per row shows up as a statement per row.
+        entityManagerFactory.getCache().evictAll();
+
+        authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getId(), user.getEmail(), "", List.of()), null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @MaxQueries(1)
+    void getLists() throws Exception {
+        perform(get("/lists"));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void getList() throws Exception {
+        perform(get("/lists/{listId}", shoppingList.getId()));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void getConsolidatedListItems() throws Exception {
+        perform(get("/lists/consolidated").param("ids", shoppingList.getId().toString()));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void postList() throws Exception {
+        perform(post("/lists").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Party\", \"idUser\": " + user("creator").getId() + "}"));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void putList() throws Exception {
+        perform(put("/lists/{listId}", shoppingList.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Monthly\"}"));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void getListItems() throws Exception {
+        perform(get("/lists/{listId}/items", shoppingList.getId()));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void getListItem() throws Exception {
+        perform(get("/lists/{listId}/items/{id}", shoppingList.getId(), listItem.getId()));
+    }
+
+    @Test
+    @MaxQueries(5)
+    void postListItem() throws Exception {
+        Item item = items.get(0);
+        listItemRepository.delete(listItemRepository.findByShoppListId(shoppingList.getId()).stream()
+                .filter(row -> row.getItem().getId().equals(item.getId())).findFirst().orElseThrow());
+        perform(post("/lists/{listId}/items", shoppingList.getId()).contentType(MediaType.APPLICATION_JSON).content(
+                "{\"listId\": " + shoppingList.getId() + ", \"itemId\": " + item.getId() + ", \"quantity\": 2}"));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void putListItem() throws Exception {
+        perform(put("/lists/{listId}/items/{id}", shoppingList.getId(), listItem.getId())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"listId\": " + shoppingList.getId()
+                        + ", \"itemId\": " + listItem.getItem().getId() + ", \"quantity\": 3, \"purchased\": true}"));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void deleteListItem() throws Exception {
+        perform(delete("/lists/{listId}/items/{id}", shoppingList.getId(), listItem.getId()));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void getListPermissions() throws Exception {
+        perform(get("/lists/{listId}/permissions", shoppingList.getId()));
+    }
+
+    @Test
+    @MaxQueries(2)
+    void getListHouseholdPermissions() throws Exception {
+        perform(get("/lists/{listId}/households", shoppingList.getId()));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void getHouseholds() throws Exception {
+        perform(get("/households"));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void getHouseholdMembers() throws Exception {
+        perform(get("/households/{householdId}/members", household.getId()));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void getItems() throws Exception {
+        perform(get("/item"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void getItem() throws Exception {
+        perform(get("/item/{id}", items.get(0).getId()));
+    }
+
+    @Test
+    @MaxQueries(0)
+    void searchItems() throws Exception {
+        perform(get("/item/search").param("q", "Item"));
+    }
+
+    @Test
+    @MaxQueries(0)
+    void getCategories() throws Exception {
+        perform(get("/category"));
+    }
+
+    @Test
+    @MaxQueries(0)
+    void getCategoryPath() throws Exception {
+        perform(get("/category/{id}/path", category.getId()));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void getCategoryOrder() throws Exception {
+        perform(get("/category/order").principal(authentication));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void getUnits() throws Exception {
+        perform(get("/unit"));
+    }
+
+    @Test
+    @MaxQueries(1)
+    void getStores() throws Exception {
+        perform(get("/store"));
+    }
+
+    private void perform(RequestBuilder request) throws Exception {
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+    }
+
+    private User user(String name) {
+        User created = new User();
+        created.setEmail(name + "-" + suffix + "@shoppmate.com");
+        created.setFullName(name);
+        created.setPassword("password");
+        return userRepository.save(created);
+    }
+
+    private ShoppingList list(User owner) {
+        ShoppingList created = new ShoppingList();
+        created.setName("List of " + owner.getFullName());
+        created.setOwner(owner);
+        return shoppingListRepository.save(created);
+    }
+
+    private void permission(ShoppingList list, User grantee) {
+        ListPermission permission = new ListPermission();
+        permission.setShoppingList(list);
+        permission.setUser(grantee);
+        permission.setPermission(Permission.WRITE);
+        listPermissionRepository.save(permission);
+    }
+
+    private void member(User member) {
+        HouseholdMember householdMember = new HouseholdMember();
+        householdMember.setHousehold(household);
+        householdMember.setUser(member);
+        householdMemberRepository.save(householdMember);
+    }
+}
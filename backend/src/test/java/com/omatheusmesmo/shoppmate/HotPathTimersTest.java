@@ -0,0 +1,88 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.auth.service.AuthenticatedUser;
+import com.omatheusmesmo.shoppmate.auth.service.JwtService;
+import com.omatheusmesmo.shoppmate.list.service.ShoppingListService;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Sends an authenticated request through the whole filter chain and checks the endpoint, the token decryption and the
+ * services it called are timed and scraped in Prometheus format.
+ */
+@SpringBootTest(properties = { "spring.flyway.enabled=false", "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN" })
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class HotPathTimersTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PrometheusMeterRegistry meterRegistry;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail(UUID.randomUUID() + "@shoppmate.com");
+        user.setFullName("Timer");
+        user.setPassword(passwordEncoder.encode("password"));
+        userRepository.save(user);
+    }
+
+    @Test
+    void authenticatedRequest_IsTimedWithItsTokenDecryptionAndServices() throws Exception {
+        String token = jwtService
+                .generateToken(new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(), List.of()));
+
+        mockMvc.perform(get("/lists").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(status().isOk());
+
+        assertTrue(count("jwt.token", "operation", "encrypt") > 0);
+        assertTrue(count("jwt.token", "operation", "decrypt") > 0);
+        assertTrue(count("shoppmate.service", "class", ShoppingListService.class.getName()) > 0);
+        String scrape = meterRegistry.scrape();
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("http_server_requests_seconds_bucket")
+                && line.contains("uri=\"/lists\"") && line.contains("le=\"0.05\"")), scrape);
+        assertTrue(scrape.contains("jwt_token_seconds{"), scrape);
+    }
+
+    @Test
+    void passwordHashing_IsTimed() {
+        assertTrue(passwordEncoder.matches("password", user.getPassword()));
+
+        assertTrue(count("password.encoder", "operation", "encode") > 0);
+        assertTrue(count("password.encoder", "operation", "matches") > 0);
+    }
+
+    private long count(String timer, String tag, String value) {
+        return meterRegistry.find(timer).tag(tag, value).timers().stream().mapToLong(Timer::count).sum();
+    }
+}
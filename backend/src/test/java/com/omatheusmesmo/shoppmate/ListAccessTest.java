@@ -0,0 +1,211 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.auth.service.AuthenticatedUser;
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import com.omatheusmesmo.shoppmate.household.entity.HouseholdMember;
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdMemberRepository;
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdRepository;
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.service.ItemService;
+import com.omatheusmesmo.shoppmate.list.entity.ListHouseholdPermission;
+import com.omatheusmesmo.shoppmate.list.entity.ListItem;
+import com.omatheusmesmo.shoppmate.list.entity.ListPermission;
+import com.omatheusmesmo.shoppmate.list.entity.Permission;
+import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import com.omatheusmesmo.shoppmate.list.repository.ListHouseholdPermissionRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ListItemRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ListPermissionRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ShoppingListRepository;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Access to a list is checked against the list in the path, so whatever the path names within it must belong to that
+ * list: an owner of one list cannot reach the items or permissions of another through it. Access granted through a
+ * household ends with the household.
+ */
+@SpringBootTest(properties = { "spring.flyway.enabled=false", "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN" })
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ListAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UnitService unitService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+    @Autowired
+    private ListItemRepository listItemRepository;
+    @Autowired
+    private ListPermissionRepository listPermissionRepository;
+    @Autowired
+    private HouseholdRepository householdRepository;
+    @Autowired
+    private HouseholdMemberRepository householdMemberRepository;
+    @Autowired
+    private ListHouseholdPermissionRepository listHouseholdPermissionRepository;
+
+    private String suffix;
+    private User user;
+    private ShoppingList ownList;
+    private ListItem otherListItem;
+    private ListPermission otherListPermission;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString();
+        user = user("owner");
+        User other = user("other");
+        ownList = list(user);
+        ShoppingList otherList = list(other);
+
+        Unit unit = new Unit();
+        unit.setName("Unit " + suffix);
+        unit.setSymbol("u");
+        unitService.saveUnit(unit);
+        Category category = new Category();
+        category.setName("Category " + suffix);
+        categoryService.saveCategory(category);
+        Item item = new Item();
+        item.setName("Item " + suffix);
+        item.setCategory(category);
+        item.setUnit(unit);
+        itemService.addItem(item);
+        otherListItem = new ListItem();
+        otherListItem.setShoppList(otherList);
+        otherListItem.setItem(item);
+        otherListItem.setQuantity(1);
+        listItemRepository.save(otherListItem);
+
+        otherListPermission = new ListPermission();
+        otherListPermission.setShoppingList(otherList);
+        otherListPermission.setUser(user("grantee"));
+        otherListPermission.setPermission(Permission.READ);
+        listPermissionRepository.save(otherListPermission);
+
+        authenticate(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void listItemOfAnotherList_IsNotFound() throws Exception {
+        mockMvc.perform(get("/lists/{listId}/items/{id}", ownList.getId(), otherListItem.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/lists/{listId}/items/{id}", ownList.getId(), otherListItem.getId())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"listId\": " + ownList.getId() + ", \"itemId\": "
+                        + otherListItem.getItem().getId() + ", \"quantity\": 5, \"purchased\": true}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/lists/{listId}/items/{id}", ownList.getId(), otherListItem.getId()))
+                .andExpect(status().isNotFound());
+
+        ListItem unchanged = listItemRepository.findById(otherListItem.getId()).orElseThrow();
+        assertEquals(1, unchanged.getQuantity());
+        assertFalse(unchanged.getPurchased());
+    }
+
+    @Test
+    void permissionOfAnotherList_IsNotFound() throws Exception {
+        mockMvc.perform(put("/lists/{listId}/permissions/{id}", ownList.getId(), otherListPermission.getId())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"permission\": \"WRITE\"}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/lists/{listId}/permissions/{id}", ownList.getId(), otherListPermission.getId()))
+                .andExpect(status().isNotFound());
+
+        ListPermission unchanged = listPermissionRepository.findById(otherListPermission.getId()).orElseThrow();
+        assertEquals(Permission.READ, unchanged.getPermission());
+    }
+
+    @Test
+    void removingHousehold_RevokesMembersAccess() throws Exception {
+        Household household = new Household();
+        household.setName("Home " + suffix);
+        household.setOwner(user);
+        householdRepository.save(household);
+        User member = user("member");
+        member(household, user);
+        member(household, member);
+        ListHouseholdPermission householdPermission = new ListHouseholdPermission();
+        householdPermission.setShoppingList(ownList);
+        householdPermission.setHousehold(household);
+        householdPermission.setPermission(Permission.READ);
+        listHouseholdPermissionRepository.save(householdPermission);
+
+        authenticate(member);
+        mockMvc.perform(get("/lists/{listId}", ownList.getId())).andExpect(status().isOk());
+        assertEquals(1, shoppingListRepository.findAllAccessibleByUserId(member.getId()).size());
+
+        authenticate(user);
+        mockMvc.perform(delete("/households/{householdId}", household.getId())).andExpect(status().is2xxSuccessful());
+
+        authenticate(member);
+        mockMvc.perform(get("/lists/{listId}", ownList.getId())).andExpect(status().isForbidden());
+        mockMvc.perform(get("/lists/{listId}/items", ownList.getId())).andExpect(status().isForbidden());
+        assertTrue(shoppingListRepository.findAllAccessibleByUserId(member.getId()).isEmpty());
+    }
+
+    private void authenticate(User authenticated) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(
+                        new AuthenticatedUser(authenticated.getId(), authenticated.getEmail(), "", List.of()), null,
+                        List.of()));
+    }
+
+    private void member(Household household, User member) {
+        HouseholdMember householdMember = new HouseholdMember();
+        householdMember.setHousehold(household);
+        householdMember.setUser(member);
+        householdMemberRepository.save(householdMember);
+    }
+
+    private User user(String name) {
+        User created = new User();
+        created.setEmail(name + "-" + suffix + "@shoppmate.com");
+        created.setFullName(name);
+        created.setPassword("password");
+        return userRepository.save(created);
+    }
+
+    private ShoppingList list(User owner) {
+        ShoppingList created = new ShoppingList();
+        created.setName("List of " + owner.getFullName());
+        created.setOwner(owner);
+        return shoppingListRepository.save(created);
+    }
+}
@@ -0,0 +1,169 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.list.entity.ListItem;
+import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
+import com.omatheusmesmo.shoppmate.list.repository.ShoppingListRepository;
+import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Measures how many list items per second Hibernate inserts with JDBC batching, against the same inserts sent one row
+ * per round trip. Each run saves {@value #ROWS} list items in chunks of {@value #CHUNK}, flushing after each chunk, as
+ * a bulk write path would. The database is H2 behind a loopback TCP server, so every round trip crosses a socket as it
+ * would with Postgres.
+ * <p>
+ * Not part of the regular build; run it with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = { "spring.flyway.enabled=false", "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN" })
+@ActiveProfiles("test")
+class ListItemInsertBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int CHUNK = 1_000;
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+
+    private static Server server;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UnitService unitService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+
+    private String suffix;
+    private final List<Long> itemIds = new ArrayList<>();
+
+    // Left running for the context, which drops the schema on shutdown; its threads do not hold the JVM up.
+    @BeforeAll
+    static void startServer() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-tcpDaemon", "-ifNotExists").start();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:benchmark;DB_CLOSE_DELAY=-1");
+    }
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString();
+        Unit unit = new Unit();
+        unit.setName("Unit " + suffix);
+        unit.setSymbol("u");
+        unitService.saveUnit(unit);
+        Category category = new Category();
+        category.setName("Category " + suffix);
+        categoryService.saveCategory(category);
+
+        // Every row of a list holds a different item, as the (id_list, id_item) key requires.
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Item item = new Item();
+            item.setName("Item " + i + " " + suffix);
+            item.setCategory(category);
+            item.setUnit(unit);
+            auditService.setAuditData(item, true);
+            items.add(item);
+        }
+        itemRepository.saveAll(items).forEach(item -> itemIds.add(item.getId()));
+    }
+
+    @Test
+    void insertListItems() {
+        double unbatched = measure(1);
+        double batched = measure(null);
+
+        System.out.printf("%d list items in chunks of %d: %.0f rows/s unbatched, %.0f rows/s batched (%.1fx)%n", ROWS,
+                CHUNK, unbatched, batched, batched / unbatched);
+    }
+
+    /**
+     * Best rows per second over the measured runs, with {@code jdbcBatchSize} for the session, or the configured size
+     * when null.
+     */
+    private double measure(Integer jdbcBatchSize) {
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            insert(jdbcBatchSize);
+        }
+        long fastest = Long.MAX_VALUE;
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            fastest = Math.min(fastest, insert(jdbcBatchSize));
+        }
+        return ROWS * 1_000_000_000.0 / fastest;
+    }
+
+    /**
+     * Inserts {@value #ROWS} list items into a new list and returns how long it took, in nanoseconds.
+     */
+    private long insert(Integer jdbcBatchSize) {
+        User owner = new User();
+        owner.setEmail("benchmark-" + UUID.randomUUID() + "@shoppmate.com");
+        owner.setFullName("Benchmark");
+        owner.setPassword("password");
+        userRepository.save(owner);
+        ShoppingList shoppingList = new ShoppingList();
+        shoppingList.setName("Benchmark " + suffix);
+        shoppingList.setOwner(owner);
+        shoppingListRepository.save(shoppingList);
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < ROWS; i++) {
+                ListItem listItem = new ListItem();
+                listItem.setShoppList(entityManager.getReference(ShoppingList.class, shoppingList.getId()));
+                listItem.setItem(entityManager.getReference(Item.class, itemIds.get(i)));
+                listItem.setQuantity(1);
+                auditService.setAuditData(listItem, true);
+                entityManager.persist(listItem);
+                if ((i + 1) % CHUNK == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,111 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceRequestDTO;
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceResponseDTO;
+import com.omatheusmesmo.shoppmate.store.repository.ItemPriceRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs every Flyway migration on a real PostgreSQL, which the H2 tests never do, and has Hibernate validate the
+ * entities against the resulting schema. Skipped where no Docker daemon is reachable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = { "logging.level.root=WARN", "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate" })
+class PostgresMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ItemPriceRepository itemPriceRepository;
+
+    @Test
+    void everyMigrationIsApplied() {
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals("21", flyway.info().current().getVersion().getVersion());
+    }
+
+    @Test
+    void idsAndTheirReferencesAreBigint() {
+        List<Map<String, Object>> narrow = jdbcTemplate.queryForList("""
+                SELECT table_name, column_name, data_type FROM information_schema.columns
+                WHERE table_schema = 'public' AND table_name <> 'flyway_schema_history'
+                AND (column_name = 'id' OR column_name LIKE 'id\\_%' OR column_name LIKE 'owner\\_id\\_%')
+                AND data_type <> 'bigint'
+                """);
+
+        assertEquals(List.of(), narrow);
+    }
+
+    @Test
+    void idSequencesAreBigintAndHandOutFiftyIds() {
+        List<Map<String, Object>> sequences = jdbcTemplate.queryForList("""
+                SELECT sequence_name, data_type, increment FROM information_schema.sequences
+                WHERE sequence_schema = 'public' AND sequence_name <> 'item_prices_id_seq'
+                """);
+
+        assertEquals(12, sequences.size());
+        sequences.forEach(sequence -> {
+            assertEquals("bigint", sequence.get("data_type"), sequence.toString());
+            assertEquals("50", sequence.get("increment"), sequence.toString());
+        });
+    }
+
+    @Test
+    void idsBeyondTheIntegerRange_AreStoredAndPriced() {
+        long unitId = jdbcTemplate
+                .queryForObject("INSERT INTO units (name, symbol) VALUES ('Big unit', 'bu') RETURNING id", Long.class);
+        long categoryId = jdbcTemplate
+                .queryForObject("INSERT INTO categories (name) VALUES ('Big category') RETURNING id", Long.class);
+        long storeId = jdbcTemplate.queryForObject("INSERT INTO stores (name) VALUES ('Big store') RETURNING id",
+                Long.class);
+        long itemId = 3_000_000_000L;
+        jdbcTemplate.update("INSERT INTO items (id, id_category, id_unit, name) VALUES (?, ?, ?, 'Big item')", itemId,
+                categoryId, unitId);
+
+        Item item = itemRepository.findById(itemId).orElseThrow();
+        assertEquals("Big item", item.getName());
+
+        LocalDateTime observedAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        itemPriceRepository.recordPrices(storeId,
+                List.of(new ItemPriceRequestDTO(itemId, new BigDecimal("9.90"), observedAt)), observedAt);
+
+        List<ItemPriceResponseDTO> history = itemPriceRepository.findPriceHistory(storeId, itemId, 10);
+        assertEquals(1, history.size());
+        assertEquals(0, new BigDecimal("9.90").compareTo(history.get(0).price()));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM latest_item_prices WHERE id_item = ?",
+                Integer.class, itemId));
+    }
+}
@@ -0,0 +1,116 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Reads of {@code /unit} and {@code /category} racing a write: while the write is open, and after it rolls back, they
+ * keep the old tag and body; once it commits, the tag moves and the body holds the new row.
+ */
+// Its own database: a context that recreates the shared one would restart the sequences under the cached contexts.
+@SpringBootTest(properties = { "spring.flyway.enabled=false", "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN",
+        "spring.datasource.url=jdbc:h2:mem:referencedata;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE" })
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ReferenceDataEtagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UnitService unitService;
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    void unitWrittenConcurrently_MovesTheTagOnlyOnCommit() throws Exception {
+        String symbol = "u" + UUID.randomUUID();
+        Runnable write = () -> {
+            Unit unit = new Unit();
+            unit.setName("Unit " + symbol);
+            unit.setSymbol(symbol);
+            unitService.saveUnit(unit);
+        };
+
+        assertTagMovesOnlyOnCommit("/unit", symbol, write);
+    }
+
+    @Test
+    void categoryWrittenConcurrently_MovesTheTagOnlyOnCommit() throws Exception {
+        String name = "Category " + UUID.randomUUID();
+        Runnable write = () -> {
+            Category category = new Category();
+            category.setName(name);
+            categoryService.saveCategory(category);
+        };
+
+        assertTagMovesOnlyOnCommit("/category", name, write);
+    }
+
+    private void assertTagMovesOnlyOnCommit(String path, String marker, Runnable write) throws Exception {
+        MvcResult before = mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn();
+        String etag = before.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Read while the write is open, then roll it back.
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch read = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture
+                .runAsync(() -> transactionTemplate.executeWithoutResult(tx -> {
+                    write.run();
+                    written.countDown();
+                    await(read);
+                    tx.setRollbackOnly();
+                }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        MvcResult during = mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn();
+        read.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+
+        assertEquals(etag, during.getResponse().getHeader(HttpHeaders.ETAG));
+        assertFalse(during.getResponse().getContentAsString().contains(marker));
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+
+        CompletableFuture.runAsync(write).get(10, TimeUnit.SECONDS);
+
+        MvcResult after = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isOk())
+                .andReturn();
+        assertNotEquals(etag, after.getResponse().getHeader(HttpHeaders.ETAG));
+        assertTrue(after.getResponse().getContentAsString().contains(marker));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the concurrent read");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.shared.sql.SlowStatementLog.SlowStatement;
+import com.omatheusmesmo.shoppmate.shared.sql.SlowStatementsEndpoint;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks statements are timed and logged as slow under the repository method that sent them, with the types of their
+ * parameters only, and that the pool and Hibernate statistics are published.
+ */
+@SpringBootTest(properties = { "spring.flyway.enabled=false", "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN", "sql.slow-statement.threshold=PT0S",
+        "sql.slow-statement.capacity=5" })
+@ActiveProfiles("test")
+class RepositoryStatementMetricsTest {
+
+    private static final String FIND_BY_EMAIL = "UserRepository.findByEmail";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private SlowStatementsEndpoint slowStatementsEndpoint;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        slowStatementsEndpoint.clear();
+    }
+
+    @Test
+    void repositoryStatement_IsLabelledWithItsRepositoryMethod() {
+        String email = UUID.randomUUID() + "@shoppmate.com";
+
+        assertTrue(userRepository.findByEmail(email).isEmpty());
+
+        SlowStatement slowest = slowStatementsEndpoint.slowStatements().get(0);
+        assertEquals(FIND_BY_EMAIL, slowest.repositoryMethod());
+        assertEquals(List.of("String"), slowest.parameterTypes());
+        assertFalse(slowest.sql().contains(email));
+        assertTrue(meterRegistry.get("db.statements").tag("repository.method", FIND_BY_EMAIL).timer().count() > 0);
+    }
+
+    @Test
+    void slowStatements_KeepTheLatestUpToCapacity() {
+        for (int i = 0; i < 10; i++) {
+            userRepository.findByEmail(UUID.randomUUID() + "@shoppmate.com");
+        }
+
+        assertEquals(5, slowStatementsEndpoint.slowStatements().size());
+    }
+
+    @Test
+    void poolAndHibernateStatistics_ArePublished() {
+        userRepository.findByEmail(UUID.randomUUID() + "@shoppmate.com");
+
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "primary").timer());
+        assertNotNull(meterRegistry.find("hibernate.query.executions").functionCounter());
+    }
+}
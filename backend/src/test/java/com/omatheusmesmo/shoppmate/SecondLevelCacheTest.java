@@ -0,0 +1,150 @@
+package com.omatheusmesmo.shoppmate;
+
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.item.service.ItemService;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import com.omatheusmesmo.shoppmate.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements the validation lookups send to the database once the second-level cache is warm, and checks the
+ * cache follows saves and soft deletes.
+ */
+@SpringBootTest(properties = { "spring.flyway.enabled=false", "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN" })
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UnitService unitService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ItemService itemService;
+
+    private Statistics statistics;
+    private String suffix;
+    private User user;
+    private Unit unit;
+    private Category category;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        suffix = UUID.randomUUID().toString();
+        user = new User();
+        user.setEmail(suffix + "@shoppmate.com");
+        user.setFullName("Cache Counter");
+        user.setPassword("password");
+        userRepository.save(user);
+
+        unit = new Unit();
+        unit.setName("Kilogram " + suffix);
+        unit.setSymbol("kg-" + suffix);
+        unitService.saveUnit(unit);
+        category = category("Vegetables " + suffix);
+        item = new Item();
+        item.setName("Tomato " + suffix);
+        item.setCategory(category);
+        item.setUnit(unit);
+        itemRepository.save(item);
+    }
+
+    @Test
+    void repeatedValidationsDoNotQueryTheDatabase() {
+        validate();
+        // A category write touches the closure table natively, which must not clear the cache.
+        category("Fruits " + suffix);
+
+        long statementsBefore = statistics.getPrepareStatementCount();
+        validate();
+
+        assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+        assertTrue(meterRegistry.get("hibernate.cache.hit.ratio").tag("region", "items").gauge().value() > 0);
+    }
+
+    @Test
+    void repeatedLookupsDoNotQueryTheDatabase() {
+        lookUp();
+
+        long statementsBefore = statistics.getPrepareStatementCount();
+        lookUp();
+
+        assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void savedChangesAreReadBack() {
+        lookUp();
+
+        unit.setSymbol("kilo-" + suffix);
+        unitService.saveUnit(unit);
+
+        assertEquals("kilo-" + suffix, unitService.findUnitById(unit.getId()).orElseThrow().getSymbol());
+        assertTrue(unitService.findUnitBySymbol("kg-" + suffix).isEmpty());
+        assertTrue(unitService.findUnitBySymbol("kilo-" + suffix).isPresent());
+    }
+
+    @Test
+    void softDeletedEntitiesAreNoLongerFound() {
+        Category unused = category("Snacks " + suffix);
+        categoryService.findCategoryById(unused.getId());
+        categoryService.findCategoryByName(unused.getName());
+
+        categoryService.removeCategory(unused.getId());
+
+        assertThrows(NoSuchElementException.class, () -> categoryService.findCategoryById(unused.getId()));
+        assertTrue(categoryService.findCategoryByName(unused.getName()).isEmpty());
+    }
+
+    private void validate() {
+        itemService.findById(item.getId());
+        categoryService.findCategoryById(category.getId());
+        unitService.findUnitById(unit.getId());
+        userService.findUserById(user.getId());
+    }
+
+    private void lookUp() {
+        categoryService.findCategoryByName(category.getName());
+        unitService.findUnitBySymbol(unit.getSymbol());
+        unitService.findUnitByName(unit.getName());
+        userService.findUserByEmail(user.getEmail());
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return categoryService.saveCategory(category);
+    }
+}
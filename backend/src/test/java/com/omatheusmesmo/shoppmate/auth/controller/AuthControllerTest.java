@@ -2,6 +2,7 @@ package com.omatheusmesmo.shoppmate.auth.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.omatheusmesmo.shoppmate.auth.service.JwtService;
+import com.omatheusmesmo.shoppmate.list.service.ListAccessService;
 import com.omatheusmesmo.shoppmate.user.dtos.RegisterUserDTO;
 import com.omatheusmesmo.shoppmate.user.entity.User;
 import com.omatheusmesmo.shoppmate.user.service.UserService;
@@ -37,6 +38,9 @@ public class AuthControllerTest {
     @MockBean
     private UserDetailsService userDetailsService;
 
+    @MockBean
+    private ListAccessService listAccessService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
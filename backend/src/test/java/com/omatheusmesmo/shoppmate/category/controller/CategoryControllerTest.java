@@ -0,0 +1,72 @@
+package com.omatheusmesmo.shoppmate.category.controller;
+
+import com.omatheusmesmo.shoppmate.auth.service.JwtService;
+import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
+import com.omatheusmesmo.shoppmate.category.mapper.CategoryMapper;
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
+import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.list.service.ListAccessService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = CategoryController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class CategoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CategoryService categoryService;
+
+    @MockBean
+    private CategoryMapper categoryMapper;
+
+    @MockBean
+    private CategoryRegistry categoryRegistry;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private ListAccessService listAccessService;
+
+    @Test
+    @WithMockUser
+    void testGetAllCategories_ReturnsETag() throws Exception {
+        when(categoryRegistry.etag()).thenReturn("\"abc-3\"");
+        when(categoryRegistry.findAll()).thenReturn(List.of(new CategoryResponseDTO(1L, "Food", null)));
+
+        mockMvc.perform(get("/category")).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-3\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$[0].name").value("Food"));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAllCategories_MatchingETag_ReturnsNotModifiedWithoutLoading() throws Exception {
+        when(categoryRegistry.etag()).thenReturn("\"abc-3\"");
+
+        mockMvc.perform(get("/category").header(HttpHeaders.IF_NONE_MATCH, "\"abc-3\""))
+                .andExpect(status().isNotModified()).andExpect(content().string(""));
+        verify(categoryRegistry, never()).findAll();
+        verifyNoInteractions(categoryService);
+    }
+}
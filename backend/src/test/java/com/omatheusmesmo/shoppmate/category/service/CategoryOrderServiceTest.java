@@ -0,0 +1,91 @@
+package com.omatheusmesmo.shoppmate.category.service;
+
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.entity.CategoryOrder;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryOrderRepository;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryRepository;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CategoryOrderServiceTest {
+
+    @Mock
+    private CategoryOrderRepository categoryOrderRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private CategoryOrderService categoryOrderService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        user = new User();
+        user.setId(7L);
+        user.setEmail("user@example.com");
+    }
+
+    @Test
+    void findCategoryOrder_UsesDefaultStoreWhenNull() {
+        when(categoryOrderRepository.findCategoryIdsByUserEmailAndStore("user@example.com", ""))
+                .thenReturn(List.of(3L, 1L));
+
+        List<Long> result = categoryOrderService.findCategoryOrder("user@example.com", null);
+
+        assertEquals(List.of(3L, 1L), result);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replaceCategoryOrder_Ok() {
+        when(userService.findUserByEmail("user@example.com")).thenReturn(user);
+        when(categoryRepository.findAllById(List.of(3L, 1L))).thenReturn(List.of(new Category(), new Category()));
+
+        categoryOrderService.replaceCategoryOrder("user@example.com", " Market ", List.of(3L, 1L));
+
+        verify(categoryOrderRepository, times(1)).deleteByUserIdAndStore(7L, "Market");
+        ArgumentCaptor<List<CategoryOrder>> captor = ArgumentCaptor.forClass(List.class);
+        verify(categoryOrderRepository, times(1)).saveAll(captor.capture());
+        List<CategoryOrder> saved = captor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals(3L, saved.get(0).getCategoryId());
+        assertEquals((short) 0, saved.get(0).getPosition());
+        assertEquals(1L, saved.get(1).getCategoryId());
+        assertEquals((short) 1, saved.get(1).getPosition());
+    }
+
+    @Test
+    void replaceCategoryOrder_DuplicatedCategory() {
+        assertThrows(IllegalArgumentException.class,
+                () -> categoryOrderService.replaceCategoryOrder("user@example.com", null, List.of(1L, 1L)));
+
+        verify(categoryOrderRepository, never()).deleteByUserIdAndStore(anyLong(), anyString());
+    }
+
+    @Test
+    void replaceCategoryOrder_CategoryNotFound() {
+        when(categoryRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(new Category()));
+
+        assertThrows(NoSuchElementException.class,
+                () -> categoryOrderService.replaceCategoryOrder("user@example.com", null, List.of(1L, 2L)));
+
+        verify(categoryOrderRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,98 @@
+package com.omatheusmesmo.shoppmate.category.service;
+
+import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CategoryRegistryTest {
+
+    private CategoryRepository categoryRepository;
+    private CategoryRegistry categoryRegistry;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Grains"), category(2L, "Drinks")));
+        categoryRegistry = new CategoryRegistry(categoryRepository);
+        categoryRegistry.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void get_ServesLoadedCategoriesWithoutQuerying() {
+        assertEquals(new CategoryResponseDTO(2L, "Drinks", null), categoryRegistry.get(2L));
+        assertEquals(new CategoryResponseDTO(1L, "Grains", null), categoryRegistry.get(1L));
+        verify(categoryRepository, times(1)).findAll();
+        verifyNoMoreInteractions(categoryRepository);
+    }
+
+    @Test
+    void get_UnknownId_ThrowsNoSuchElementException() {
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class, () -> categoryRegistry.get(99L));
+        assertEquals("Category not found with id: 99", exception.getMessage());
+        assertTrue(categoryRegistry.find(null).isEmpty());
+    }
+
+    @Test
+    void put_PublishesNewAndRenamedCategories() {
+        categoryRegistry.put(category(2L, "Beverages"));
+        categoryRegistry.put(category(3L, "Dairy"));
+
+        assertEquals(3, categoryRegistry.size());
+        assertEquals("Beverages", categoryRegistry.get(2L).name());
+        assertEquals("Dairy", categoryRegistry.get(3L).name());
+    }
+
+    @Test
+    void etag_ChangesOnEveryPublishedSnapshot() {
+        String initial = categoryRegistry.etag();
+
+        categoryRegistry.put(category(2L, "Beverages"));
+
+        assertNotEquals(initial, categoryRegistry.etag());
+        assertEquals(List.of("Grains", "Beverages"),
+                categoryRegistry.findAll().stream().map(CategoryResponseDTO::name).toList());
+    }
+
+    @Test
+    void path_ReturnsBreadcrumbFromTheRoot() {
+        categoryRegistry.put(category(3L, "Dairy", 1L));
+        categoryRegistry.put(category(4L, "Cheese", 3L));
+
+        assertEquals(List.of("Grains", "Dairy", "Cheese"),
+                categoryRegistry.path(4L).stream().map(CategoryResponseDTO::name).toList());
+        assertTrue(categoryRegistry.isSelfOrAncestor(1L, 4L));
+        assertFalse(categoryRegistry.isSelfOrAncestor(4L, 3L));
+    }
+
+    @Test
+    void path_FollowsMovesAndRenames() {
+        categoryRegistry.put(category(3L, "Dairy", 1L));
+        assertEquals(2, categoryRegistry.path(3L).size());
+
+        categoryRegistry.put(category(3L, "Milk", 2L));
+
+        assertEquals(List.of("Drinks", "Milk"),
+                categoryRegistry.path(3L).stream().map(CategoryResponseDTO::name).toList());
+        assertThrows(NoSuchElementException.class, () -> categoryRegistry.path(99L));
+    }
+
+    private Category category(Long id, String name) {
+        return category(id, name, null);
+    }
+
+    private Category category(Long id, String name, Long parentId) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setParentId(parentId);
+        return category;
+    }
+}
@@ -0,0 +1,126 @@
+package com.omatheusmesmo.shoppmate.category.service;
+
+import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
+import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryClosureRepository;
+import com.omatheusmesmo.shoppmate.category.repository.CategoryRepository;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.item.service.ItemSearchIndex;
+import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CategoryServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private CategoryClosureRepository categoryClosureRepository;
+    @Mock
+    private AuditService auditService;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
+    @InjectMocks
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(categoryRegistry.get(anyLong()))
+                .thenAnswer(call -> new CategoryResponseDTO(call.getArgument(0), "", null));
+    }
+
+    @Test
+    void saveCategory_New_LinksItUnderItsParent() {
+        Category cheese = category(null, "Cheese", 2L);
+        when(categoryRepository.save(cheese)).thenAnswer(call -> {
+            cheese.setId(5L);
+            return cheese;
+        });
+
+        categoryService.saveCategory(cheese);
+
+        InOrder inOrder = inOrder(categoryClosureRepository);
+        inOrder.verify(categoryClosureRepository).insertSelf(5L);
+        inOrder.verify(categoryClosureRepository).attachSubtree(5L, 2L);
+        verify(categoryClosureRepository, never()).detachSubtree(any());
+        verify(categoryRegistry).put(cheese);
+    }
+
+    @Test
+    void saveCategory_NewParent_MovesTheSubtree() {
+        Category dairy = category(2L, "Dairy", 4L);
+        when(categoryClosureRepository.findParentId(2L)).thenReturn(Optional.of(1L));
+
+        categoryService.saveCategory(dairy);
+
+        InOrder inOrder = inOrder(categoryClosureRepository);
+        inOrder.verify(categoryClosureRepository).detachSubtree(2L);
+        inOrder.verify(categoryClosureRepository).attachSubtree(2L, 4L);
+        verify(categoryClosureRepository, never()).insertSelf(any());
+    }
+
+    @Test
+    void saveCategory_SameParent_LeavesTheClosureAlone() {
+        Category dairy = category(2L, "Milk & Cheese", 1L);
+        when(categoryClosureRepository.findParentId(2L)).thenReturn(Optional.of(1L));
+
+        categoryService.saveCategory(dairy);
+
+        verify(categoryClosureRepository).findParentId(2L);
+        verifyNoMoreInteractions(categoryClosureRepository);
+        verify(categoryRepository).save(dairy);
+    }
+
+    @Test
+    void saveCategory_UnderItsOwnSubcategory_ThrowsIllegalArgumentException() {
+        Category dairy = category(2L, "Dairy", 3L);
+        when(categoryRegistry.isSelfOrAncestor(2L, 3L)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> categoryService.saveCategory(dairy));
+        verify(categoryRepository, never()).save(any());
+        verifyNoInteractions(categoryClosureRepository);
+    }
+
+    @Test
+    void removeCategory_WithSubcategories_ThrowsIllegalArgumentException() {
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category(1L, "Food", null)));
+        when(categoryRepository.existsByParentId(1L)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> categoryService.removeCategory(1L));
+        verify(auditService, never()).softDelete(any());
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test
+    void removeCategory_WithItems_ThrowsIllegalArgumentException() {
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category(1L, "Food", null)));
+        when(itemRepository.existsByCategoryId(1L)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> categoryService.removeCategory(1L));
+        verify(auditService, never()).softDelete(any());
+    }
+
+    private Category category(Long id, String name, Long parentId) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setParentId(parentId);
+        return category;
+    }
+}
@@ -0,0 +1,51 @@
+package com.omatheusmesmo.shoppmate.household.service;
+
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HouseholdMembershipIndexTest {
+
+    private HouseholdMemberRepository householdMemberRepository;
+    private HouseholdMembershipIndex householdMembershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        householdMemberRepository = mock(HouseholdMemberRepository.class);
+        householdMembershipIndex = new HouseholdMembershipIndex(householdMemberRepository, 64, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void householdIdsOf_IsCachedUntilInvalidated() {
+        when(householdMemberRepository.findHouseholdIdsByUserId(2L)).thenReturn(List.of(5L));
+
+        householdMembershipIndex.householdIdsOf(2L);
+        householdMembershipIndex.householdIdsOf(2L);
+        verify(householdMemberRepository, times(1)).findHouseholdIdsByUserId(2L);
+
+        householdMembershipIndex.invalidate(2L);
+        householdMembershipIndex.householdIdsOf(2L);
+        verify(householdMemberRepository, times(2)).findHouseholdIdsByUserId(2L);
+    }
+
+    @Test
+    void householdIdsOf_InvalidatedWhileLoading_IsNotCached() {
+        when(householdMemberRepository.findHouseholdIdsByUserId(2L)).thenAnswer(invocation -> {
+            // A member removal committing between the query and the put.
+            householdMembershipIndex.invalidate(2L);
+            return List.of(5L);
+        }).thenReturn(List.of());
+
+        assertArrayEquals(new long[] { 5L }, householdMembershipIndex.householdIdsOf(2L));
+        assertArrayEquals(new long[0], householdMembershipIndex.householdIdsOf(2L));
+        assertArrayEquals(new long[0], householdMembershipIndex.householdIdsOf(2L));
+
+        verify(householdMemberRepository, times(2)).findHouseholdIdsByUserId(2L);
+    }
+}
@@ -0,0 +1,147 @@
+package com.omatheusmesmo.shoppmate.household.service;
+
+import com.omatheusmesmo.shoppmate.household.entity.Household;
+import com.omatheusmesmo.shoppmate.household.entity.HouseholdMember;
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdMemberRepository;
+import com.omatheusmesmo.shoppmate.household.repository.HouseholdRepository;
+import com.omatheusmesmo.shoppmate.list.service.ListAccessService;
+import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import com.omatheusmesmo.shoppmate.user.entity.User;
+import com.omatheusmesmo.shoppmate.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HouseholdServiceTest {
+
+    @Mock
+    private HouseholdRepository householdRepository;
+    @Mock
+    private HouseholdMemberRepository householdMemberRepository;
+    @Mock
+    private UserService userService;
+    @Mock
+    private AuditService auditService;
+    @Mock
+    private HouseholdMembershipIndex householdMembershipIndex;
+    @Mock
+    private ListAccessService listAccessService;
+
+    @InjectMocks
+    private HouseholdService householdService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void addHousehold_OwnerBecomesMember() {
+        User owner = createUser(1L);
+        when(userService.findUserById(1L)).thenReturn(owner);
+
+        Household household = householdService.addHousehold("Home", 1L);
+
+        assertEquals(owner, household.getOwner());
+        verify(householdRepository, times(1)).save(household);
+        verify(householdMemberRepository, times(1)).save(any(HouseholdMember.class));
+        verify(householdMembershipIndex, times(1)).invalidate(1L);
+        verify(listAccessService, times(1)).invalidateUser(1L);
+    }
+
+    @Test
+    void addMember_RevivesRemovedMember() {
+        Household household = createHousehold(1L);
+        User user = createUser(2L);
+        HouseholdMember removed = new HouseholdMember();
+        removed.setDeleted(true);
+        when(householdRepository.findById(7L)).thenReturn(Optional.of(household));
+        when(userService.findUserById(2L)).thenReturn(user);
+        when(householdMemberRepository.findIncludingDeleted(7L, 2L)).thenReturn(Optional.of(removed));
+
+        HouseholdMember member = householdService.addMember(7L, 2L, 1L);
+
+        assertSame(removed, member);
+        assertFalse(member.getDeleted());
+        verify(householdMembershipIndex, times(1)).invalidate(2L);
+        verify(listAccessService, times(1)).invalidateUser(2L);
+    }
+
+    @Test
+    void addMember_AlreadyMember_ThrowsIllegalArgumentException() {
+        when(householdRepository.findById(7L)).thenReturn(Optional.of(createHousehold(1L)));
+        when(userService.findUserById(2L)).thenReturn(createUser(2L));
+        when(householdMemberRepository.findIncludingDeleted(7L, 2L)).thenReturn(Optional.of(new HouseholdMember()));
+
+        assertThrows(IllegalArgumentException.class, () -> householdService.addMember(7L, 2L, 1L));
+        verify(householdMemberRepository, never()).save(any());
+    }
+
+    @Test
+    void addMember_NotOwner_ThrowsAccessDeniedException() {
+        when(householdRepository.findById(7L)).thenReturn(Optional.of(createHousehold(1L)));
+
+        assertThrows(AccessDeniedException.class, () -> householdService.addMember(7L, 3L, 2L));
+        verify(householdMemberRepository, never()).save(any());
+    }
+
+    @Test
+    void removeMember_MemberCanLeave() {
+        HouseholdMember member = new HouseholdMember();
+        when(householdRepository.findById(7L)).thenReturn(Optional.of(createHousehold(1L)));
+        when(householdMemberRepository.findByHouseholdIdAndUserId(7L, 2L)).thenReturn(Optional.of(member));
+
+        householdService.removeMember(7L, 2L, 2L);
+
+        verify(auditService, times(1)).softDelete(member);
+        verify(householdMembershipIndex, times(1)).invalidate(2L);
+        verify(listAccessService, times(1)).invalidateUser(2L);
+    }
+
+    @Test
+    void removeMember_OwnerCannotLeave() {
+        when(householdRepository.findById(7L)).thenReturn(Optional.of(createHousehold(1L)));
+
+        assertThrows(IllegalArgumentException.class, () -> householdService.removeMember(7L, 1L, 1L));
+    }
+
+    @Test
+    void removeHousehold_InvalidatesEveryMember() {
+        Household household = createHousehold(1L);
+        HouseholdMember first = new HouseholdMember();
+        first.setUser(createUser(1L));
+        HouseholdMember second = new HouseholdMember();
+        second.setUser(createUser(2L));
+        when(householdRepository.findById(7L)).thenReturn(Optional.of(household));
+        when(householdMemberRepository.findByHouseholdId(7L)).thenReturn(List.of(first, second));
+
+        householdService.removeHousehold(7L, 1L);
+
+        verify(auditService, times(1)).softDelete(household);
+        verify(listAccessService, times(1)).invalidateUser(1L);
+        verify(listAccessService, times(1)).invalidateUser(2L);
+    }
+
+    private Household createHousehold(Long ownerId) {
+        Household household = new Household();
+        household.setId(7L);
+        household.setName("Home");
+        household.setOwner(createUser(ownerId));
+        return household;
+    }
+
+    private User createUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
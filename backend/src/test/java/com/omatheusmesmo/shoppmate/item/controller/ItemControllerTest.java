@@ -3,14 +3,20 @@ package com.omatheusmesmo.shoppmate.item.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
 import com.omatheusmesmo.shoppmate.category.entity.Category;
+import com.omatheusmesmo.shoppmate.item.dto.ItemImportResultDTO;
 import com.omatheusmesmo.shoppmate.item.dto.ItemRequestDTO;
 import com.omatheusmesmo.shoppmate.item.dto.ItemResponseDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ScannedItemDTO;
 import com.omatheusmesmo.shoppmate.item.entity.Item;
 import com.omatheusmesmo.shoppmate.item.mapper.ItemMapper;
 import com.omatheusmesmo.shoppmate.unit.dto.UnitResponseDTO;
 import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.item.service.ItemCodeService;
+import com.omatheusmesmo.shoppmate.item.service.ItemImportService;
 import com.omatheusmesmo.shoppmate.item.service.ItemService;
 import com.omatheusmesmo.shoppmate.auth.service.JwtService;
+import com.omatheusmesmo.shoppmate.list.service.ListAccessService;
+import com.omatheusmesmo.shoppmate.shared.domain.KeysetPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -18,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -31,6 +38,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemController.class)
@@ -46,12 +54,21 @@ class ItemControllerTest {
     @MockBean
     private ItemMapper itemMapper;
 
+    @MockBean
+    private ItemImportService itemImportService;
+
+    @MockBean
+    private ItemCodeService itemCodeService;
+
     @MockBean
     private JwtService jwtService;
 
     @MockBean
     private UserDetailsService userDetailsService;
 
+    @MockBean
+    private ListAccessService listAccessService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -85,11 +102,11 @@ class ItemControllerTest {
         item2.setUnit(unit);
         item2.setCategory(category);
 
-        CategoryResponseDTO categoryResponseDTO = new CategoryResponseDTO(1L, "Food");
+        CategoryResponseDTO categoryResponseDTO = new CategoryResponseDTO(1L, "Food", null);
         UnitResponseDTO unitResponseDTO = new UnitResponseDTO(1L, "kg");
 
-        itemResponseDTO1 = new ItemResponseDTO(1L, "Feijão", categoryResponseDTO, unitResponseDTO);
-        itemResponseDTO2 = new ItemResponseDTO(2L, "Arroz", categoryResponseDTO, unitResponseDTO);
+        itemResponseDTO1 = new ItemResponseDTO(1L, null, "Feijão", categoryResponseDTO, unitResponseDTO);
+        itemResponseDTO2 = new ItemResponseDTO(2L, null, "Arroz", categoryResponseDTO, unitResponseDTO);
     }
 
     @Test
@@ -98,7 +115,7 @@ class ItemControllerTest {
         List<Item> allItems = Arrays.asList(item1, item2);
         List<ItemResponseDTO> allItemDTOs = Arrays.asList(itemResponseDTO1, itemResponseDTO2);
 
-        when(itemService.findAll()).thenReturn(allItems);
+        when(itemService.findPage(null, null, null, null)).thenReturn(new KeysetPage<>(allItems, null));
         when(itemMapper.toResponseDTO(any(Item.class))).thenAnswer(invocation -> {
             Item item = invocation.getArgument(0);
             if (item.getId().equals(1L))
@@ -107,13 +124,63 @@ class ItemControllerTest {
         });
 
         mockMvc.perform(get("/item")).andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(allItemDTOs)));
+                .andExpect(content().json(objectMapper.writeValueAsString(allItemDTOs)))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetAllItems_MorePages_ReturnsNextLink() throws Exception {
+        when(itemService.findPage(null, 1, 1L, null)).thenReturn(new KeysetPage<>(List.of(item1), 1L));
+        when(itemMapper.toResponseDTO(item1)).thenReturn(itemResponseDTO1);
+
+        mockMvc.perform(get("/item?size=1&categoryId=1")).andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(List.of(itemResponseDTO1))))
+                .andExpect(header().string(HttpHeaders.LINK,
+                        "<http://localhost/item?size=1&categoryId=1&after=1>; rel=\"next\""));
+    }
+
+    @Test
+    @WithMockUser
+    void testGetItemById_MatchingETag_ReturnsNotModified() throws Exception {
+        when(itemService.findById(1L)).thenReturn(item1);
+        when(itemMapper.toResponseDTO(item1)).thenReturn(itemResponseDTO1);
+
+        String etag = mockMvc.perform(get("/item/1")).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private")).andReturn().getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/item/1").header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag)).andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void testPostImportItems_RoutesByContentType() throws Exception {
+        ItemImportResultDTO result = new ItemImportResultDTO(1, 1, 0, 0, 5, 200, List.of());
+        when(itemImportService.importCsv(any())).thenReturn(result);
+
+        mockMvc.perform(post("/item/import").contentType("text/csv").content("name,category,unit\nArroz,Food,kg\n"))
+                .andExpect(status().isOk()).andExpect(content().json(objectMapper.writeValueAsString(result)));
+        verify(itemImportService, times(1)).importCsv(any());
+        verify(itemImportService, never()).importNdjson(any());
+    }
+
+    @Test
+    @WithMockUser
+    void testGetItemByCode() throws Exception {
+        ScannedItemDTO scannedItem = new ScannedItemDTO(1L, null, "Feijão", 1L, 1L);
+        when(itemCodeService.findItemByCode("7891234567895")).thenReturn(scannedItem);
+        when(itemMapper.toResponseDTO(scannedItem)).thenReturn(itemResponseDTO1);
+
+        mockMvc.perform(get("/item/by-code/7891234567895")).andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(itemResponseDTO1)));
     }
 
     @Test
     @WithMockUser
     void testPostAddItem() throws Exception {
-        ItemRequestDTO requestDTO = new ItemRequestDTO("Feijão", 1L, 1L);
+        ItemRequestDTO requestDTO = new ItemRequestDTO("Feijão", 1L, 1L, null);
 
         when(itemMapper.toEntity(any(ItemRequestDTO.class))).thenReturn(item1);
         when(itemService.addItem(any(Item.class))).thenReturn(item1);
@@ -139,7 +206,7 @@ class ItemControllerTest {
     @Test
     @WithMockUser
     void testPutEditItem() throws Exception {
-        ItemRequestDTO requestDTO = new ItemRequestDTO("Feijão", 1L, 1L);
+        ItemRequestDTO requestDTO = new ItemRequestDTO("Feijão", 1L, 1L, null);
 
         when(itemMapper.toEntity(any(ItemRequestDTO.class))).thenReturn(item1);
         when(itemService.editItem(any(Item.class))).thenReturn(item1);
@@ -156,7 +223,7 @@ class ItemControllerTest {
         when(itemMapper.toEntity(any(ItemRequestDTO.class))).thenThrow(new IllegalArgumentException("Invalid item"));
         ;
 
-        ItemRequestDTO invalidItem = new ItemRequestDTO("", 1L, 1L);
+        ItemRequestDTO invalidItem = new ItemRequestDTO("", 1L, 1L, null);
 
         mockMvc.perform(post("/item").contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(invalidItem))).andExpect(status().isBadRequest());
@@ -165,7 +232,7 @@ class ItemControllerTest {
     @Test
     @WithMockUser
     void testPutEditItem_NotFound() throws Exception {
-        ItemRequestDTO requestDTO = new ItemRequestDTO("Feijão", 1L, 1L);
+        ItemRequestDTO requestDTO = new ItemRequestDTO("Feijão", 1L, 1L, null);
 
         when(itemMapper.toEntity(any(ItemRequestDTO.class))).thenReturn(item1);
         doThrow(new NoSuchElementException()).when(itemService).editItem(any(Item.class));
@@ -0,0 +1,136 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.omatheusmesmo.shoppmate.item.dto.ItemCodeResponseDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ScannedItemDTO;
+import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.entity.ItemCode;
+import com.omatheusmesmo.shoppmate.item.repository.ItemCodeRepository;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ItemCodeServiceTest {
+
+    private static final String EAN_13 = "7891234567895";
+
+    private ItemCodeRepository itemCodeRepository;
+    private ItemRepository itemRepository;
+    private ItemCodeService itemCodeService;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        itemCodeRepository = mock(ItemCodeRepository.class);
+        itemRepository = mock(ItemRepository.class);
+        itemCodeService = new ItemCodeService(itemCodeRepository, itemRepository, mock(AuditService.class), 64,
+                Duration.ofMinutes(10));
+
+        item = new Item();
+        item.setId(1L);
+        item.setName("Feijão");
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+    }
+
+    @Test
+    void findItemByCode_RepeatedScan_QueriesOnce() {
+        ScannedItemDTO scannedItem = new ScannedItemDTO(1L, null, "Feijão", 1L, 1L);
+        when(itemCodeRepository.findScannedItemByGtin(7891234567895L)).thenReturn(Optional.of(scannedItem));
+
+        assertEquals(scannedItem, itemCodeService.findItemByCode(EAN_13));
+        assertEquals(scannedItem, itemCodeService.findItemByCode(" " + EAN_13 + " "));
+
+        verify(itemCodeRepository, times(1)).findScannedItemByGtin(7891234567895L);
+    }
+
+    @Test
+    void findItemByCode_UpcAndEan13FormsResolveToTheSameCode() {
+        when(itemCodeRepository.findScannedItemByGtin(36000291452L))
+                .thenReturn(Optional.of(new ScannedItemDTO(1L, null, "Feijão", 1L, 1L)));
+
+        itemCodeService.findItemByCode("036000291452");
+        itemCodeService.findItemByCode("0036000291452");
+
+        verify(itemCodeRepository, times(1)).findScannedItemByGtin(36000291452L);
+    }
+
+    @Test
+    void findItemByCode_InvalidCode_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> itemCodeService.findItemByCode("7891234567890"));
+        assertThrows(IllegalArgumentException.class, () -> itemCodeService.findItemByCode("78912345"));
+        assertThrows(IllegalArgumentException.class, () -> itemCodeService.findItemByCode("789123456789A"));
+        verifyNoInteractions(itemCodeRepository);
+    }
+
+    @Test
+    void findItemByCode_UnknownCode_ThrowsNoSuchElementException() {
+        when(itemCodeRepository.findScannedItemByGtin(anyLong())).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class, () -> itemCodeService.findItemByCode(EAN_13));
+    }
+
+    @Test
+    void addCode_NewCode_SavesNormalizedCode() {
+        when(itemCodeRepository.findByGtin(7891234567895L)).thenReturn(Optional.empty());
+
+        ItemCodeResponseDTO result = itemCodeService.addCode(1L, EAN_13);
+
+        assertEquals(new ItemCodeResponseDTO(1L, EAN_13), result);
+        ArgumentCaptor<ItemCode> saved = ArgumentCaptor.forClass(ItemCode.class);
+        verify(itemCodeRepository, times(1)).save(saved.capture());
+        assertEquals(7891234567895L, saved.getValue().getGtin());
+        assertSame(item, saved.getValue().getItem());
+    }
+
+    @Test
+    void addCode_CodeOfAnotherItem_ThrowsIllegalArgumentException() {
+        Item other = new Item();
+        other.setId(2L);
+        ItemCode existing = new ItemCode();
+        existing.setItem(other);
+        existing.setGtin(7891234567895L);
+        when(itemCodeRepository.findByGtin(7891234567895L)).thenReturn(Optional.of(existing));
+
+        assertThrows(IllegalArgumentException.class, () -> itemCodeService.addCode(1L, EAN_13));
+        verify(itemCodeRepository, never()).save(any());
+    }
+
+    @Test
+    void removeCode_EvictsCachedScan() {
+        ItemCode itemCode = new ItemCode();
+        itemCode.setItem(item);
+        itemCode.setGtin(7891234567895L);
+        when(itemCodeRepository.findByGtin(7891234567895L)).thenReturn(Optional.of(itemCode));
+        when(itemCodeRepository.findScannedItemByGtin(7891234567895L))
+                .thenReturn(Optional.of(new ScannedItemDTO(1L, null, "Feijão", 1L, 1L)), Optional.empty());
+        itemCodeService.findItemByCode(EAN_13);
+
+        itemCodeService.removeCode(1L, EAN_13);
+
+        verify(itemCodeRepository, times(1)).delete(itemCode);
+        assertThrows(NoSuchElementException.class, () -> itemCodeService.findItemByCode(EAN_13));
+    }
+
+    @Test
+    void invalidateItem_EvictsEveryCodeOfTheItem() {
+        when(itemCodeRepository.findScannedItemByGtin(7891234567895L))
+                .thenReturn(Optional.of(new ScannedItemDTO(1L, null, "Feijão", 1L, 1L)));
+        when(itemCodeRepository.findGtinsByItemId(1L)).thenReturn(List.of(7891234567895L));
+        itemCodeService.findItemByCode(EAN_13);
+
+        itemCodeService.invalidateItem(1L);
+        itemCodeService.findItemByCode(EAN_13);
+
+        verify(itemCodeRepository, times(2)).findScannedItemByGtin(7891234567895L);
+    }
+}
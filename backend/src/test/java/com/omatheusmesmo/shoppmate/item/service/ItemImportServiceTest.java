@@ -0,0 +1,147 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omatheusmesmo.shoppmate.category.dto.CategoryResponseDTO;
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
+import com.omatheusmesmo.shoppmate.item.dto.ItemImportErrorDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemImportResultDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemInsertDTO;
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ItemImportServiceTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private CategoryRegistry categoryRegistry;
+    @Mock
+    private UnitRegistry unitRegistry;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Mock
+    private ItemNameMatcher itemNameMatcher;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ItemImportService itemImportService;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(categoryRegistry.findAll()).thenReturn(List.of(new CategoryResponseDTO(1L, "Grãos", null)));
+        when(categoryRegistry.get(1L)).thenReturn(new CategoryResponseDTO(1L, "Grãos", null));
+        when(unitRegistry.findAll()).thenReturn(
+                List.of(new UnitDTO(1L, "Kilogram", "kg", null, null), new UnitDTO(2L, "Unit", "un", null, null)));
+        when(itemRepository.insertIgnoringExistingNames(anyList(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            List<ItemInsertDTO> rows = invocation.getArgument(0);
+            return rows.stream().filter(row -> !row.name().equals("Existing"))
+                    .map(row -> new ItemSearchResultDTO(ids.incrementAndGet(), row.name(), row.categoryId(), null))
+                    .toList();
+        });
+    }
+
+    @Test
+    void importCsv_ResolvesNamesAndSymbolsAndCountsDuplicates() {
+        String csv = """
+                unit,name,category
+                kg,"Feijão \"\"Carioca\"\"",grãos
+                UN,Arroz,Grãos
+
+                kg,Arroz,Grãos
+                kg,Existing,Grãos
+                """;
+
+        ItemImportResultDTO result = itemImportService.importCsv(new StringReader(csv));
+
+        assertEquals(4, result.rows());
+        assertEquals(2, result.inserted());
+        assertEquals(2, result.duplicates());
+        assertEquals(0, result.rejected());
+
+        ArgumentCaptor<List<ItemInsertDTO>> rows = ArgumentCaptor.forClass(List.class);
+        verify(itemRepository, times(1)).insertIgnoringExistingNames(rows.capture(), any(LocalDateTime.class));
+        assertEquals(List.of(new ItemInsertDTO("Feijão \"Carioca\"", 1L, 1L), new ItemInsertDTO("Arroz", 1L, 2L),
+                new ItemInsertDTO("Existing", 1L, 1L)), rows.getValue());
+        verify(itemSearchIndex, times(1)).index(new ItemSearchResultDTO(2L, "Arroz", 1L, "Grãos"));
+    }
+
+    @Test
+    void importCsv_ReportsRejectedRowsWithLineNumbers() {
+        String csv = """
+                name,category,unit
+                Feijão,Bebidas,kg
+                ,Grãos,kg
+                Arroz,Grãos,litre
+                "Leite,Grãos,kg
+                Milho,Grãos,kg
+                """;
+
+        ItemImportResultDTO result = itemImportService.importCsv(new StringReader(csv));
+
+        assertEquals(5, result.rows());
+        assertEquals(1, result.inserted());
+        assertEquals(4, result.rejected());
+        assertEquals(List.of(new ItemImportErrorDTO(2, "Category not found: Bebidas"),
+                new ItemImportErrorDTO(3, "Enter a valid name!"), new ItemImportErrorDTO(4, "Unit not found: litre"),
+                new ItemImportErrorDTO(5, "Unterminated quoted field!")), result.errors());
+    }
+
+    @Test
+    void importCsv_MissingColumn_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> itemImportService.importCsv(new StringReader("name,category\nArroz,Grãos\n")));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void importCsv_WritesInBatches() {
+        StringBuilder csv = new StringBuilder("name,category,unit\n");
+        for (int i = 0; i < 2500; i++) {
+            csv.append("Item ").append(i).append(",Grãos,kg\n");
+        }
+
+        ItemImportResultDTO result = itemImportService.importCsv(new StringReader(csv.toString()));
+
+        assertEquals(2500, result.inserted());
+        verify(itemRepository, times(3)).insertIgnoringExistingNames(anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void importNdjson_ReportsMalformedLines() {
+        String ndjson = """
+                {"name": "Arroz", "category": "Grãos", "unit": "kg"}
+                {"name": "Feijão", "category":
+                {"name": "Milho", "category": "grãos", "unit": "un"}
+                """;
+
+        ItemImportResultDTO result = itemImportService.importNdjson(new StringReader(ndjson));
+
+        assertEquals(3, result.rows());
+        assertEquals(2, result.inserted());
+        assertEquals(1, result.rejected());
+        assertEquals(2, result.errors().get(0).line());
+        assertTrue(result.errors().get(0).message().startsWith("Malformed JSON"));
+    }
+}
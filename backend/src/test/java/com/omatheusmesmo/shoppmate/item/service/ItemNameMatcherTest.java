@@ -0,0 +1,85 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.utils.TextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ItemNameMatcherTest {
+
+    private ItemNameMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new ItemNameMatcher(mock(ItemRepository.class), mock(PlatformTransactionManager.class),
+                new ItemSynonyms(new ClassPathResource("search/item-synonyms.txt")));
+        matcher.put(1L, "Leite");
+        matcher.put(2L, "Leite Integral");
+        matcher.put(3L, "Arroz");
+        matcher.put(4L, "Refrigerante de Laranja");
+        matcher.put(5L, "Integral Bread");
+    }
+
+    @Test
+    void findMatches_PrefersTheLongestNameAtEachPosition() {
+        assertEquals(
+                List.of(new ItemNameMatcher.Match(1, 3, 2L, "Leite Integral"),
+                        new ItemNameMatcher.Match(4, 5, 3L, "Arroz")),
+                matcher.findMatches(words("2 leite integral e arroz")));
+    }
+
+    @Test
+    void findMatches_FollowsFailureLinksAcrossPartialNames() {
+        assertEquals(List.of(1L, 3L), ids("leite arroz"));
+        assertEquals(List.of(1L), ids("refrigerante de leite"));
+        assertEquals(List.of(5L), ids("some integral bread"));
+        // Both names overlap on "integral": the one starting first wins.
+        assertEquals(List.of(2L), ids("leite integral bread"));
+    }
+
+    @Test
+    void findMatches_IgnoresCaseAccentsPluralsAndSynonyms() {
+        assertEquals(List.of(1L, 3L, 4L), ids("MILK, Arroz, refri de laranjas"));
+    }
+
+    @Test
+    void put_RenamedItemNoLongerMatchesItsOldName() {
+        matcher.put(3L, "Arroz Parboilizado");
+
+        assertEquals(List.of(), ids("arroz"));
+        assertEquals(List.of(3L), ids("arroz parboilizado"));
+    }
+
+    @Test
+    void remove_DropsTheItemAndKeepsLongerNames() {
+        matcher.remove(1L);
+
+        assertEquals(List.of(), ids("leite"));
+        assertEquals(List.of(2L), ids("leite integral"));
+        assertEquals(4, matcher.size());
+    }
+
+    @Test
+    void remove_RebuildsOnceMostNamesAreGone() {
+        matcher.remove(1L);
+        matcher.remove(2L);
+        matcher.remove(4L);
+
+        assertEquals(List.of(3L, 5L), ids("arroz integral bread"));
+    }
+
+    private List<Long> ids(String text) {
+        return matcher.findMatches(words(text)).stream().map(ItemNameMatcher.Match::itemId).toList();
+    }
+
+    private static List<String> words(String text) {
+        return TextNormalizer.tokenizeSplittingNumbers(text);
+    }
+}
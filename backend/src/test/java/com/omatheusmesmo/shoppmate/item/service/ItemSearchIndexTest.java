@@ -0,0 +1,134 @@
+package com.omatheusmesmo.shoppmate.item.service;
+
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
+import com.omatheusmesmo.shoppmate.item.dto.ItemSearchResultDTO;
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ItemSearchIndexTest {
+
+    private ItemRepository itemRepository;
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        index = new ItemSearchIndex(itemRepository, mock(CategoryRegistry.class),
+                mock(PlatformTransactionManager.class),
+                new ItemSynonyms(new ClassPathResource("search/item-synonyms.txt")));
+        index.index(new ItemSearchResultDTO(1L, "Feijão Preto", 1L, "Grãos"));
+        index.index(new ItemSearchResultDTO(2L, "Arroz Integral", 1L, "Grãos"));
+        index.index(new ItemSearchResultDTO(3L, "Refrigerante de Laranja", 2L, "Bebidas"));
+        index.index(new ItemSearchResultDTO(4L, "Leite Integral", 3L, "Laticínios"));
+    }
+
+    @Test
+    void search_IgnoresCaseAndAccents() {
+        assertEquals(List.of(1L), ids(index.search("FEIJAO", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("graos", 10)));
+    }
+
+    @Test
+    void search_MatchesPrefixesOfEveryWord() {
+        assertEquals(List.of(2L, 4L), ids(index.search("integ", 10)));
+        assertEquals(List.of(2L), ids(index.search("arr integ", 10)));
+    }
+
+    @Test
+    void search_ToleratesOneTypo() {
+        assertEquals(List.of(2L), ids(index.search("aroz", 10)));
+        assertEquals(List.of(4L), ids(index.search("leiet", 10)));
+    }
+
+    @Test
+    void search_ExpandsSynonyms() {
+        assertEquals(List.of(3L), ids(index.search("soda", 10)));
+    }
+
+    @Test
+    void search_RanksNameMatchesBeforeCategoryMatches() {
+        index.index(new ItemSearchResultDTO(5L, "Bebida de Soja", 3L, "Laticínios"));
+
+        assertEquals(List.of(5L, 3L), ids(index.search("bebida", 10)));
+    }
+
+    @Test
+    void search_RespectsLimit() {
+        assertEquals(1, index.search("integral", 1).size());
+    }
+
+    @Test
+    void search_FindsRareCombinationsOfCommonWords() {
+        for (long id = 100; id < 1_100; id++) {
+            index.index(new ItemSearchResultDTO(id, "Leite Desnatado " + id, 3L, "Laticínios"));
+            index.index(new ItemSearchResultDTO(id + 1_000, "Iogurte Integral " + id, 3L, "Laticínios"));
+        }
+        index.index(new ItemSearchResultDTO(5_000L, "Leite Integral Zero Lactose", 3L, "Laticínios"));
+
+        assertEquals(List.of(4L, 5_000L), ids(index.search("leite integral", 10)));
+        assertEquals(List.of(4L, 5_000L), ids(index.search("integral leite", 10)));
+    }
+
+    @Test
+    void search_WordsNarrowingACommonPrefix_KeepTheBestMatches() {
+        for (long id = 100; id < 1_100; id++) {
+            index.index(new ItemSearchResultDTO(id, "Leite Desnatado " + id, 3L, "Laticínios"));
+        }
+
+        assertEquals(List.of(4L), ids(index.search("le integral", 10)));
+    }
+
+    @Test
+    void index_ReplacesAndRemovesDocuments() {
+        index.index(new ItemSearchResultDTO(1L, "Feijão Carioca", 1L, "Grãos"));
+        assertTrue(index.search("preto", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("carioca", 10)));
+
+        index.remove(1L);
+        assertTrue(index.search("feijao", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void updateCategoryName_ReindexesItemsOfCategory() {
+        index.updateCategoryName(1L, "Cereais");
+
+        assertEquals(List.of(1L, 2L), ids(index.search("cereais", 10)));
+        assertTrue(index.search("graos", 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_StreamsItemsFromRepository() {
+        when(itemRepository.streamSearchDocuments())
+                .thenReturn(Stream.of(new ItemSearchResultDTO(9L, "Café", 4L, "Bebidas")));
+
+        index.rebuild();
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(9L), ids(index.search("cafe", 10)));
+    }
+
+    @Test
+    void isOneEditAway_AcceptsSingleEdits() {
+        assertTrue(ItemSearchIndex.isOneEditAway("leite", "leiet"));
+        assertTrue(ItemSearchIndex.isOneEditAway("leite", "leit"));
+        assertTrue(ItemSearchIndex.isOneEditAway("leite", "lleite"));
+        assertTrue(ItemSearchIndex.isOneEditAway("leite", "leito"));
+        assertFalse(ItemSearchIndex.isOneEditAway("leite", "leite"));
+        assertFalse(ItemSearchIndex.isOneEditAway("leite", "leet"));
+        assertFalse(ItemSearchIndex.isOneEditAway("leite", "lei"));
+    }
+
+    private static List<Long> ids(List<ItemSearchResultDTO> results) {
+        return results.stream().map(ItemSearchResultDTO::id).toList();
+    }
+}
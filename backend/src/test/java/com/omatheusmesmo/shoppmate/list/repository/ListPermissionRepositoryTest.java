@@ -0,0 +1,89 @@
+package com.omatheusmesmo.shoppmate.list.repository;
+
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionGrantDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListPermission;
+import com.omatheusmesmo.shoppmate.list.entity.Permission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the permission upsert, which both grant endpoints go through, on the PostgreSQL it is written for: granting a
+ * revoked permission again revives its row rather than clashing with the (id_list, id_user) key. Each test rolls back.
+ * Skipped where no Docker daemon is reachable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = { "logging.level.root=WARN",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ListPermissionRepositoryTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ListPermissionRepository listPermissionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long listId;
+    private long granteeId;
+
+    @BeforeEach
+    void setUp() {
+        long owner = insert(
+                "INSERT INTO users (email, full_name, password) VALUES ('owner@shoppmate.com', 'Owner', 'password')");
+        granteeId = insert(
+                "INSERT INTO users (email, full_name, password) VALUES ('grantee@shoppmate.com', 'Grantee', 'password')");
+        listId = insert("INSERT INTO lists (name, owner_id_user) VALUES ('Weekly', ?)", owner);
+    }
+
+    @Test
+    void upsertPermissions_RevokedPermission_IsRevivedWithTheNewLevel() {
+        listPermissionRepository.upsertPermissions(listId,
+                List.of(new ListPermissionGrantDTO(granteeId, Permission.READ)), MONDAY);
+        long id = jdbcTemplate.queryForObject("SELECT id FROM list_user_permissions WHERE id_list = ?", Long.class,
+                listId);
+        listPermissionRepository.softDeleteByListIdAndUserIds(listId, List.of(granteeId), MONDAY.plusDays(1));
+        assertTrue(listPermissionRepository.findByShoppingListIdAndUserId(listId, granteeId).isEmpty());
+
+        listPermissionRepository.upsertPermissions(listId,
+                List.of(new ListPermissionGrantDTO(granteeId, Permission.WRITE)), MONDAY.plusDays(2));
+
+        ListPermission revived = listPermissionRepository.findByShoppingListIdAndUserId(listId, granteeId)
+                .orElseThrow();
+        assertEquals(id, revived.getId());
+        assertEquals(Permission.WRITE, revived.getPermission());
+        assertEquals("Grantee", revived.getUser().getFullName());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM list_user_permissions WHERE id_list = ?",
+                Integer.class, listId));
+    }
+
+    private long insert(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql + " RETURNING id", Long.class, args);
+    }
+}
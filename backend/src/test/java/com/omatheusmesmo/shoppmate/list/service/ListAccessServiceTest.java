@@ -0,0 +1,224 @@
+package com.omatheusmesmo.shoppmate.list.service;
+
+import com.omatheusmesmo.shoppmate.auth.service.AuthenticatedUser;
+import com.omatheusmesmo.shoppmate.household.service.HouseholdMembershipIndex;
+import com.omatheusmesmo.shoppmate.list.dtos.ListAccessDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
+import com.omatheusmesmo.shoppmate.list.entity.Permission;
+import com.omatheusmesmo.shoppmate.list.repository.ListHouseholdPermissionRepository;
+import com.omatheusmesmo.shoppmate.list.repository.ShoppingListRepository;
+import com.omatheusmesmo.shoppmate.shared.datasource.ReplicaRoutingDataSource;
+import com.omatheusmesmo.shoppmate.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ListAccessServiceTest {
+
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ListHouseholdPermissionRepository listHouseholdPermissionRepository;
+    @Mock
+    private HouseholdMembershipIndex householdMembershipIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ListAccessService listAccessService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        listAccessService = new ListAccessService(shoppingListRepository, userRepository,
+                listHouseholdPermissionRepository, householdMembershipIndex, transactionManager, 64,
+                Duration.ofMinutes(5));
+        when(householdMembershipIndex.householdIdsOf(anyLong())).thenReturn(new long[0]);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void resolveAccess_Owner() {
+        when(shoppingListRepository.findAccess(10L, 1L)).thenReturn(Optional.of(new ListAccessDTO(1L, null)));
+
+        assertEquals(ListAccessLevel.OWNER, listAccessService.resolveAccess(1L, 10L));
+    }
+
+    @Test
+    void resolveAccess_SharedAndNotShared() {
+        when(shoppingListRepository.findAccess(10L, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.READ)));
+        when(shoppingListRepository.findAccess(10L, 3L)).thenReturn(Optional.of(new ListAccessDTO(1L, null)));
+
+        assertEquals(ListAccessLevel.READ, listAccessService.resolveAccess(2L, 10L));
+        assertEquals(ListAccessLevel.NONE, listAccessService.resolveAccess(3L, 10L));
+    }
+
+    @Test
+    void resolveAccess_ReadsOnThePrimaryInItsOwnTransaction() {
+        when(shoppingListRepository.findAccess(10L, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.READ)));
+
+        listAccessService.resolveAccess(2L, 10L);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(ReplicaRoutingDataSource.PRIMARY_READ, definition.getValue().getName());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        assertTrue(definition.getValue().isReadOnly());
+    }
+
+    @Test
+    void resolveAccess_IsCachedUntilInvalidated() {
+        when(shoppingListRepository.findAccess(10L, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.READ)));
+
+        listAccessService.resolveAccess(2L, 10L);
+        listAccessService.resolveAccess(2L, 10L);
+        verify(shoppingListRepository, times(1)).findAccess(10L, 2L);
+
+        listAccessService.invalidate(2L, 10L);
+        listAccessService.resolveAccess(2L, 10L);
+        verify(shoppingListRepository, times(2)).findAccess(10L, 2L);
+    }
+
+    @Test
+    void resolveAccess_HighestOfDirectAndHouseholdPermission() {
+        when(shoppingListRepository.findAccess(10L, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.READ)));
+        when(householdMembershipIndex.householdIdsOf(2L)).thenReturn(new long[] { 5L, 6L });
+        when(listHouseholdPermissionRepository.findPermissionsByListIdAndHouseholdIds(10L, List.of(5L, 6L)))
+                .thenReturn(List.of(Permission.READ, Permission.WRITE));
+
+        assertEquals(ListAccessLevel.WRITE, listAccessService.resolveAccess(2L, 10L));
+    }
+
+    @Test
+    void resolveAccess_WithoutHouseholds_SkipsHouseholdQuery() {
+        when(shoppingListRepository.findAccess(10L, 3L)).thenReturn(Optional.of(new ListAccessDTO(1L, null)));
+
+        assertEquals(ListAccessLevel.NONE, listAccessService.resolveAccess(3L, 10L));
+        verify(listHouseholdPermissionRepository, never()).findPermissionsByListIdAndHouseholdIds(any(), any());
+    }
+
+    @Test
+    void resolveAccess_ListNotFound() {
+        when(shoppingListRepository.findAccess(99L, 1L)).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class, () -> listAccessService.resolveAccess(1L, 99L));
+    }
+
+    @Test
+    void checkAccess_UsesAuthenticatedUserId() {
+        authenticate(2L);
+        when(shoppingListRepository.findAccess(10L, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.READ)));
+
+        assertDoesNotThrow(() -> listAccessService.checkAccess(10L, ListAccessLevel.READ));
+        assertThrows(AccessDeniedException.class, () -> listAccessService.checkAccess(10L, ListAccessLevel.WRITE));
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void invalidateList_ClearsAllUsersOfList() {
+        when(shoppingListRepository.findAccess(10L, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.WRITE)));
+        when(shoppingListRepository.findAccess(11L, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.WRITE)));
+        listAccessService.resolveAccess(2L, 10L);
+        listAccessService.resolveAccess(2L, 11L);
+
+        listAccessService.invalidateList(10L);
+        listAccessService.resolveAccess(2L, 10L);
+        listAccessService.resolveAccess(2L, 11L);
+
+        verify(shoppingListRepository, times(2)).findAccess(10L, 2L);
+        verify(shoppingListRepository, times(1)).findAccess(11L, 2L);
+    }
+
+    @Test
+    void invalidateUser_ClearsAllListsOfUser() {
+        when(shoppingListRepository.findAccess(10L, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.WRITE)));
+        when(shoppingListRepository.findAccess(10L, 3L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.WRITE)));
+        listAccessService.resolveAccess(2L, 10L);
+        listAccessService.resolveAccess(3L, 10L);
+
+        listAccessService.invalidateUser(2L);
+        listAccessService.resolveAccess(2L, 10L);
+        listAccessService.resolveAccess(3L, 10L);
+
+        verify(shoppingListRepository, times(2)).findAccess(10L, 2L);
+        verify(shoppingListRepository, times(1)).findAccess(10L, 3L);
+    }
+
+    @Test
+    void resolveAccess_InvalidatedWhileResolving_IsNotCached() {
+        when(shoppingListRepository.findAccess(10L, 2L)).thenAnswer(invocation -> {
+            // A permission change committing between the query and the put.
+            listAccessService.invalidateList(10L);
+            return Optional.of(new ListAccessDTO(1L, Permission.READ));
+        }).thenReturn(Optional.of(new ListAccessDTO(1L, null)));
+
+        assertEquals(ListAccessLevel.READ, listAccessService.resolveAccess(2L, 10L));
+        assertEquals(ListAccessLevel.NONE, listAccessService.resolveAccess(2L, 10L));
+        assertEquals(ListAccessLevel.NONE, listAccessService.resolveAccess(2L, 10L));
+
+        verify(shoppingListRepository, times(2)).findAccess(10L, 2L);
+    }
+
+    @Test
+    void resolveAccess_UserInvalidatedWhileResolving_IsNotCached() {
+        when(shoppingListRepository.findAccess(10L, 2L)).thenAnswer(invocation -> {
+            listAccessService.invalidateUser(2L);
+            return Optional.of(new ListAccessDTO(1L, Permission.READ));
+        }).thenReturn(Optional.of(new ListAccessDTO(1L, null)));
+
+        listAccessService.resolveAccess(2L, 10L);
+
+        assertEquals(ListAccessLevel.NONE, listAccessService.resolveAccess(2L, 10L));
+    }
+
+    @Test
+    void resolveAccess_IdsBeyondTheKeyRange_AreNotCached() {
+        long listId = 1L << 32;
+        when(shoppingListRepository.findAccess(listId, 2L))
+                .thenReturn(Optional.of(new ListAccessDTO(1L, Permission.READ)));
+        when(shoppingListRepository.findAccess(0L, 2L)).thenReturn(Optional.of(new ListAccessDTO(1L, null)));
+
+        assertEquals(ListAccessLevel.READ, listAccessService.resolveAccess(2L, listId));
+        assertEquals(ListAccessLevel.READ, listAccessService.resolveAccess(2L, listId));
+        assertEquals(ListAccessLevel.NONE, listAccessService.resolveAccess(2L, 0L));
+
+        verify(shoppingListRepository, times(2)).findAccess(listId, 2L);
+    }
+
+    private void authenticate(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user@example.com", "password", List.of());
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -2,24 +2,45 @@ package com.omatheusmesmo.shoppmate.list.service;
 
 import com.omatheusmesmo.shoppmate.item.entity.Item;
 import com.omatheusmesmo.shoppmate.item.service.ItemService;
+import com.omatheusmesmo.shoppmate.list.dtos.ConsolidatedListItemDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ConsolidatedListItemRowDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemOrder;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemParseResultDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ListItemRequestDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ListItemSummaryDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.ListItemUpdateRequestDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.ParsedListItemDTO;
+import com.omatheusmesmo.shoppmate.list.entity.ListAccessLevel;
 import com.omatheusmesmo.shoppmate.list.entity.ListItem;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
 import com.omatheusmesmo.shoppmate.list.mapper.ListItemMapper;
 import com.omatheusmesmo.shoppmate.list.repository.ListItemRepository;
 import com.omatheusmesmo.shoppmate.shared.service.AuditService;
+import com.omatheusmesmo.shoppmate.store.service.BasketCostService;
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.entity.UnitDimension;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
+import com.omatheusmesmo.shoppmate.unit.service.UnitService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ListItemServiceTest {
@@ -34,6 +55,16 @@ class ListItemServiceTest {
     private AuditService auditService;
     @Mock
     private ListItemMapper listItemMapper;
+    @Mock
+    private QuickAddParser quickAddParser;
+    @Mock
+    private UnitService unitService;
+    @Mock
+    private UnitRegistry unitRegistry;
+    @Mock
+    private ListAccessService listAccessService;
+    @Mock
+    private BasketCostService basketCostService;
 
     @InjectMocks
     private ListItemService service;
@@ -62,6 +93,188 @@ class ListItemServiceTest {
         listItem.setPurchased(false);
     }
 
+    @Test
+    void addParsedItems_SavesAllEntriesInOneBatch() {
+        Item milk = new Item();
+        milk.setId(2L);
+        UnitDTO kilogram = new UnitDTO(1L, "Kilogram", "kg", null, null);
+        Unit kilogramUnit = new Unit();
+        kilogramUnit.setId(1L);
+        Unit gram = new Unit();
+        gram.setId(2L);
+        item.setUnit(gram);
+        when(quickAddParser.parse("2 kg arroz, leite, pao"))
+                .thenReturn(new QuickAddParser.Result(List.of(new QuickAddParser.Entry(1L, "Arroz", 2, kilogram),
+                        new QuickAddParser.Entry(2L, "Leite", 1, null)), List.of("pao")));
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(itemService.findById(1L)).thenReturn(item);
+        when(itemService.getReferenceById(2L)).thenReturn(milk);
+        when(unitRegistry.conversionFactor(1L, 2L)).thenReturn(OptionalDouble.of(1000));
+        when(unitService.getReferenceById(1L)).thenReturn(kilogramUnit);
+
+        ListItemParseResultDTO result = service.addParsedItems(1L, "2 kg arroz, leite, pao");
+
+        ArgumentCaptor<Collection<ListItem>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(ListItemRepository, times(1)).saveAll(captor.capture());
+        List<ListItem> saved = List.copyOf(captor.getValue());
+        assertEquals(List.of(2, 1), saved.stream().map(ListItem::getQuantity).toList());
+        assertSame(kilogramUnit, saved.get(0).getUnit());
+        assertSame(milk, saved.get(1).getItem());
+        assertNull(saved.get(1).getUnit());
+        assertEquals(new ParsedListItemDTO(null, 1L, "Arroz", 2, "kg"), result.added().get(0));
+        assertEquals(List.of("pao"), result.unmatched());
+        verify(ListItemRepository, never()).save(any());
+    }
+
+    @Test
+    void addParsedItems_UnitOfAnotherDimension_ThrowsIllegalArgumentException() {
+        Unit liter = new Unit();
+        liter.setId(3L);
+        item.setUnit(liter);
+        UnitDTO kilogram = new UnitDTO(1L, "Kilogram", "kg", null, null);
+        when(quickAddParser.parse("2 kg leite")).thenReturn(
+                new QuickAddParser.Result(List.of(new QuickAddParser.Entry(1L, "Leite", 2, kilogram)), List.of()));
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(itemService.findById(1L)).thenReturn(item);
+        when(unitRegistry.conversionFactor(1L, 3L)).thenReturn(OptionalDouble.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> service.addParsedItems(1L, "2 kg leite"));
+
+        verify(ListItemRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void addParsedItems_ItemNamedTwice_AddsItOnceWithTheQuantitiesSummed() {
+        when(quickAddParser.parse("2 arroz, leite, 3 arroz")).thenReturn(new QuickAddParser.Result(
+                List.of(new QuickAddParser.Entry(1L, "Arroz", 2, null), new QuickAddParser.Entry(2L, "Leite", 1, null),
+                        new QuickAddParser.Entry(1L, "Arroz", 3, null)),
+                List.of()));
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(itemService.getReferenceById(1L)).thenReturn(item);
+        when(itemService.getReferenceById(2L)).thenReturn(new Item());
+
+        ListItemParseResultDTO result = service.addParsedItems(1L, "2 arroz, leite, 3 arroz");
+
+        ArgumentCaptor<Collection<ListItem>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(ListItemRepository, times(1)).saveAll(saved.capture());
+        assertEquals(List.of(5, 1), saved.getValue().stream().map(ListItem::getQuantity).toList());
+        assertEquals(List.of(new ParsedListItemDTO(null, 1L, "Arroz", 5, null),
+                new ParsedListItemDTO(null, 2L, "Leite", 1, null)), result.added());
+    }
+
+    @Test
+    void addParsedItems_ItemNamedInTwoUnits_FoldsThemIntoTheFinerUnit() {
+        Unit kilogramUnit = new Unit();
+        kilogramUnit.setId(1L);
+        item.setUnit(kilogramUnit);
+        UnitDTO gram = new UnitDTO(2L, "Gram", "g", null, null);
+        when(quickAddParser.parse("1 arroz, 500 g arroz"))
+                .thenReturn(new QuickAddParser.Result(List.of(new QuickAddParser.Entry(1L, "Arroz", 1, null),
+                        new QuickAddParser.Entry(1L, "Arroz", 500, gram)), List.of()));
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(itemService.getReferenceById(1L)).thenReturn(item);
+        when(itemService.findById(1L)).thenReturn(item);
+        when(unitRegistry.conversionFactor(2L, 1L)).thenReturn(OptionalDouble.of(0.001));
+        Unit gramUnit = new Unit();
+        gramUnit.setId(2L);
+        when(unitService.getReferenceById(2L)).thenReturn(gramUnit);
+
+        ListItemParseResultDTO result = service.addParsedItems(1L, "1 arroz, 500 g arroz");
+
+        ArgumentCaptor<Collection<ListItem>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(ListItemRepository, times(1)).saveAll(captor.capture());
+        ListItem saved = captor.getValue().iterator().next();
+        assertEquals(1500, saved.getQuantity());
+        assertSame(gramUnit, saved.getUnit());
+        assertEquals(List.of(new ParsedListItemDTO(null, 1L, "Arroz", 1500, "g")), result.added());
+    }
+
+    @Test
+    void addParsedItems_ItemNamedInAFinerUnitFirst_AddsTheCoarserOneConverted() {
+        Unit gramUnit = new Unit();
+        gramUnit.setId(2L);
+        item.setUnit(gramUnit);
+        UnitDTO kilogram = new UnitDTO(1L, "Kilogram", "kg", null, null);
+        when(quickAddParser.parse("500 arroz e 1 kg arroz"))
+                .thenReturn(new QuickAddParser.Result(List.of(new QuickAddParser.Entry(1L, "Arroz", 500, null),
+                        new QuickAddParser.Entry(1L, "Arroz", 1, kilogram)), List.of()));
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(itemService.getReferenceById(1L)).thenReturn(item);
+        when(itemService.findById(1L)).thenReturn(item);
+        when(unitRegistry.conversionFactor(1L, 2L)).thenReturn(OptionalDouble.of(1000));
+        Unit kilogramUnit = new Unit();
+        kilogramUnit.setId(1L);
+        when(unitService.getReferenceById(1L)).thenReturn(kilogramUnit);
+
+        ListItemParseResultDTO result = service.addParsedItems(1L, "500 arroz e 1 kg arroz");
+
+        assertEquals(List.of(new ParsedListItemDTO(null, 1L, "Arroz", 1500, null)), result.added());
+    }
+
+    @Test
+    void addParsedItems_UnitsThatDoNotAddUpToAWholeQuantity_ThrowsIllegalArgumentException() {
+        Unit kilogramUnit = new Unit();
+        kilogramUnit.setId(1L);
+        item.setUnit(kilogramUnit);
+        UnitDTO pound = new UnitDTO(3L, "Pound", "lb", null, null);
+        when(quickAddParser.parse("1 arroz, 1 lb arroz"))
+                .thenReturn(new QuickAddParser.Result(List.of(new QuickAddParser.Entry(1L, "Arroz", 1, null),
+                        new QuickAddParser.Entry(1L, "Arroz", 1, pound)), List.of()));
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(itemService.getReferenceById(1L)).thenReturn(item);
+        when(itemService.findById(1L)).thenReturn(item);
+        when(unitRegistry.conversionFactor(3L, 1L)).thenReturn(OptionalDouble.of(0.45359237));
+        Unit poundUnit = new Unit();
+        poundUnit.setId(3L);
+        when(unitService.getReferenceById(3L)).thenReturn(poundUnit);
+
+        assertThrows(IllegalArgumentException.class, () -> service.addParsedItems(1L, "1 arroz, 1 lb arroz"));
+
+        verify(ListItemRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void addParsedItems_ItemAlreadyOnList_IsReportedInsteadOfAdded() {
+        when(quickAddParser.parse("arroz, leite")).thenReturn(new QuickAddParser.Result(
+                List.of(new QuickAddParser.Entry(1L, "Arroz", 1, null), new QuickAddParser.Entry(2L, "Leite", 1, null)),
+                List.of()));
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(ListItemRepository.findItemIdsByListId(eq(1L), any())).thenReturn(List.of(1L));
+        when(itemService.getReferenceById(2L)).thenReturn(new Item());
+
+        ListItemParseResultDTO result = service.addParsedItems(1L, "arroz, leite");
+
+        ArgumentCaptor<Collection<ListItem>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(ListItemRepository, times(1)).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals(List.of(2L), result.added().stream().map(ParsedListItemDTO::itemId).toList());
+        assertEquals(List.of("Arroz"), result.alreadyOnList());
+    }
+
+    @Test
+    void addParsedItems_EveryItemAlreadyOnList_SavesNothing() {
+        when(quickAddParser.parse("arroz")).thenReturn(
+                new QuickAddParser.Result(List.of(new QuickAddParser.Entry(1L, "Arroz", 1, null)), List.of()));
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(ListItemRepository.findItemIdsByListId(eq(1L), any())).thenReturn(List.of(1L));
+
+        ListItemParseResultDTO result = service.addParsedItems(1L, "arroz");
+
+        assertTrue(result.added().isEmpty());
+        verify(ListItemRepository, never()).saveAll(any());
+        verifyNoInteractions(basketCostService);
+    }
+
+    @Test
+    void addParsedItems_NothingMatched_DoesNotLoadTheList() {
+        when(quickAddParser.parse("pao")).thenReturn(new QuickAddParser.Result(List.of(), List.of("pao")));
+
+        ListItemParseResultDTO result = service.addParsedItems(1L, "pao");
+
+        assertTrue(result.added().isEmpty());
+        verifyNoInteractions(shoppingListService, ListItemRepository);
+    }
+
     @Test
     void addShoppItemList() {
         when(itemService.findById(1L)).thenReturn(item);
@@ -77,6 +290,18 @@ class ListItemServiceTest {
         verify(shoppingListService, times(1)).isListValid(listItem.getShoppList());
         verify(auditService, times(1)).setAuditData(listItem, true);
         verify(ListItemRepository, times(1)).save(listItem);
+        verify(basketCostService).invalidateList(1L);
+    }
+
+    @Test
+    void addShoppItemList_ItemAlreadyOnList_ThrowsIllegalArgumentException() {
+        when(itemService.findById(1L)).thenReturn(item);
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(ListItemRepository.existsByShoppListIdAndItemId(1L, item.getId())).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> service.addShoppItemList(listItemRequestDTO));
+
+        verify(ListItemRepository, never()).save(any());
     }
 
     @Test
@@ -99,40 +324,40 @@ class ListItemServiceTest {
 
     @Test
     void findListItem() {
-        when(ListItemRepository.findByIdAndDeletedFalse(listItem.getId())).thenReturn(Optional.of(listItem));
+        when(ListItemRepository.findByIdAndShoppListId(listItem.getId(), 1L)).thenReturn(Optional.of(listItem));
 
-        ListItem result = service.findListItemById(listItem.getId());
+        ListItem result = service.findListItemById(1L, listItem.getId());
 
         assertNotNull(result);
 
-        verify(ListItemRepository, times(1)).findByIdAndDeletedFalse(listItem.getId());
+        verify(ListItemRepository, times(1)).findByIdAndShoppListId(listItem.getId(), 1L);
     }
 
     @Test
     void findListItemById() {
-        when(ListItemRepository.findByIdAndDeletedFalse(listItem.getId())).thenReturn(Optional.of(listItem));
+        when(ListItemRepository.findByIdAndShoppListId(listItem.getId(), 1L)).thenReturn(Optional.of(listItem));
 
-        ListItem result = service.findListItemById(listItem.getId());
+        ListItem result = service.findListItemById(1L, listItem.getId());
 
         assertNotNull(result);
 
-        verify(ListItemRepository, times(1)).findByIdAndDeletedFalse(listItem.getId());
+        verify(ListItemRepository, times(1)).findByIdAndShoppListId(listItem.getId(), 1L);
     }
 
     @Test
     void findListItemById_WhenItemNotFound() {
-        when(ListItemRepository.findByIdAndDeletedFalse(anyLong())).thenReturn(Optional.empty());
+        when(ListItemRepository.findByIdAndShoppListId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(NoSuchElementException.class, () -> service.findListItemById(999L));
+        assertThrows(NoSuchElementException.class, () -> service.findListItemById(1L, 999L));
 
         verify(ListItemRepository, never()).save(any());
     }
 
     @Test
     void removeList_Ok() {
-        when(ListItemRepository.findByIdAndDeletedFalse(listItem.getId())).thenReturn(Optional.of(listItem));
+        when(ListItemRepository.findByIdAndShoppListId(listItem.getId(), 1L)).thenReturn(Optional.of(listItem));
 
-        assertDoesNotThrow(() -> service.removeList(listItem.getId()));
+        assertDoesNotThrow(() -> service.removeList(1L, listItem.getId()));
 
         verify(ListItemRepository, times(1)).save(listItem);
         verify(auditService, times(1)).softDelete(listItem);
@@ -140,9 +365,9 @@ class ListItemServiceTest {
 
     @Test
     void removeList_ItemNotFound() {
-        when(ListItemRepository.findByIdAndDeletedFalse(anyLong())).thenReturn(Optional.empty());
+        when(ListItemRepository.findByIdAndShoppListId(anyLong(), anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(NoSuchElementException.class, () -> service.removeList(999L));
+        assertThrows(NoSuchElementException.class, () -> service.removeList(1L, 999L));
 
         verify(ListItemRepository, never()).save(any());
         verify(auditService, never()).softDelete(any());
@@ -150,10 +375,10 @@ class ListItemServiceTest {
 
     @Test
     void editList_Ok() {
-        ListItemUpdateRequestDTO updateDTO = new ListItemUpdateRequestDTO(1L, 1L, 3, true);
-        when(ListItemRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(listItem));
+        ListItemUpdateRequestDTO updateDTO = new ListItemUpdateRequestDTO(1L, 1L, 3, true, null);
+        when(ListItemRepository.findByIdAndShoppListId(1L, 1L)).thenReturn(Optional.of(listItem));
 
-        ListItem result = service.editList(1L, updateDTO);
+        ListItem result = service.editList(1L, 1L, updateDTO);
 
         assertNotNull(result);
         assertEquals(3, result.getQuantity());
@@ -165,27 +390,91 @@ class ListItemServiceTest {
 
     @Test
     void editList_WhenListItemNotFound() {
-        ListItemUpdateRequestDTO updateDTO = new ListItemUpdateRequestDTO(1L, 1L, 3, true);
-        when(ListItemRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.empty());
+        ListItemUpdateRequestDTO updateDTO = new ListItemUpdateRequestDTO(1L, 1L, 3, true, null);
+        when(ListItemRepository.findByIdAndShoppListId(1L, 1L)).thenReturn(Optional.empty());
+
+        assertThrows(NoSuchElementException.class, () -> service.editList(1L, 1L, updateDTO));
+
+        verify(ListItemRepository, times(1)).findByIdAndShoppListId(1L, 1L);
+    }
+
+    @Test
+    void editList_UnitOfAnotherDimension_ThrowsIllegalArgumentException() {
+        Unit kilogram = new Unit();
+        kilogram.setId(1L);
+        item.setUnit(kilogram);
+        when(ListItemRepository.findByIdAndShoppListId(1L, 1L)).thenReturn(Optional.of(listItem));
+        when(unitRegistry.conversionFactor(5L, 1L)).thenReturn(OptionalDouble.empty());
+
+        ListItemUpdateRequestDTO updateDTO = new ListItemUpdateRequestDTO(1L, 1L, 3, false, 5L);
+        assertThrows(IllegalArgumentException.class, () -> service.editList(1L, 1L, updateDTO));
+
+        verify(ListItemRepository, never()).save(any());
+    }
+
+    @Test
+    void findConsolidated_AddsQuantitiesInTheItemUnit() {
+        when(ListItemRepository.findConsolidatedRows(List.of(1L, 2L, 3L), false))
+                .thenReturn(List.of(new ConsolidatedListItemRowDTO(7L, "Tomato", 1L, 1L, 1L, "1"),
+                        new ConsolidatedListItemRowDTO(7L, "Tomato", 1L, 2L, 500L, "3,2"),
+                        new ConsolidatedListItemRowDTO(8L, "Water", 4L, 4L, 6L, "2")));
+        when(unitRegistry.conversionFactor(anyLong(), anyLong())).thenReturn(OptionalDouble.of(1));
+        when(unitRegistry.conversionFactor(2L, 1L)).thenReturn(OptionalDouble.of(0.001));
+        when(unitRegistry.find(1L)).thenReturn(
+                Optional.of(new UnitDTO(1L, "Kilogram", "kg", UnitDimension.MASS, BigDecimal.valueOf(1000))));
+        when(unitRegistry.find(4L)).thenReturn(Optional.of(new UnitDTO(4L, "Bottle", "btl", null, null)));
+
+        List<ConsolidatedListItemDTO> result = service.findConsolidated(List.of(1L, 2L, 3L, 2L), false);
+
+        assertEquals(
+                List.of(new ConsolidatedListItemDTO(7L, "Tomato", new BigDecimal("1.5"), "kg", List.of(1L, 2L, 3L)),
+                        new ConsolidatedListItemDTO(8L, "Water", new BigDecimal("6"), "btl", List.of(2L))),
+                result);
+        verify(listAccessService, times(3)).checkAccess(anyLong(), eq(ListAccessLevel.READ));
+    }
 
-        assertThrows(NoSuchElementException.class, () -> service.editList(1L, updateDTO));
+    @Test
+    void findConsolidated_NoListsOrTooMany_ThrowsIllegalArgumentException() {
+        List<Long> tooMany = LongStream.rangeClosed(1, ListItemService.MAX_CONSOLIDATED_LISTS + 1).boxed().toList();
 
-        verify(ListItemRepository, times(1)).findByIdAndDeletedFalse(1L);
+        assertThrows(IllegalArgumentException.class, () -> service.findConsolidated(Collections.emptyList(), null));
+        assertThrows(IllegalArgumentException.class, () -> service.findConsolidated(tooMany, null));
+        verifyNoInteractions(listAccessService, ListItemRepository);
     }
 
     @Test
     void findAll() {
-        when(ListItemRepository.findByShoppListIdAndDeletedFalse(1L)).thenReturn(List.of(listItem));
+        when(ListItemRepository.findByShoppListId(1L)).thenReturn(List.of(listItem));
 
         List<ListItem> result = service.findAll(1L);
 
         assertNotNull(result);
         assertEquals(1, result.size());
 
-        verify(ListItemRepository, times(1)).findByShoppListIdAndDeletedFalse(1L);
+        verify(ListItemRepository, times(1)).findByShoppListId(1L);
+    }
+
+    @Test
+    void findAll_WithFiltersAndOrder() {
+        ListItemSummaryDTO summary = new ListItemSummaryDTO(1L, 1L, "Rice", 2, "kg", false);
+        when(ListItemRepository.findSummariesByListId(1L, false, 3L, ListItemOrder.NAME.getSort()))
+                .thenReturn(List.of(summary));
+
+        List<ListItemSummaryDTO> result = service.findAll(1L, false, 3L, ListItemOrder.NAME);
+
+        assertEquals(List.of(summary), result);
+        verify(ListItemRepository, times(1)).findSummariesByListId(1L, false, 3L, ListItemOrder.NAME.getSort());
+        verify(ListItemRepository, never()).findByShoppListId(anyLong());
+    }
+
+    @Test
+    void listItemOrder_From() {
+        assertEquals(ListItemOrder.CREATED, ListItemOrder.from(null));
+        assertEquals(ListItemOrder.CATEGORY, ListItemOrder.from("category"));
+        assertThrows(IllegalArgumentException.class, () -> ListItemOrder.from("price"));
     }
 
     private ListItemRequestDTO createSampleItem() {
-        return new ListItemRequestDTO(1L, 1L, 2);
+        return new ListItemRequestDTO(1L, 1L, 2, null, null);
     }
 }
@@ -1,11 +1,12 @@
 package com.omatheusmesmo.shoppmate.list.service;
 
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionBatchRequestDTO;
+import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionGrantDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionRequestDTO;
 import com.omatheusmesmo.shoppmate.list.dtos.listpermission.ListPermissionUpdateRequestDTO;
 import com.omatheusmesmo.shoppmate.list.entity.Permission;
 import com.omatheusmesmo.shoppmate.list.entity.ShoppingList;
 import com.omatheusmesmo.shoppmate.list.entity.ListPermission;
-import com.omatheusmesmo.shoppmate.list.mapper.ListPermissionMapper;
 import com.omatheusmesmo.shoppmate.list.repository.ListPermissionRepository;
 import com.omatheusmesmo.shoppmate.user.service.UserService;
 import com.omatheusmesmo.shoppmate.user.entity.User;
@@ -21,6 +22,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,7 +41,7 @@ class ListPermissionServiceTest {
     @Mock
     private AuditService auditService;
     @Mock
-    private ListPermissionMapper listPermissionMapper;
+    private ListAccessService listAccessService;
 
     @InjectMocks
     private ListPermissionService listPermissionService;
@@ -50,28 +52,38 @@ class ListPermissionServiceTest {
     }
 
     @Test
-    void addListPermission_ValidPermission_ReturnsSavedPermission() {
-        ListPermissionRequestDTO requestDTO = createSamplePermissionRequest();
+    void addListPermission_ValidPermission_UpsertsAndReturnsIt() {
+        ListPermissionRequestDTO requestDTO = new ListPermissionRequestDTO(1L, 2L, Permission.READ);
         ListPermission permission = createSamplePermission();
-
         User user = new User();
-        user.setId(1L);
-        ShoppingList shoppingList = new ShoppingList();
-        shoppingList.setId(1L);
+        user.setId(2L);
+        ShoppingList shoppingList = createSampleListOwnedBy(1L);
 
-        when(userService.findUserById(requestDTO.idUser())).thenReturn(user);
-        when(shoppingListService.findListById(requestDTO.idList())).thenReturn(shoppingList);
-        when(listPermissionMapper.toEntity(requestDTO, shoppingList, user)).thenReturn(permission);
-        when(ListPermissionRepository.save(any(ListPermission.class))).thenReturn(permission);
+        when(userService.findUserById(2L)).thenReturn(user);
+        when(shoppingListService.findListById(1L)).thenReturn(shoppingList);
+        when(ListPermissionRepository.findByShoppingListIdAndUserId(1L, 2L)).thenReturn(Optional.of(permission));
 
         ListPermission result = listPermissionService.addListPermission(requestDTO);
 
-        assertNotNull(result);
-        assertEquals(permission.getId(), result.getId());
-        verify(userService, times(1)).isUserValid(any(User.class));
-        verify(shoppingListService, times(1)).isListValid(any(ShoppingList.class));
-        verify(auditService, times(1)).setAuditData(any(ListPermission.class), eq(true));
-        verify(ListPermissionRepository, times(1)).save(any(ListPermission.class));
+        assertSame(permission, result);
+        verify(userService, times(1)).isUserValid(user);
+        verify(shoppingListService, times(1)).isListValid(shoppingList);
+        verify(ListPermissionRepository, times(1)).upsertPermissions(eq(1L),
+                eq(List.of(new ListPermissionGrantDTO(2L, Permission.READ))), any(LocalDateTime.class));
+        verify(ListPermissionRepository, never()).save(any());
+        verify(listAccessService, times(1)).invalidate(2L, 1L);
+    }
+
+    @Test
+    void addListPermission_Owner_ThrowsIllegalArgumentException() {
+        User owner = new User();
+        owner.setId(1L);
+        when(userService.findUserById(1L)).thenReturn(owner);
+        when(shoppingListService.findListById(1L)).thenReturn(createSampleListOwnedBy(1L));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> listPermissionService.addListPermission(createSamplePermissionRequest()));
+        verify(ListPermissionRepository, never()).upsertPermissions(any(), any(), any());
     }
 
     @Test
@@ -109,22 +121,22 @@ class ListPermissionServiceTest {
         Long id = 1L;
         ListPermission permission = createSamplePermission();
         permission.setId(id);
-        when(ListPermissionRepository.findById(id)).thenReturn(Optional.of(permission));
+        when(ListPermissionRepository.findByIdAndShoppingListId(id, 1L)).thenReturn(Optional.of(permission));
 
-        ListPermission result = listPermissionService.findListUserPermissionById(id);
+        ListPermission result = listPermissionService.findListUserPermissionById(1L, id);
 
         assertNotNull(result);
         assertEquals(permission, result);
-        verify(ListPermissionRepository, times(1)).findById(id);
+        verify(ListPermissionRepository, times(1)).findByIdAndShoppingListId(id, 1L);
     }
 
     @Test
     void findListUserPermissionById_NonExistingId_ThrowsNoSuchElementException() {
         Long id = 1L;
-        when(ListPermissionRepository.findById(id)).thenReturn(Optional.empty());
+        when(ListPermissionRepository.findByIdAndShoppingListId(id, 1L)).thenReturn(Optional.empty());
 
-        assertThrows(NoSuchElementException.class, () -> listPermissionService.findListUserPermissionById(id));
-        verify(ListPermissionRepository, times(1)).findById(id);
+        assertThrows(NoSuchElementException.class, () -> listPermissionService.findListUserPermissionById(1L, id));
+        verify(ListPermissionRepository, times(1)).findByIdAndShoppingListId(id, 1L);
     }
 
     @Test
@@ -132,21 +144,22 @@ class ListPermissionServiceTest {
         Long id = 1L;
         ListPermission permission = createSamplePermission();
         permission.setId(id);
-        when(ListPermissionRepository.findById(id)).thenReturn(Optional.of(permission));
+        when(ListPermissionRepository.findByIdAndShoppingListId(id, 1L)).thenReturn(Optional.of(permission));
 
-        listPermissionService.removeList(id);
+        listPermissionService.removeList(1L, id);
 
-        verify(ListPermissionRepository, times(1)).findById(id);
+        verify(ListPermissionRepository, times(1)).findByIdAndShoppingListId(id, 1L);
         verify(ListPermissionRepository, times(1)).save(permission);
+        verify(listAccessService, times(1)).invalidate(1L, 1L);
     }
 
     @Test
     void removeList_NonExistingId_ThrowsNoSuchElementException() {
         Long id = 1L;
-        when(ListPermissionRepository.findById(id)).thenReturn(Optional.empty());
+        when(ListPermissionRepository.findByIdAndShoppingListId(id, 1L)).thenReturn(Optional.empty());
 
-        assertThrows(NoSuchElementException.class, () -> listPermissionService.removeList(id));
-        verify(ListPermissionRepository, times(1)).findById(id);
+        assertThrows(NoSuchElementException.class, () -> listPermissionService.removeList(1L, id));
+        verify(ListPermissionRepository, times(1)).findByIdAndShoppingListId(id, 1L);
         verify(ListPermissionRepository, never()).deleteById(any());
     }
 
@@ -157,15 +170,15 @@ class ListPermissionServiceTest {
         permission.setId(id);
         ListPermissionUpdateRequestDTO updateDTO = new ListPermissionUpdateRequestDTO(Permission.WRITE);
 
-        when(ListPermissionRepository.findById(id)).thenReturn(Optional.of(permission));
+        when(ListPermissionRepository.findByIdAndShoppingListId(id, 1L)).thenReturn(Optional.of(permission));
         when(ListPermissionRepository.save(permission)).thenReturn(permission);
 
-        ListPermission result = listPermissionService.editList(id, updateDTO);
+        ListPermission result = listPermissionService.editList(1L, id, updateDTO);
 
         assertNotNull(result);
         assertEquals(permission, result);
         assertEquals(Permission.WRITE, result.getPermission());
-        verify(ListPermissionRepository, times(1)).findById(id);
+        verify(ListPermissionRepository, times(1)).findByIdAndShoppingListId(id, 1L);
         verify(userService, times(1)).isUserValid(permission.getUser());
         verify(shoppingListService, times(1)).isListValid(permission.getShoppingList());
         verify(auditService, times(1)).setAuditData(permission, false);
@@ -175,10 +188,10 @@ class ListPermissionServiceTest {
     @Test
     void editList_NonExistingPermission_ThrowsNoSuchElementException() {
         Long id = 1L;
-        when(ListPermissionRepository.findById(id)).thenReturn(Optional.empty());
+        when(ListPermissionRepository.findByIdAndShoppingListId(id, 1L)).thenReturn(Optional.empty());
 
-        assertThrows(NoSuchElementException.class, () -> listPermissionService.editList(id, null));
-        verify(ListPermissionRepository, times(1)).findById(id);
+        assertThrows(NoSuchElementException.class, () -> listPermissionService.editList(1L, id, null));
+        verify(ListPermissionRepository, times(1)).findByIdAndShoppingListId(id, 1L);
         verify(ListPermissionRepository, never()).save(any());
     }
 
@@ -187,14 +200,94 @@ class ListPermissionServiceTest {
         ListPermission permission1 = createSamplePermission();
         ListPermission permission2 = createSamplePermission();
         List<ListPermission> permissions = Arrays.asList(permission1, permission2);
-        when(ListPermissionRepository.findByShoppingListIdAndDeletedFalse(1L)).thenReturn(permissions);
+        when(ListPermissionRepository.findByShoppingListId(1L)).thenReturn(permissions);
 
         List<ListPermission> result = listPermissionService.findAllPermissionsByListId(1L);
 
         assertEquals(2, result.size());
         assertTrue(result.contains(permission1));
         assertTrue(result.contains(permission2));
-        verify(ListPermissionRepository, times(1)).findByShoppingListIdAndDeletedFalse(1L);
+        verify(ListPermissionRepository, times(1)).findByShoppingListId(1L);
+    }
+
+    @Test
+    void addListPermissions_ValidBatch_UpsertsAndInvalidatesAccess() {
+        ShoppingList list = createSampleListOwnedBy(1L);
+        ListPermissionBatchRequestDTO requestDTO = createSampleBatchRequest(2L, 3L);
+        when(shoppingListService.findListById(1L)).thenReturn(list);
+        when(userService.findUsersByIds(List.of(2L, 3L))).thenReturn(List.of(new User(), new User()));
+        when(ListPermissionRepository.findByShoppingListId(1L)).thenReturn(List.of(createSamplePermission()));
+
+        List<ListPermission> result = listPermissionService.addListPermissions(1L, requestDTO);
+
+        assertEquals(1, result.size());
+        verify(ListPermissionRepository, times(1)).upsertPermissions(eq(1L), eq(requestDTO.permissions()),
+                any(LocalDateTime.class));
+        verify(listAccessService, times(1)).invalidate(2L, 1L);
+        verify(listAccessService, times(1)).invalidate(3L, 1L);
+    }
+
+    @Test
+    void addListPermissions_DuplicateUser_ThrowsIllegalArgumentException() {
+        when(shoppingListService.findListById(1L)).thenReturn(createSampleListOwnedBy(1L));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> listPermissionService.addListPermissions(1L, createSampleBatchRequest(2L, 2L)));
+        verify(ListPermissionRepository, never()).upsertPermissions(any(), any(), any());
+    }
+
+    @Test
+    void addListPermissions_OwnerInBatch_ThrowsIllegalArgumentException() {
+        when(shoppingListService.findListById(1L)).thenReturn(createSampleListOwnedBy(1L));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> listPermissionService.addListPermissions(1L, createSampleBatchRequest(1L, 2L)));
+        verify(ListPermissionRepository, never()).upsertPermissions(any(), any(), any());
+    }
+
+    @Test
+    void addListPermissions_UnknownUser_ThrowsNoSuchElementException() {
+        when(shoppingListService.findListById(1L)).thenReturn(createSampleListOwnedBy(1L));
+        when(userService.findUsersByIds(List.of(2L, 3L))).thenReturn(List.of(new User()));
+
+        assertThrows(NoSuchElementException.class,
+                () -> listPermissionService.addListPermissions(1L, createSampleBatchRequest(2L, 3L)));
+        verify(ListPermissionRepository, never()).upsertPermissions(any(), any(), any());
+    }
+
+    @Test
+    void removeListPermissions_SoftDeletesAndInvalidatesAccess() {
+        when(ListPermissionRepository.softDeleteByListIdAndUserIds(eq(1L), eq(List.of(2L, 3L)),
+                any(LocalDateTime.class))).thenReturn(2);
+
+        int revoked = listPermissionService.removeListPermissions(1L, List.of(2L, 3L));
+
+        assertEquals(2, revoked);
+        verify(listAccessService, times(1)).invalidate(2L, 1L);
+        verify(listAccessService, times(1)).invalidate(3L, 1L);
+    }
+
+    @Test
+    void removeListPermissions_TooManyUsers_ThrowsIllegalArgumentException() {
+        List<Long> userIds = LongStream.rangeClosed(1, ListPermissionBatchRequestDTO.MAX_PERMISSIONS + 1).boxed()
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> listPermissionService.removeListPermissions(1L, userIds));
+        verifyNoInteractions(ListPermissionRepository, listAccessService);
+    }
+
+    private ShoppingList createSampleListOwnedBy(Long ownerId) {
+        User owner = new User();
+        owner.setId(ownerId);
+        ShoppingList list = new ShoppingList();
+        list.setId(1L);
+        list.setOwner(owner);
+        return list;
+    }
+
+    private ListPermissionBatchRequestDTO createSampleBatchRequest(Long... userIds) {
+        return new ListPermissionBatchRequestDTO(
+                Arrays.stream(userIds).map(id -> new ListPermissionGrantDTO(id, Permission.WRITE)).toList());
     }
 
     private ListPermission createSamplePermission() {
@@ -0,0 +1,80 @@
+package com.omatheusmesmo.shoppmate.list.service;
+
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.item.service.ItemNameMatcher;
+import com.omatheusmesmo.shoppmate.item.service.ItemSynonyms;
+import com.omatheusmesmo.shoppmate.unit.dto.UnitDTO;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QuickAddParserTest {
+
+    private static final UnitDTO KILOGRAM = new UnitDTO(1L, "Quilograma", "kg", null, null);
+    private static final UnitDTO LITRE = new UnitDTO(2L, "Litro", "l", null, null);
+
+    @Spy
+    private ItemNameMatcher itemNameMatcher = new ItemNameMatcher(mock(ItemRepository.class),
+            mock(PlatformTransactionManager.class),
+            new ItemSynonyms(new ClassPathResource("search/item-synonyms.txt")));
+
+    @Mock
+    private UnitRegistry unitRegistry;
+
+    @InjectMocks
+    private QuickAddParser parser;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(unitRegistry.findAll()).thenReturn(List.of(KILOGRAM, LITRE));
+        itemNameMatcher.put(1L, "Tomate");
+        itemNameMatcher.put(2L, "Leite");
+        itemNameMatcher.put(3L, "Pão de Forma");
+    }
+
+    @Test
+    void parse_ReadsQuantityAndUnitBeforeEachItem() {
+        QuickAddParser.Result result = parser.parse("2 kg tomates, 1 leite\n3x pão de forma");
+
+        assertEquals(List.of(new QuickAddParser.Entry(1L, "Tomate", 2, KILOGRAM),
+                new QuickAddParser.Entry(2L, "Leite", 1, null), new QuickAddParser.Entry(3L, "Pão de Forma", 3, null)),
+                result.entries());
+        assertEquals(List.of(), result.unmatched());
+    }
+
+    @Test
+    void parse_WithoutSeparatorsOrQuantities() {
+        QuickAddParser.Result result = parser.parse("2l leite tomate");
+
+        assertEquals(List.of(new QuickAddParser.Entry(2L, "Leite", 2, LITRE),
+                new QuickAddParser.Entry(1L, "Tomate", 1, null)), result.entries());
+    }
+
+    @Test
+    void parse_ReportsWordsThatNameNoItem() {
+        QuickAddParser.Result result = parser.parse("kg tomate e 2 caixas de ovos");
+
+        assertEquals(List.of(new QuickAddParser.Entry(1L, "Tomate", 1, null)), result.entries());
+        assertEquals(List.of("kg", "2 caixas de ovos"), result.unmatched());
+    }
+
+    @Test
+    void parse_FractionalQuantity_ReportsTheItemAsUnmatched() {
+        QuickAddParser.Result result = parser.parse("1,5 kg tomate, 0.5l leite e 2 kg tomate");
+
+        assertEquals(List.of(new QuickAddParser.Entry(1L, "Tomate", 2, KILOGRAM)), result.entries());
+        assertEquals(List.of("1,5 kg tomate", "0.5 l leite"), result.unmatched());
+    }
+}
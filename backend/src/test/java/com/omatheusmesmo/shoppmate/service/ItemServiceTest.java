@@ -1,24 +1,32 @@
 package com.omatheusmesmo.shoppmate.service;
 
 import com.omatheusmesmo.shoppmate.category.entity.Category;
-import com.omatheusmesmo.shoppmate.category.service.CategoryService;
+import com.omatheusmesmo.shoppmate.category.service.CategoryRegistry;
 import com.omatheusmesmo.shoppmate.item.entity.Item;
+import com.omatheusmesmo.shoppmate.item.service.ItemCodeService;
+import com.omatheusmesmo.shoppmate.item.service.ItemNameMatcher;
+import com.omatheusmesmo.shoppmate.item.service.ItemSearchIndex;
 import com.omatheusmesmo.shoppmate.item.service.ItemService;
 import com.omatheusmesmo.shoppmate.unit.entity.Unit;
 import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.shared.domain.KeysetPage;
 import com.omatheusmesmo.shoppmate.shared.service.AuditService;
-import com.omatheusmesmo.shoppmate.unit.service.UnitService;
+import com.omatheusmesmo.shoppmate.unit.service.UnitRegistry;
+import com.omatheusmesmo.shoppmate.store.service.BasketCostService;
+import com.omatheusmesmo.shoppmate.utils.UuidV7;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,10 +40,21 @@ class ItemServiceTest {
     private AuditService auditService;
 
     @Mock
-    private UnitService unitService;
+    private UnitRegistry unitRegistry;
 
     @Mock
-    private CategoryService categoryService;
+    private CategoryRegistry categoryRegistry;
+
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private ItemCodeService itemCodeService;
+
+    @Mock
+    private ItemNameMatcher itemNameMatcher;
+    @Mock
+    private BasketCostService basketCostService;
 
     @InjectMocks
     private ItemService itemService;
@@ -49,7 +68,7 @@ class ItemServiceTest {
     void addItem_ValidItem_ReturnsSavedItem() {
         // Arrange
         Item item = createSampleItem();
-        when(itemRepository.save(item)).thenReturn(item);
+        when(itemRepository.saveAndFlush(item)).thenReturn(item);
 
         // Act
         Item result = itemService.addItem(item);
@@ -57,10 +76,56 @@ class ItemServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(item, result);
-        verify(categoryService, times(1)).isCategoryValid(item.getCategory());
-        verify(unitService, times(1)).isUnitValid(item.getUnit());
+        verify(categoryRegistry, times(1)).get(item.getCategory().getId());
+        verify(unitRegistry, times(1)).get(item.getUnit().getId());
         verify(auditService, times(1)).setAuditData(item, true);
-        verify(itemRepository, times(1)).save(item);
+        verify(itemRepository, times(1)).saveAndFlush(item);
+        verify(itemSearchIndex, times(1)).index(item);
+    }
+
+    @Test
+    void addItem_PublicIdAlreadyCreated_ReturnsExistingItem() {
+        // Arrange
+        Item existing = createSampleItem();
+        existing.setPublicId(UuidV7.generate());
+        Item replayed = createSampleItem();
+        replayed.setId(null);
+        replayed.setName("SAMPLE ITEM");
+        replayed.setPublicId(existing.getPublicId());
+        when(itemRepository.findByPublicId(existing.getPublicId())).thenReturn(Optional.of(existing));
+
+        // Act
+        Item result = itemService.addItem(replayed);
+
+        // Assert
+        assertSame(existing, result);
+        verify(itemRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void addItem_PublicIdUsedByAnotherItem_ThrowsIllegalArgumentException() {
+        // Arrange
+        Item existing = createSampleItem();
+        existing.setPublicId(UuidV7.generate());
+        Item item = createSampleItem();
+        item.setName("Other Item");
+        item.setPublicId(existing.getPublicId());
+        when(itemRepository.findByPublicId(existing.getPublicId())).thenReturn(Optional.of(existing));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> itemService.addItem(item));
+        verify(itemRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void addItem_PublicIdNotVersion7_ThrowsIllegalArgumentException() {
+        // Arrange
+        Item item = createSampleItem();
+        item.setPublicId(UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> itemService.addItem(item));
+        verify(itemRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -70,8 +135,20 @@ class ItemServiceTest {
 
         // Act & Assert
         assertDoesNotThrow(() -> itemService.isItemValid(item));
-        verify(categoryService, times(1)).isCategoryValid(item.getCategory());
-        verify(unitService, times(1)).isUnitValid(item.getUnit());
+        verify(categoryRegistry, times(1)).get(item.getCategory().getId());
+        verify(unitRegistry, times(1)).get(item.getUnit().getId());
+    }
+
+    @Test
+    void isItemValid_UnknownCategory_ThrowsNoSuchElementException() {
+        // Arrange
+        Item item = createSampleItem();
+        when(categoryRegistry.get(item.getCategory().getId()))
+                .thenThrow(new NoSuchElementException("Category not found with id: 1"));
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> itemService.isItemValid(item));
+        verifyNoInteractions(unitRegistry);
     }
 
     @Test
@@ -141,6 +218,8 @@ class ItemServiceTest {
         // Assert
         verify(itemRepository, times(1)).findById(id);
         verify(itemRepository, times(1)).deleteById(id);
+        verify(itemSearchIndex, times(1)).remove(id);
+        verify(itemCodeService, times(1)).invalidateItem(id);
     }
 
     @Test
@@ -160,7 +239,7 @@ class ItemServiceTest {
         // Arrange
         Item item = createSampleItem();
         when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
-        when(itemRepository.save(item)).thenReturn(item);
+        when(itemRepository.saveAndFlush(item)).thenReturn(item);
 
         // Act
         Item result = itemService.editItem(item);
@@ -169,10 +248,11 @@ class ItemServiceTest {
         assertNotNull(result);
         assertEquals(item, result);
         verify(itemRepository, times(1)).findById(item.getId());
-        verify(categoryService, times(1)).isCategoryValid(item.getCategory());
-        verify(unitService, times(1)).isUnitValid(item.getUnit());
+        verify(categoryRegistry, times(1)).get(item.getCategory().getId());
+        verify(unitRegistry, times(1)).get(item.getUnit().getId());
         verify(auditService, times(1)).setAuditData(item, false);
-        verify(itemRepository, times(1)).save(item);
+        verify(itemRepository, times(1)).saveAndFlush(item);
+        verify(itemSearchIndex, times(1)).index(item);
     }
 
     @Test
@@ -184,7 +264,7 @@ class ItemServiceTest {
         // Act & Assert
         assertThrows(NoSuchElementException.class, () -> itemService.editItem(item));
         verify(itemRepository, times(1)).findById(item.getId());
-        verify(itemRepository, never()).save(any());
+        verify(itemRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -205,6 +285,56 @@ class ItemServiceTest {
         verify(itemRepository, times(1)).findAll();
     }
 
+    @Test
+    void findPage_MoreItemsFollow_ReturnsCursorOfLastItem() {
+        // Arrange
+        List<Item> items = List.of(createItem(3L), createItem(4L), createItem(5L));
+        when(itemRepository.findPageAfter(2L, 1L, null, Limit.of(3))).thenReturn(items);
+
+        // Act
+        KeysetPage<Item> page = itemService.findPage(2L, 2, 1L, null);
+
+        // Assert
+        assertEquals(2, page.items().size());
+        assertEquals(4L, page.nextCursor());
+    }
+
+    @Test
+    void findPage_LastPage_ReturnsNoCursor() {
+        // Arrange
+        when(itemRepository.findPageAfter(0L, null, null, Limit.of(ItemService.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(List.of(createItem(1L)));
+
+        // Act
+        KeysetPage<Item> page = itemService.findPage(null, null, null, null);
+
+        // Assert
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void findPage_InvalidSize_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> itemService.findPage(null, 0, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> itemService.findPage(null, ItemService.MAX_PAGE_SIZE + 1, null, null));
+        verify(itemRepository, never()).findPageAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void search_InvalidLimit_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> itemService.search("arroz", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> itemService.search("arroz", ItemService.MAX_SEARCH_LIMIT + 1));
+        verify(itemSearchIndex, never()).search(any(), anyInt());
+    }
+
+    private Item createItem(Long id) {
+        Item item = createSampleItem();
+        item.setId(id);
+        return item;
+    }
+
     private Item createSampleItem() {
         Item item = new Item();
         item.setId(1L);
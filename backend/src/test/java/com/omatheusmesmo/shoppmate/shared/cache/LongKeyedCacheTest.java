@@ -0,0 +1,80 @@
+package com.omatheusmesmo.shoppmate.shared.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeyedCacheTest {
+
+    private AtomicLong now;
+    private LongKeyedCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        cache = new LongKeyedCache<>(8, Duration.ofNanos(100), now::get);
+    }
+
+    @Test
+    void getReturnsStoredValue() {
+        cache.put(42L, "value");
+
+        assertEquals("value", cache.get(42L));
+        assertNull(cache.get(43L));
+    }
+
+    @Test
+    void getReturnsNullAfterTtl() {
+        cache.put(42L, "value");
+        now.addAndGet(100);
+
+        assertNull(cache.get(42L));
+    }
+
+    @Test
+    void putReplacesExistingKey() {
+        cache.put(42L, "old");
+        cache.put(42L, "new");
+
+        assertEquals("new", cache.get(42L));
+    }
+
+    @Test
+    void invalidateRemovesKey() {
+        cache.put(42L, "value");
+        cache.invalidate(42L);
+
+        assertNull(cache.get(42L));
+    }
+
+    @Test
+    void invalidateIfRemovesMatchingKeys() {
+        cache.put(1L, "odd");
+        cache.put(2L, "even");
+        cache.invalidateIf(key -> key % 2 == 1);
+
+        assertNull(cache.get(1L));
+        assertEquals("even", cache.get(2L));
+    }
+
+    @Test
+    void sizeStaysBoundedByCapacity() {
+        for (long key = 0; key < 1000; key++) {
+            cache.put(key, "v" + key);
+        }
+
+        int present = 0;
+        for (long key = 0; key < 1000; key++) {
+            if (cache.get(key) != null) {
+                present++;
+            }
+        }
+        assertEquals(8, cache.capacity());
+        assertTrue(present <= cache.capacity());
+        assertEquals("v999", cache.get(999L));
+    }
+}
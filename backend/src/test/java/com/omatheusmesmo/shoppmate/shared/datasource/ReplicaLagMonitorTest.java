@@ -0,0 +1,37 @@
+package com.omatheusmesmo.shoppmate.shared.datasource;
+
+import com.omatheusmesmo.shoppmate.shared.datasource.ReplicaRoutingDataSource.Replica;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaLagMonitorTest {
+
+    @Test
+    void measuresLagWithQuery() {
+        Replica replica = new Replica("replica-1",
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID(), "sa", ""));
+
+        try (ReplicaLagMonitor monitor = new ReplicaLagMonitor(List.of(replica), "SELECT 1.5")) {
+            monitor.measureAll();
+        }
+
+        assertEquals(1.5, replica.lagSeconds());
+    }
+
+    @Test
+    void unreachableReplicaHasInfiniteLag() {
+        Replica replica = new Replica("replica-1",
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID(), "sa", ""));
+
+        try (ReplicaLagMonitor monitor = new ReplicaLagMonitor(List.of(replica), "SELECT lag FROM missing_table")) {
+            monitor.measureAll();
+        }
+
+        assertEquals(Double.POSITIVE_INFINITY, replica.lagSeconds());
+    }
+}
@@ -0,0 +1,144 @@
+package com.omatheusmesmo.shoppmate.shared.datasource;
+
+import com.omatheusmesmo.shoppmate.auth.service.AuthenticatedUser;
+import com.omatheusmesmo.shoppmate.shared.datasource.ReplicaRoutingDataSource.Replica;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+    private Replica firstReplica;
+    private Replica secondReplica;
+    private MeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        firstReplica = new Replica("replica-1", database("replica-1"));
+        secondReplica = new Replica("replica-2", database("replica-2"));
+        meterRegistry = new SimpleMeterRegistry();
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(database("primary"),
+                List.of(firstReplica, secondReplica), Duration.ofSeconds(10), Duration.ofMinutes(1), 16, meterRegistry);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        // The proxy reads the connection defaults from the primary on first use.
+        new JdbcTemplate(dataSource).execute("SELECT 1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsAreSpreadOverReplicas() {
+        assertEquals(List.of("replica-1", "replica-2", "replica-1"),
+                List.of(readOnlyNode(), readOnlyNode(), readOnlyNode()));
+        assertEquals(2.0, routed("replica-1", "read-only"));
+        assertEquals(1.0, routed("replica-2", "read-only"));
+    }
+
+    @Test
+    void readWriteTransactionsGoToPrimary() {
+        double routedBefore = routed("primary", "read-write");
+
+        assertEquals("primary", readWrite.execute(status -> node()));
+        assertEquals(routedBefore + 1, routed("primary", "read-write"));
+    }
+
+    @Test
+    void readsFollowingOwnWriteGoToPrimary() {
+        authenticate(1L);
+        readWrite.executeWithoutResult(status -> node());
+
+        assertEquals("primary", readOnlyNode());
+        assertEquals(1.0, routed("primary", "read-your-writes"));
+
+        authenticate(2L);
+        assertEquals("replica-1", readOnlyNode());
+    }
+
+    @Test
+    void primaryReadsGoToPrimaryWithoutMovingOtherReads() {
+        TransactionTemplate primaryRead = new TransactionTemplate(readOnly.getTransactionManager(), readOnly);
+        primaryRead.setName(ReplicaRoutingDataSource.PRIMARY_READ);
+        authenticate(1L);
+
+        assertEquals("primary", primaryRead.execute(status -> node()));
+        assertEquals(1.0, routed("primary", ReplicaRoutingDataSource.PRIMARY_READ));
+        assertEquals("replica-1", readOnlyNode());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotKeepReadsOnPrimary() {
+        authenticate(1L);
+        readWrite.executeWithoutResult(status -> {
+            node();
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica-1", readOnlyNode());
+    }
+
+    @Test
+    void laggingReplicasAreSkipped() {
+        firstReplica.setLagSeconds(30);
+        secondReplica.setLagSeconds(0.5);
+        assertEquals(List.of("replica-2", "replica-2"), List.of(readOnlyNode(), readOnlyNode()));
+
+        secondReplica.setLagSeconds(Double.POSITIVE_INFINITY);
+        assertEquals("primary", readOnlyNode());
+        assertEquals(1.0, routed("primary", "replicas-lagging"));
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get("datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(userId, userId + "@shoppmate.com", "", List.of()), null, List.of()));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
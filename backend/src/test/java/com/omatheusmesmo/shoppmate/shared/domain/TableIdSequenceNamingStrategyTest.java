@@ -0,0 +1,23 @@
+package com.omatheusmesmo.shoppmate.shared.domain;
+
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TableIdSequenceNamingStrategyTest {
+
+    private final TableIdSequenceNamingStrategy strategy = new TableIdSequenceNamingStrategy();
+
+    @Test
+    void sequenceIsNamedAfterTableAndIdColumn() {
+        QualifiedName name = strategy.determineSequenceName(null, null,
+                Map.of(PersistentIdentifierGenerator.TABLE, "list_items", PersistentIdentifierGenerator.PK, "id"),
+                null);
+
+        assertEquals("list_items_id_seq", name.getObjectName().getText());
+    }
+}
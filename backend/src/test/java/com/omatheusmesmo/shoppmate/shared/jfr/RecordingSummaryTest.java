@@ -0,0 +1,105 @@
+package com.omatheusmesmo.shoppmate.shared.jfr;
+
+import com.omatheusmesmo.shoppmate.shared.jfr.RecordingSummary.EndpointSummary;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingSummaryTest {
+
+    private static final String ENDPOINT = "GET /lists/{listId}/items";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void summarize_AttributesEventsToTheRequestAroundThem() throws Exception {
+        EndpointSummary summary = single(RecordingSummary.summarize(record()));
+
+        assertEquals(ENDPOINT, summary.endpoint());
+        assertEquals(1, summary.requests());
+        assertEquals(1, summary.tokenDecryptions());
+        assertEquals(1, summary.serviceCalls());
+        assertEquals(1, summary.queries());
+        assertEquals(3, summary.rows());
+        assertEquals(3, summary.listItemConversions());
+        assertTrue(summary.services().compareTo(summary.repositoryQueries()) >= 0);
+    }
+
+    @Test
+    void print_ListsEachEndpoint() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        RecordingSummary.print(RecordingSummary.summarize(record()), new PrintStream(output, true));
+
+        assertTrue(output.toString().startsWith(ENDPOINT + ": 1 requests"), output.toString());
+    }
+
+    /**
+     * A request decrypting its token and calling a service, which calls another service that runs a query, followed by
+     * a query outside any request.
+     */
+    private Path record() throws Exception {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HttpRequestEvent.NAME);
+            recording.enable(TokenDecryptEvent.NAME);
+            recording.enable(ServiceCallEvent.NAME);
+            recording.enable(RepositoryQueryEvent.NAME);
+            recording.start();
+
+            HttpRequestEvent request = new HttpRequestEvent();
+            request.begin();
+            TokenDecryptEvent token = new TokenDecryptEvent();
+            token.begin();
+            token.setOperation("decrypt");
+            token.setValid(true);
+            token.commit();
+            ServiceCallEvent outer = service("ListItemService", "findAll");
+            ServiceCallEvent inner = service("ShoppingListService", "findListById");
+            query("ListItemRepository.findByShoppListIdAndDeletedFalse", 3);
+            inner.commit();
+            outer.commit();
+            request.method = "GET";
+            request.uri = "/lists/{listId}/items";
+            request.status = 200;
+            request.listItemConversions = 3;
+            request.commit();
+
+            query("ItemRepository.findAll", 10);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    private static ServiceCallEvent service(String service, String method) {
+        ServiceCallEvent event = new ServiceCallEvent();
+        event.begin();
+        event.service = service;
+        event.method = method;
+        return event;
+    }
+
+    private static void query(String query, int rows) throws InterruptedException {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        Thread.sleep(1);
+        event.setQuery(query);
+        event.setRows(rows);
+        event.commit();
+    }
+
+    private static EndpointSummary single(List<EndpointSummary> summaries) {
+        assertEquals(1, summaries.size());
+        return summaries.get(0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import com.omatheusmesmo.shoppmate.shared.sql.RequestStatements.RepeatedStatement;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the statements of every request completed while a {@link MaxQueries} test method runs and fails the test
+ * when one of them went over budget, naming the endpoint and the statements it repeated.
+ */
+class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace
+            .create(MaxQueriesExtension.class);
+    private static final int REPEATED_STATEMENT_THRESHOLD = 2;
+
+    private record Recording(List<RequestStatements> requests, Consumer<RequestStatements> listener) {
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        List<RequestStatements> requests = new CopyOnWriteArrayList<>();
+        Recording recording = new Recording(requests, requests::add);
+        interceptor(context).addListener(recording.listener());
+        context.getStore(NAMESPACE).put(context.getUniqueId(), recording);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Recording recording = context.getStore(NAMESPACE).remove(context.getUniqueId(), Recording.class);
+        interceptor(context).removeListener(recording.listener());
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        int maxQueries = maxQueries(context);
+        if (recording.requests().isEmpty()) {
+            throw new AssertionFailedError("@MaxQueries test made no request");
+        }
+        List<String> overBudget = recording.requests().stream().filter(request -> request.statements() > maxQueries)
+                .map(request -> describe(request, maxQueries)).toList();
+        if (!overBudget.isEmpty()) {
+            throw new AssertionFailedError(String.join("\n", overBudget));
+        }
+    }
+
+    private static String describe(RequestStatements request, int maxQueries) {
+        String description = request + " sent " + request.statements() + " statements, at most " + maxQueries
+                + " allowed";
+        List<RepeatedStatement> repeated = request.repeatedStatements(REPEATED_STATEMENT_THRESHOLD);
+        if (repeated.isEmpty()) {
+            return description;
+        }
+        return description + "; repeated with different parameters:\n"
+                + repeated.stream().map(statement -> "  " + statement.parameterSets() + "x " + statement.sql())
+                        .collect(Collectors.joining("\n"));
+    }
+
+    private static int maxQueries(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxQueries.class))
+                .orElseThrow().value();
+    }
+
+    private static RequestStatementsInterceptor interceptor(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(RequestStatementsInterceptor.class);
+    }
+}
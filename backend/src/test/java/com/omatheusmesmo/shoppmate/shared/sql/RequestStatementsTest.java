@@ -0,0 +1,55 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import com.omatheusmesmo.shoppmate.shared.sql.RequestStatements.RepeatedStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestStatementsTest {
+
+    private static final String LOAD_USER = "select * from users where id=?";
+
+    @AfterEach
+    void tearDown() {
+        RequestStatements.end();
+    }
+
+    @Test
+    void repeatedStatements_SameStatementWithDifferentParameters_IsRepeated() {
+        RequestStatements.begin("GET", "/lists");
+        RequestStatements statements = RequestStatements.current();
+
+        statements.record("select * from lists", "");
+        statements.record(LOAD_USER, "1");
+        statements.record(LOAD_USER, "2");
+        statements.record(LOAD_USER, "3");
+
+        assertEquals(4, statements.statements());
+        assertEquals(List.of(new RepeatedStatement(LOAD_USER, 3)), statements.repeatedStatements(3));
+    }
+
+    @Test
+    void repeatedStatements_SameParametersOrBatches_AreNotRepeated() {
+        RequestStatements.begin("POST", "/lists/{listId}/items");
+        RequestStatements statements = RequestStatements.current();
+
+        statements.record(LOAD_USER, "1");
+        statements.record(LOAD_USER, "1");
+        statements.record(LOAD_USER, "1");
+        statements.recordBatch();
+
+        assertEquals(4, statements.statements());
+        assertTrue(statements.repeatedStatements(2).isEmpty());
+    }
+
+    @Test
+    void end_ClearsTheThread() {
+        RequestStatements.begin("GET", "/lists");
+
+        assertEquals("GET /lists", RequestStatements.end().toString());
+        assertNull(RequestStatements.current());
+    }
+}
@@ -0,0 +1,44 @@
+package com.omatheusmesmo.shoppmate.shared.sql;
+
+import com.omatheusmesmo.shoppmate.shared.sql.SlowStatementLog.SlowStatement;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowStatementLogTest {
+
+    private final SlowStatementLog log = new SlowStatementLog(Duration.ofMillis(100), 2);
+
+    @Test
+    void isSlow_FromTheThreshold() {
+        assertFalse(log.isSlow(99));
+        assertTrue(log.isSlow(100));
+    }
+
+    @Test
+    void add_OverCapacity_KeepsTheNewestFirst() {
+        log.add(statement("ItemRepository.findAll"));
+        log.add(statement("UnitRepository.findAll"));
+        log.add(statement("CategoryRepository.findAll"));
+
+        assertEquals(List.of("CategoryRepository.findAll", "UnitRepository.findAll"),
+                log.recent().stream().map(SlowStatement::repositoryMethod).toList());
+    }
+
+    @Test
+    void clear_EmptiesTheLog() {
+        log.add(statement("ItemRepository.findAll"));
+
+        log.clear();
+
+        assertTrue(log.recent().isEmpty());
+    }
+
+    private static SlowStatement statement(String repositoryMethod) {
+        return new SlowStatement(Instant.now(), repositoryMethod, "select * from items", 150, List.of(), 1);
+    }
+}
@@ -0,0 +1,147 @@
+package com.omatheusmesmo.shoppmate.store.repository;
+
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceRequestDTO;
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceResponseDTO;
+import com.omatheusmesmo.shoppmate.store.dto.StoreBasketCostDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the price SQL, a writable CTE with {@code DISTINCT ON} and a conditional upsert, and the basket aggregate, on
+ * the PostgreSQL they are written for. Each test rolls back. Skipped where no Docker daemon is reachable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest(properties = "logging.level.root=WARN")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ItemPriceRepository.class)
+class ItemPriceRepositoryTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 9, 0);
+    private static final LocalDateTime TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDateTime WEDNESDAY = MONDAY.plusDays(2);
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ItemPriceRepository itemPriceRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long gram;
+    private long rice;
+    private long milk;
+    private long beans;
+    private long corner;
+    private long market;
+    private long listId;
+
+    @BeforeEach
+    void setUp() {
+        long kilogram = insert(
+                "INSERT INTO units (name, symbol, dimension, factor) VALUES ('Kilo', 'kilo', 'MASS', 1000)");
+        gram = insert("INSERT INTO units (name, symbol, dimension, factor) VALUES ('Grama', 'grama', 'MASS', 1)");
+        long piece = insert("INSERT INTO units (name, symbol) VALUES ('Peca', 'peca')");
+        long category = insert("INSERT INTO categories (name) VALUES ('Mercearia')");
+        rice = insert("INSERT INTO items (id_category, id_unit, name) VALUES (?, ?, 'Arroz')", category, kilogram);
+        milk = insert("INSERT INTO items (id_category, id_unit, name) VALUES (?, ?, 'Leite')", category, piece);
+        beans = insert("INSERT INTO items (id_category, id_unit, name) VALUES (?, ?, 'Feijao')", category, kilogram);
+        corner = insert("INSERT INTO stores (name) VALUES ('Corner')");
+        market = insert("INSERT INTO stores (name) VALUES ('Market')");
+        long owner = insert(
+                "INSERT INTO users (email, full_name, password) VALUES ('owner@shoppmate.com', 'Owner', 'password')");
+        listId = insert("INSERT INTO lists (name, owner_id_user) VALUES ('Weekly', ?)", owner);
+    }
+
+    @Test
+    void recordPrices_LaterObservationWins_WhateverOrderTheyArriveIn() {
+        itemPriceRepository.recordPrices(corner, List.of(price(rice, "10.00", TUESDAY)), WEDNESDAY);
+        itemPriceRepository.recordPrices(corner, List.of(price(rice, "8.00", MONDAY)), WEDNESDAY);
+
+        assertEquals(new BigDecimal("10.00"), latestPrice(rice, corner));
+        assertEquals(List.of(new BigDecimal("10.00"), new BigDecimal("8.00")), history(rice, corner));
+
+        itemPriceRepository.recordPrices(corner, List.of(price(rice, "12.00", WEDNESDAY)), WEDNESDAY);
+
+        assertEquals(new BigDecimal("12.00"), latestPrice(rice, corner));
+    }
+
+    @Test
+    void recordPrices_SameItemTwiceInABatch_KeepsTheLatestObservation() {
+        itemPriceRepository.recordPrices(corner, List.of(price(rice, "5.00", MONDAY), price(rice, "7.00", WEDNESDAY),
+                price(rice, "6.00", TUESDAY), price(milk, "4.50", MONDAY)), WEDNESDAY);
+
+        assertEquals(new BigDecimal("7.00"), latestPrice(rice, corner));
+        assertEquals(new BigDecimal("4.50"), latestPrice(milk, corner));
+        assertEquals(3, history(rice, corner).size());
+    }
+
+    @Test
+    void recordPrices_PriceWithoutObservationTime_IsObservedAtTheTimestamp() {
+        itemPriceRepository.recordPrices(corner, List.of(price(rice, "9.00", null)), TUESDAY);
+
+        List<ItemPriceResponseDTO> history = itemPriceRepository.findPriceHistory(corner, rice, 10);
+        assertEquals(TUESDAY, history.get(0).observedAt());
+    }
+
+    @Test
+    void findBasketCosts_ConvertsListUnitsAndCountsMissingItems() {
+        // 500 g of rice priced by the kilo, 2 milks and 1 kg of beans; purchased and removed items are left out.
+        insert("INSERT INTO list_items (id_list, id_item, id_unit, quantity) VALUES (?, ?, ?, 500)", listId, rice,
+                gram);
+        insert("INSERT INTO list_items (id_list, id_item, quantity) VALUES (?, ?, 2)", listId, milk);
+        insert("INSERT INTO list_items (id_list, id_item, quantity) VALUES (?, ?, 1)", listId, beans);
+        long other = insert("INSERT INTO items (id_category, id_unit, name) SELECT id_category, id_unit, 'Cafe' "
+                + "FROM items WHERE id = ?", rice);
+        insert("INSERT INTO list_items (id_list, id_item, quantity, purchased) VALUES (?, ?, 1, true)", listId, other);
+        itemPriceRepository.recordPrices(corner, List.of(price(rice, "10.00", MONDAY), price(milk, "4.00", MONDAY),
+                price(beans, "8.00", MONDAY), price(other, "30.00", MONDAY)), MONDAY);
+        itemPriceRepository.recordPrices(market, List.of(price(rice, "12.00", MONDAY)), MONDAY);
+
+        List<StoreBasketCostDTO> costs = itemPriceRepository.findBasketCosts(listId, 10);
+
+        assertEquals(List.of(new StoreBasketCostDTO(corner, "Corner", new BigDecimal("21.00"), 3, 0),
+                new StoreBasketCostDTO(market, "Market", new BigDecimal("6.00"), 1, 2)), costs);
+    }
+
+    private BigDecimal latestPrice(long itemId, long storeId) {
+        return jdbcTemplate.queryForObject("SELECT price FROM latest_item_prices WHERE id_item = ? AND id_store = ?",
+                BigDecimal.class, itemId, storeId);
+    }
+
+    private List<BigDecimal> history(long itemId, long storeId) {
+        return itemPriceRepository.findPriceHistory(storeId, itemId, 10).stream().map(ItemPriceResponseDTO::price)
+                .toList();
+    }
+
+    private long insert(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql + " RETURNING id", Long.class, args);
+    }
+
+    private static ItemPriceRequestDTO price(long itemId, String price, LocalDateTime observedAt) {
+        return new ItemPriceRequestDTO(itemId, new BigDecimal(price), observedAt);
+    }
+}
@@ -0,0 +1,60 @@
+package com.omatheusmesmo.shoppmate.store.service;
+
+import com.omatheusmesmo.shoppmate.list.repository.ListItemRepository;
+import com.omatheusmesmo.shoppmate.store.dto.StoreBasketCostDTO;
+import com.omatheusmesmo.shoppmate.store.repository.ItemPriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BasketCostServiceTest {
+
+    private ItemPriceRepository itemPriceRepository;
+    private ListItemRepository listItemRepository;
+    private BasketCostService basketCostService;
+
+    private final List<StoreBasketCostDTO> stores = List.of(
+            new StoreBasketCostDTO(1L, "Corner Market", new BigDecimal("16.00"), 3, 0),
+            new StoreBasketCostDTO(2L, "Hypermarket", new BigDecimal("12.00"), 2, 1));
+
+    @BeforeEach
+    void setUp() {
+        itemPriceRepository = mock(ItemPriceRepository.class);
+        listItemRepository = mock(ListItemRepository.class);
+        basketCostService = new BasketCostService(itemPriceRepository, listItemRepository, 16, Duration.ofMinutes(10));
+        when(itemPriceRepository.findBasketCosts(7L, BasketCostService.MAX_STORES)).thenReturn(stores);
+    }
+
+    @Test
+    void findBasketCosts_QueriesOncePerList() {
+        assertEquals(stores, basketCostService.findBasketCosts(7L, null));
+        assertEquals(stores.subList(0, 1), basketCostService.findBasketCosts(7L, 1));
+
+        verify(itemPriceRepository, times(1)).findBasketCosts(7L, BasketCostService.MAX_STORES);
+    }
+
+    @Test
+    void findBasketCosts_LimitOutOfRange_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> basketCostService.findBasketCosts(7L, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> basketCostService.findBasketCosts(7L, BasketCostService.MAX_STORES + 1));
+        verifyNoInteractions(itemPriceRepository);
+    }
+
+    @Test
+    void invalidateItems_RecomputesTheListsHoldingThem() {
+        basketCostService.findBasketCosts(7L, null);
+        when(listItemRepository.findListIdsByItemIds(List.of(3L))).thenReturn(List.of(7L));
+
+        basketCostService.invalidateItems(List.of(3L));
+        basketCostService.findBasketCosts(7L, null);
+
+        verify(itemPriceRepository, times(2)).findBasketCosts(7L, BasketCostService.MAX_STORES);
+    }
+}
@@ -0,0 +1,72 @@
+package com.omatheusmesmo.shoppmate.store.service;
+
+import com.omatheusmesmo.shoppmate.item.repository.ItemRepository;
+import com.omatheusmesmo.shoppmate.store.dto.ItemPriceRequestDTO;
+import com.omatheusmesmo.shoppmate.store.entity.Store;
+import com.omatheusmesmo.shoppmate.store.repository.ItemPriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ItemPriceServiceTest {
+
+    @Mock
+    private ItemPriceRepository itemPriceRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private StoreService storeService;
+    @Mock
+    private BasketCostService basketCostService;
+
+    @InjectMocks
+    private ItemPriceService itemPriceService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(storeService.findStoreById(1L)).thenReturn(new Store());
+    }
+
+    @Test
+    void recordPrices_RecordsTheBatchAndInvalidatesBaskets() {
+        List<ItemPriceRequestDTO> prices = List.of(new ItemPriceRequestDTO(3L, new BigDecimal("4.99"), null),
+                new ItemPriceRequestDTO(3L, new BigDecimal("4.79"), LocalDateTime.now().minusDays(1)),
+                new ItemPriceRequestDTO(5L, new BigDecimal("12.50"), null));
+        when(itemRepository.countByIdIn(List.of(3L, 5L))).thenReturn(2L);
+
+        itemPriceService.recordPrices(1L, prices);
+
+        verify(itemPriceRepository, times(1)).recordPrices(eq(1L), eq(prices), any(LocalDateTime.class));
+        verify(basketCostService).invalidateItems(List.of(3L, 5L));
+    }
+
+    @Test
+    void recordPrices_UnknownItem_ThrowsIllegalArgumentException() {
+        List<ItemPriceRequestDTO> prices = List.of(new ItemPriceRequestDTO(99L, BigDecimal.ONE, null));
+        when(itemRepository.countByIdIn(List.of(99L))).thenReturn(0L);
+
+        assertThrows(IllegalArgumentException.class, () -> itemPriceService.recordPrices(1L, prices));
+        verifyNoInteractions(itemPriceRepository, basketCostService);
+    }
+
+    @Test
+    void recordPrices_UnknownStore_ThrowsNoSuchElementException() {
+        when(storeService.findStoreById(2L)).thenThrow(new NoSuchElementException("Store not found"));
+        List<ItemPriceRequestDTO> prices = List.of(new ItemPriceRequestDTO(3L, BigDecimal.ONE, null));
+
+        assertThrows(NoSuchElementException.class, () -> itemPriceService.recordPrices(2L, prices));
+        verifyNoInteractions(itemPriceRepository);
+    }
+}
@@ -0,0 +1,103 @@
+package com.omatheusmesmo.shoppmate.unit.service;
+
+import com.omatheusmesmo.shoppmate.unit.entity.Unit;
+import com.omatheusmesmo.shoppmate.unit.entity.UnitDimension;
+import com.omatheusmesmo.shoppmate.unit.repository.UnitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UnitRegistryTest {
+
+    private UnitRegistry unitRegistry;
+
+    @BeforeEach
+    void setUp() {
+        UnitRepository unitRepository = mock(UnitRepository.class);
+        when(unitRepository.findAll())
+                .thenReturn(List.of(unit(1L, "kg", UnitDimension.MASS, "1000"), unit(2L, "g", UnitDimension.MASS, "1"),
+                        unit(3L, "l", UnitDimension.VOLUME, "1000"), unit(4L, "btl", null, null)));
+        unitRegistry = new UnitRegistry(unitRepository);
+        unitRegistry.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void conversionFactor_SameDimension_UsesTheRatioOfFactors() {
+        assertEquals(0.001, unitRegistry.conversionFactor(2L, 1L).getAsDouble(), 1e-12);
+        assertEquals(1000, unitRegistry.conversionFactor(1L, 2L).getAsDouble(), 1e-9);
+        assertEquals(1, unitRegistry.conversionFactor(4L, 4L).getAsDouble());
+    }
+
+    @Test
+    void conversionFactor_OtherDimensionOrUnknownUnit_IsEmpty() {
+        assertTrue(unitRegistry.conversionFactor(1L, 3L).isEmpty());
+        assertTrue(unitRegistry.conversionFactor(4L, 1L).isEmpty());
+        assertTrue(unitRegistry.conversionFactor(1L, 99L).isEmpty());
+    }
+
+    @Test
+    void conversionFactor_FollowsUnitChanges() {
+        assertTrue(unitRegistry.conversionFactor(4L, 3L).isEmpty());
+
+        unitRegistry.put(unit(4L, "btl", UnitDimension.VOLUME, "1500"));
+
+        assertEquals(1.5, unitRegistry.conversionFactor(4L, 3L).getAsDouble(), 1e-12);
+    }
+
+    @Test
+    void put_DeletedUnit_LeavesTheRegistry() {
+        Unit deleted = unit(4L, "btl", null, null);
+        deleted.setDeleted(true);
+
+        unitRegistry.put(deleted);
+
+        assertTrue(unitRegistry.conversionFactor(4L, 4L).isEmpty());
+    }
+
+    @Test
+    void put_InsideATransaction_IsPublishedOnlyOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            unitRegistry.put(unit(5L, "cx", null, null));
+            assertTrue(unitRegistry.find(5L).isEmpty());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            assertTrue(unitRegistry.find(5L).isPresent());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void put_InsideARolledBackTransaction_IsNeverPublished() {
+        String etag = unitRegistry.etag();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            unitRegistry.put(unit(5L, "cx", null, null));
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(unitRegistry.find(5L).isEmpty());
+        assertEquals(etag, unitRegistry.etag());
+    }
+
+    private Unit unit(Long id, String symbol, UnitDimension dimension, String factor) {
+        Unit unit = new Unit();
+        unit.setId(id);
+        unit.setName(symbol);
+        unit.setSymbol(symbol);
+        unit.setDimension(dimension);
+        unit.setFactor(factor == null ? null : new BigDecimal(factor));
+        return unit;
+    }
+}
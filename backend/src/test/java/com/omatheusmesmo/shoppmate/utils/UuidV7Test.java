@@ -0,0 +1,39 @@
+package com.omatheusmesmo.shoppmate.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void generatedIdsCarryVersionVariantAndTimestamp() {
+        UUID uuid = UuidV7.generate(1_760_000_000_123L);
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(Instant.ofEpochMilli(1_760_000_000_123L), UuidV7.timestamp(uuid));
+    }
+
+    @Test
+    void idsSortByCreationTime() {
+        UUID earlier = UuidV7.generate(1_760_000_000_000L);
+        UUID later = UuidV7.generate(1_760_000_000_001L);
+
+        assertTrue(earlier.toString().compareTo(later.toString()) < 0);
+    }
+
+    @Test
+    void checkRejectsOtherVersionsAndFutureTimestamps() {
+        Instant now = Instant.ofEpochMilli(1_760_000_000_000L);
+        UUID skewed = UuidV7.generate(now.plus(UuidV7.MAX_CLOCK_SKEW).toEpochMilli());
+        UUID future = UuidV7.generate(now.plus(UuidV7.MAX_CLOCK_SKEW).toEpochMilli() + 1);
+
+        assertEquals(skewed, UuidV7.check(skewed, now));
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.check(future, now));
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.check(UUID.randomUUID(), now));
+    }
+}
@@ -1,11 +1,19 @@
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Injectable } from '@angular/core';
-import { Observable } from 'rxjs';
+import { EMPTY, Observable } from 'rxjs';
 import { ItemRequestDTO, ItemResponseDTO } from '../interfaces/item.interface';
 import { environment } from '../../../environments/environment';
-import { catchError } from 'rxjs/operators';
+import { catchError, expand, map, reduce } from 'rxjs/operators';
 import { BaseService } from './base.service';
 
+// Largest page GET /item serves.
+const ITEM_PAGE_SIZE = 200;
+
+interface ItemPage {
+  items: ItemResponseDTO[];
+  after: string | null;
+}
+
 @Injectable({
   providedIn: 'root',
 })
@@ -16,10 +24,31 @@ export class ItemService extends BaseService {
     super();
   }
 
+  // Loads the whole catalog, following each page's Link rel="next" header.
   getAllItems(): Observable<ItemResponseDTO[]> {
+    return this.getItemPage(null).pipe(
+      expand((page) => (page.after ? this.getItemPage(page.after) : EMPTY)),
+      reduce(
+        (items, page) => items.concat(page.items),
+        [] as ItemResponseDTO[],
+      ),
+      catchError(this.handleError),
+    );
+  }
+
+  private getItemPage(after: string | null): Observable<ItemPage> {
+    let params = new HttpParams().set('size', ITEM_PAGE_SIZE);
+    if (after) {
+      params = params.set('after', after);
+    }
     return this.http
-      .get<ItemResponseDTO[]>(this.apiUrl)
-      .pipe(catchError(this.handleError));
+      .get<ItemResponseDTO[]>(this.apiUrl, { params, observe: 'response' })
+      .pipe(
+        map((response) => ({
+          items: response.body ?? [],
+          after: nextCursor(response.headers.get('Link')),
+        })),
+      );
   }
 
   getItemById(id: number): Observable<ItemResponseDTO> {
@@ -46,3 +75,14 @@ export class ItemService extends BaseService {
       .pipe(catchError(this.handleError));
   }
 }
+
+// Takes only the cursor from the next page's link: the server builds the link
+// from the address it was reached at, which behind the proxy is not ours.
+function nextCursor(link: string | null): string | null {
+  const next = link?.match(/<([^>]*)>\s*;\s*rel="next"/);
+  if (!next) {
+    return null;
+  }
+  const query = next[1].split('?')[1] ?? '';
+  return new URLSearchParams(query).get('after');
+}